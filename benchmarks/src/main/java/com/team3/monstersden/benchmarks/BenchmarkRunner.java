@@ -0,0 +1,67 @@
+package com.team3.monstersden.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ *
+ * <p>Accepts the usual JMH command line (e.g. a benchmark regex,
+ * {@code -p boardSize=128}, {@code -l} to list), but writes results as
+ * JSON to {@value #DEFAULT_RESULT} unless {@code -rf} or {@code -rff} say
+ * otherwise, so every run leaves a file that can be compared with earlier
+ * ones.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class BenchmarkRunner {
+
+    /** Result file written when none is given */
+    static final String DEFAULT_RESULT = "jmh-result.json";
+
+    private BenchmarkRunner() { }
+
+    /**
+     * Runs the selected benchmarks.
+     *
+     * @param args JMH command line options
+     * @throws RunnerException if a benchmark fails
+     * @throws IOException if the help text cannot be written
+     */
+    public static void main(String[] args) throws RunnerException, IOException {
+        CommandLineOptions cli;
+        try {
+            cli = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("Bad arguments: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        if (cli.shouldHelp()) {
+            cli.showHelp();
+            return;
+        }
+        if (cli.shouldList() || cli.shouldListWithParams()) {
+            new Runner(cli).list();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        if (!cli.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cli.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,100 @@
+package com.team3.monstersden.benchmarks;
+
+import com.team3.monstersden.characters.Enemy;
+import com.team3.monstersden.characters.HumanEnemy;
+import com.team3.monstersden.characters.Monster;
+import com.team3.monstersden.core.Board;
+import com.team3.monstersden.core.Cell;
+import com.team3.monstersden.core.DungeonGenerator;
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.core.GameConfig;
+import com.team3.monstersden.core.GameRandom;
+import com.team3.monstersden.core.MapLayout;
+import com.team3.monstersden.core.SessionRegistry;
+import com.team3.monstersden.patterns.strategy.SmartEnemyStrategy;
+import com.team3.monstersden.util.GameLog;
+
+/**
+ * A game on a generated map, shared setup for the benchmarks.
+ *
+ * <p>Every benchmark is parameterised the same way: a square ROOMS map of
+ * {@code boardSize} tiles per side at the given wall density, with enough
+ * extra enemies added on top of the normal population to reach
+ * {@code enemyCount}. Worlds are built from fixed seeds, so runs compare
+ * like with like.</p>
+ *
+ * <p>Game logging (map loading, spawn logs) is limited to warnings while a
+ * world is open and restored by {@link #close()}.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+final class BenchmarkWorld {
+
+    /** Seed of every generated map and game */
+    static final long SEED = 276L;
+
+    private final SessionRegistry registry;
+    private final GameLog.Level originalLevel;
+    private final MapLayout layout;
+    private final GameRandom random;
+    private final Game game;
+
+    /**
+     * Generates the map and starts a manually ticked game on it.
+     *
+     * @param boardSize tiles per side
+     * @param wallDensity target fraction of wall tiles
+     * @param enemyCount enemies on the board once populated
+     */
+    BenchmarkWorld(int boardSize, double wallDensity, int enemyCount) {
+        originalLevel = GameLog.getLevel();
+        GameLog.setLevel(GameLog.Level.WARN);
+
+        layout = new DungeonGenerator(DungeonGenerator.Style.ROOMS, wallDensity)
+            .generateLayout(boardSize, boardSize, SEED);
+        random = new GameRandom(SEED);
+        registry = new SessionRegistry(1);
+        game = registry.createSession(SEED);
+        populate(enemyCount);
+        game.startManualLoop();
+    }
+
+    /**
+     * Starts a new game on the map and tops its enemies up to the target count.
+     *
+     * @param enemyCount enemies on the board afterwards, if there is room
+     */
+    void populate(int enemyCount) {
+        game.initialize(layout);
+        Board board = game.getBoard();
+        Cell start = board.getStartCell();
+        while (game.getEnemies().size() < enemyCount) {
+            Cell cell = board.getRandomEmptyCellReachableFrom(start, random);
+            if (cell == null) break;
+            Enemy enemy = random.nextBoolean()
+                ? new Monster(cell.getX(), cell.getY(), GameConfig.MONSTER_DAMAGE, GameConfig.MONSTER_MAX_HP)
+                : new HumanEnemy(cell.getX(), cell.getY(), GameConfig.HUMAN_DAMAGE, GameConfig.HUMAN_MAX_HP);
+            enemy.setMovementStrategy(new SmartEnemyStrategy(random.split()));
+            cell.setEnemy(enemy);
+            game.getEnemies().add(enemy);
+        }
+    }
+
+    /** @return the game */
+    Game game() { return game; }
+
+    /** @return the generated map */
+    MapLayout layout() { return layout; }
+
+    /** @return a random stream for choosing benchmark inputs */
+    GameRandom random() { return random; }
+
+    /**
+     * Stops the session and restores the log level.
+     */
+    void close() {
+        registry.shutdown();
+        GameLog.setLevel(originalLevel);
+    }
+}
@@ -0,0 +1,88 @@
+package com.team3.monstersden.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.team3.monstersden.core.FrameSnapshot;
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.patterns.observer.GameUI;
+
+/**
+ * Cost of preparing a frame for each front end.
+ *
+ * <ul>
+ *   <li>{@code publishFrame}: the snapshot the JavaFX view renders from.
+ *       Drawing it needs a display, so the Canvas side is not measured.</li>
+ *   <li>{@code consoleRender}: composing the console screen and diffing it
+ *       against the previous one, the steady-state cost per tick</li>
+ *   <li>{@code consoleFullRedraw}: composing and writing every cell, as after
+ *       a help screen or game over</li>
+ * </ul>
+ * Console output goes to a discarding stream, so terminal speed is not included.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameBenchmark {
+
+    @Param({ "32", "128", "512" })
+    public int boardSize;
+
+    @Param({ "0.3", "0.45" })
+    public double wallDensity;
+
+    @Param({ "5", "50" })
+    public int enemyCount;
+
+    private BenchmarkWorld world;
+    private Game game;
+    private GameUI console;
+
+    @Setup
+    public void setUp() {
+        world = new BenchmarkWorld(boardSize, wallDensity, enemyCount);
+        game = world.game();
+        console = new GameUI(game, true);
+        console.render();
+    }
+
+    @TearDown
+    public void tearDown() {
+        world.close();
+    }
+
+    @Benchmark
+    public FrameSnapshot publishFrame() {
+        game.publishFrame();
+        return game.getLatestFrame();
+    }
+
+    @Benchmark
+    public void consoleRender() {
+        console.render();
+    }
+
+    @Benchmark
+    public void consoleFullRedraw() {
+        console.invalidateScreen();
+        console.render();
+    }
+}
@@ -0,0 +1,70 @@
+package com.team3.monstersden.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.core.GameConfig;
+
+/**
+ * Cost of one full {@link Game#tick()}: commands, enemy AI and movement,
+ * traps, spawning, the win check and frame publishing.
+ *
+ * <p>The player stands still and is healed before every tick so the game
+ * never ends mid-iteration; the world is rebuilt for each iteration so
+ * enemy positions do not drift too far from the populated state.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameTickBenchmark {
+
+    @Param({ "32", "128", "512" })
+    public int boardSize;
+
+    @Param({ "0.3", "0.45" })
+    public double wallDensity;
+
+    @Param({ "5", "50" })
+    public int enemyCount;
+
+    private BenchmarkWorld world;
+    private Game game;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = new BenchmarkWorld(boardSize, wallDensity, enemyCount);
+        game = world.game();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        world.close();
+    }
+
+    @Benchmark
+    public int tick() {
+        game.getPlayer().setHealth(GameConfig.PLAYER_START_HP);
+        game.tick();
+        return game.getEnemies().size();
+    }
+}
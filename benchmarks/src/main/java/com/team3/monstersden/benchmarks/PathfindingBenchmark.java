@@ -0,0 +1,83 @@
+package com.team3.monstersden.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.team3.monstersden.core.Board;
+import com.team3.monstersden.core.Cell;
+import com.team3.monstersden.util.AStarPathFinder;
+import com.team3.monstersden.util.Direction;
+
+/**
+ * Cost of one {@link AStarPathFinder#findNextMove} call between random
+ * reachable tiles, with the world's enemies acting as obstacles.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathfindingBenchmark {
+
+    /** Start and target pairs cycled through, a power of two */
+    private static final int PAIRS = 256;
+
+    @Param({ "32", "128", "512" })
+    public int boardSize;
+
+    @Param({ "0.3", "0.45" })
+    public double wallDensity;
+
+    @Param({ "5", "50" })
+    public int enemyCount;
+
+    private BenchmarkWorld world;
+    private Board board;
+    private final int[] fromX = new int[PAIRS];
+    private final int[] fromY = new int[PAIRS];
+    private final int[] toX = new int[PAIRS];
+    private final int[] toY = new int[PAIRS];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        world = new BenchmarkWorld(boardSize, wallDensity, enemyCount);
+        board = world.game().getBoard();
+        Cell start = board.getStartCell();
+        for (int i = 0; i < PAIRS; i++) {
+            Cell from = board.getRandomEmptyCellReachableFrom(start, world.random());
+            Cell to = board.getRandomEmptyCellReachableFrom(start, world.random());
+            fromX[i] = from.getX();
+            fromY[i] = from.getY();
+            toX[i] = to.getX();
+            toY[i] = to.getY();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        world.close();
+    }
+
+    @Benchmark
+    public Direction findNextMove() {
+        int i = next++ & (PAIRS - 1);
+        return AStarPathFinder.findNextMove(board, fromX[i], fromY[i], toX[i], toY[i]);
+    }
+}
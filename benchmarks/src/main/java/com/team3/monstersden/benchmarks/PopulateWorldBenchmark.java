@@ -0,0 +1,60 @@
+package com.team3.monstersden.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of starting a new game on an already parsed map: building the
+ * copy-on-write board, populating the world through the free-cell index and
+ * connectivity checks, and topping enemies up to the target count.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PopulateWorldBenchmark {
+
+    @Param({ "32", "128", "512" })
+    public int boardSize;
+
+    @Param({ "0.3", "0.45" })
+    public double wallDensity;
+
+    @Param({ "5", "50" })
+    public int enemyCount;
+
+    private BenchmarkWorld world;
+
+    @Setup
+    public void setUp() {
+        world = new BenchmarkWorld(boardSize, wallDensity, enemyCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        world.close();
+    }
+
+    @Benchmark
+    public int populateWorld() {
+        world.populate(enemyCount);
+        return world.game().getEnemies().size();
+    }
+}
@@ -1,6 +1,17 @@
 package com.team3.monstersden;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.List;
+
 import com.team3.monstersden.core.Game;
+import com.team3.monstersden.core.GameConfig;
+import com.team3.monstersden.leaderboard.Leaderboard;
+import com.team3.monstersden.leaderboard.LeaderboardEntry;
+import com.team3.monstersden.leaderboard.LeaderboardObserver;
 import com.team3.monstersden.patterns.observer.GameUIFX;
 import javafx.application.Application;
 import javafx.scene.control.Alert;
@@ -10,26 +21,50 @@ import javafx.stage.Stage;
 /**
  * Main JavaFX application entry point for Monster's Den.
  * Initializes the game and launches the graphical UI.
+ * Closing the window mid-game saves it to GameConfig.SAVE_FILE, and the
+ * welcome dialog offers to resume it next time. Finished games go on the
+ * leaderboard in GameConfig.LEADERBOARD_FILE.
  * 
  * @author Team 3
  * @version 2.0 (JavaFX)
  */
 public class MainFX extends Application {
     
+    private static final ButtonType START = new ButtonType("Start Adventure");
+    private static final ButtonType RESUME = new ButtonType("Resume Saved Game");
+    private static final ButtonType EXIT = new ButtonType("Exit");
+
+    private final Path saveFile = Paths.get(GameConfig.SAVE_FILE);
     private Game game;
     private GameUIFX ui;
+    private Leaderboard leaderboard;
     
     @Override
     
     public void start(Stage primaryStage) {
     try {
+        leaderboard = openLeaderboard();
+
         // Show welcome dialog
-        if (!showWelcomeDialog()) {
+        ButtonType choice = showWelcomeDialog(Files.exists(saveFile));
+        if (choice == EXIT) {
             return; // User cancelled
         }
 
         // Create game instance (Singleton pattern)
         game = Game.getInstance();
+        if (leaderboard != null) {
+            game.addObserver(new LeaderboardObserver(game, leaderboard));
+        }
+
+        if (choice == RESUME && resumeSavedGame()) {
+            ui = new GameUIFX(game, primaryStage);
+            game.addObserver(ui);
+            game.startGameLoop();
+            ui.show();
+            ui.displayMessage("Welcome back! Your game has been restored.");
+            return;
+        }
 
         // Initialize game world (loads map or fallback)
         game.initialize();
@@ -75,12 +110,49 @@ public class MainFX extends Application {
 }
 
     
+    /**
+     * Opens the leaderboard database. The game runs without one if it cannot be opened.
+     *
+     * @return the leaderboard, or null
+     */
+    private Leaderboard openLeaderboard() {
+        try {
+            return Leaderboard.open(Paths.get(GameConfig.LEADERBOARD_FILE));
+        } catch (SQLException e) {
+            System.err.println("Leaderboard unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Loads the game saved when the window was last closed. The save is
+     * deleted once loaded, so a game can only be resumed once.
+     *
+     * @return true if the game was restored
+     */
+    private boolean resumeSavedGame() {
+        try {
+            game.loadSnapshot(saveFile);
+        } catch (IOException | IllegalArgumentException e) {
+            showErrorDialog("Saved game could not be loaded", e.getMessage() + "\nStarting a new game instead.");
+            return false;
+        }
+        try {
+            Files.deleteIfExists(saveFile);
+        } catch (IOException e) {
+            // The game is already restored; a stale save is only offered again next launch
+            System.err.println("Saved game could not be deleted: " + e.getMessage());
+        }
+        return true;
+    }
+
     /**
      * Shows the welcome dialog with game instructions.
      * 
-     * @return true if user wants to start, false to cancel
+     * @param canResume whether to offer resuming a saved game
+     * @return START, RESUME or EXIT
      */
-    private boolean showWelcomeDialog() {
+    private ButtonType showWelcomeDialog(boolean canResume) {
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("Monster's Den");
         alert.setHeaderText("⚔️  WELCOME TO MONSTER'S DEN  ⚔️");
@@ -105,18 +177,38 @@ public class MainFX extends Application {
             "✓ Wrong weapon deals only 50% damage\n" +
             "✓ Grab Bonus rewards (★) quickly - they expire!\n" +
             "✓ Avoid punishment traps (✖)\n\n" +
-            "Good luck, Witcher!";
+            "Good luck, Witcher!" + bestScores();
         
         alert.setContentText(content);
         alert.getDialogPane().setPrefWidth(500);
         
-        ButtonType startButton = new ButtonType("Start Adventure");
-        ButtonType cancelButton = new ButtonType("Exit");
-        alert.getButtonTypes().setAll(startButton, cancelButton);
+        if (canResume) {
+            alert.getButtonTypes().setAll(RESUME, START, EXIT);
+        } else {
+            alert.getButtonTypes().setAll(START, EXIT);
+        }
         
-        return alert.showAndWait().orElse(cancelButton) == startButton;
+        return alert.showAndWait().orElse(EXIT);
     }
     
+    /**
+     * Lists the best games for the welcome dialog.
+     *
+     * @return the list, or an empty string if there are none
+     */
+    private String bestScores() {
+        List<LeaderboardEntry> best = leaderboard != null ? leaderboard.getTop(5) : List.of();
+        if (best.isEmpty()) return "";
+        StringBuilder text = new StringBuilder("\n\nBEST HUNTS:\n");
+        for (int i = 0; i < best.size(); i++) {
+            LeaderboardEntry entry = best.get(i);
+            text.append(i + 1).append(". ").append(entry.getPlayerName())
+                .append(" - ").append(entry.getScore())
+                .append(" (").append(entry.getTicks()).append(" ticks)\n");
+        }
+        return text.toString();
+    }
+
     /**
      * Shows an error dialog.
      */
@@ -131,8 +223,30 @@ public class MainFX extends Application {
     @Override
     public void stop() {
         // Clean up when application closes
+        saveUnfinishedGame();
+        if (leaderboard != null) {
+            leaderboard.close(); // Writes any results still queued
+        }
         System.out.println("Thanks for playing Monster's Den!");
     }
+
+    /**
+     * Saves a game still in progress so it can be resumed, and removes a
+     * stale save once the game has ended.
+     */
+    private void saveUnfinishedGame() {
+        if (game == null) return;
+        try {
+            Game.GameState state = game.getGameState();
+            if (state == Game.GameState.RUNNING || state == Game.GameState.PAUSED) {
+                game.saveSnapshot(saveFile);
+            } else {
+                Files.deleteIfExists(saveFile);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not save the game: " + e.getMessage());
+        }
+    }
     
     /**
      * Main method - launches the JavaFX application.
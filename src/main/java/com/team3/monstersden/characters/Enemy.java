@@ -4,6 +4,7 @@ import com.team3.monstersden.core.Board;
 import com.team3.monstersden.core.Cell;
 import com.team3.monstersden.core.GameConfig;
 import com.team3.monstersden.util.Direction;
+import com.team3.monstersden.util.GameLog;
 
 /**
  * Abstract base class for an enemy in the game.
@@ -74,7 +75,7 @@ public abstract class Enemy extends Character {
         // 2. Execute Action based on state determined by strategy
         if (currentState == AIState.ATTACK) {
             // Attack player if in range (assumes strategy set state correctly)
-             System.out.println(this.getClass().getSimpleName() + " attacks Player!");
+             GameLog.debug("{} attacks Player!", getClass().getSimpleName());
              player.takeDamage(this.damage);
              // Optional: Add hit feedback here (observer notification)
         } else if (dir != Direction.NONE) {
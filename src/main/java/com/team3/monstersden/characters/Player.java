@@ -8,6 +8,7 @@ import com.team3.monstersden.items.SteelSword;
 import com.team3.monstersden.patterns.factory.WeaponFactory;
 import com.team3.monstersden.patterns.command.MoveCommand;
 import com.team3.monstersden.util.Direction;
+import com.team3.monstersden.util.GameLog;
 
 /**
  * Class for the main character controlled by the user.
@@ -17,6 +18,7 @@ public class Player extends Character {
 
     private String name;
     private Sword currentSword;
+    private int damageTaken;
 
     /**
      * Construcot for the Player with name
@@ -78,11 +80,11 @@ public class Player extends Character {
      */
     public void switchWeapon(Sword newWeapon) {
         if (newWeapon == null) {
-            System.out.println("Cannot switch to a null weapon!");
+            GameLog.warn("Cannot switch to a null weapon!");
             return;
         }
         this.currentSword = newWeapon;
-        System.out.println("Switched weapon to: " + newWeapon.getName());
+        GameLog.info("Switched weapon to: {}", newWeapon.getName());
     }
 
     /**
@@ -102,7 +104,7 @@ public class Player extends Character {
      */
     public void attack(Enemy enemy) {
         if (currentSword == null || enemy == null) {
-            System.out.println("No weapon equipped or invalid target!");
+            GameLog.warn("No weapon equipped or invalid target!");
             return;
         }
 
@@ -119,13 +121,12 @@ public class Player extends Character {
         int totalDamage = baseDamage + bonusDamage;
         enemy.takeDamage(totalDamage);
 
-        System.out.println("Attacked " + enemy.getClass().getSimpleName() +
-                " with " + currentSword.getName() +
-                " for " + totalDamage + " damage. (Enemy HP: " + enemy.getHealth() + ")");
+        GameLog.debug("Attacked {} with {} for {} damage. (Enemy HP: {})",
+                enemy.getClass().getSimpleName(), currentSword.getName(), totalDamage, enemy.getHealth());
 
         // Kill feedback
         if (!enemy.isAlive()) {
-            System.out.println(enemy.getClass().getSimpleName() + " has been slain!");
+            GameLog.debug("{} has been slain!", enemy.getClass().getSimpleName());
         }
     }
 
@@ -140,11 +141,35 @@ public class Player extends Character {
         }
 
         this.health -= amount;
+        this.damageTaken += amount;
         if (this.health < 0) {
             this.health = 0;
         }
 
-        System.out.println("Player took " + amount + " damage! (Health: " + this.health + ")");
+        GameLog.debug("Player took {} damage! (Health: {})", amount, this.health);
+    }
+
+    /**
+     * Get the total damage the Player has taken since the last reset
+     * @return accumulated damage
+     */
+    public int getDamageTaken() {
+        return damageTaken;
+    }
+
+    /**
+     * Set the accumulated damage counter, e.g. when a game snapshot is loaded
+     * @param damageTaken accumulated damage
+     */
+    public void setDamageTaken(int damageTaken) {
+        this.damageTaken = damageTaken;
+    }
+
+    /**
+     * Reset the accumulated damage counter, e.g. when a new game starts
+     */
+    public void resetDamageTaken() {
+        this.damageTaken = 0;
     }
 
     /**
@@ -0,0 +1,195 @@
+package com.team3.monstersden.console;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Fixed-size character screen that redraws an ANSI terminal by difference.
+ *
+ * <p>A frame is composed into a reusable buffer of one character and one
+ * color per cell. {@link #present()} compares it with the frame the terminal
+ * is showing and writes only the cells that changed, using a cursor-move
+ * escape where a run of changed cells starts and a color escape only where
+ * the color changes. The whole update goes out in a single print and flush,
+ * so the terminal never shows a half-cleared screen and an unchanged frame
+ * costs a few bytes.</p>
+ *
+ * <p>Cells are addressed from the terminal's top-left corner. The terminal
+ * must be at least as tall as the screen plus the lines printed below it;
+ * after printing anything that may scroll the terminal, call
+ * {@link #invalidate()} so the next frame is drawn in full.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class AnsiScreen {
+
+    /**
+     * Foreground colors, with their ANSI codes.
+     */
+    public enum Color {
+        DEFAULT("0"),
+        RED("31"),
+        GREEN("32"),
+        YELLOW("33"),
+        BLUE("34"),
+        PURPLE("35"),
+        CYAN("36"),
+        WHITE("37");
+
+        private final String code;
+
+        Color(String code) {
+            this.code = code;
+        }
+    }
+
+    private static final Color[] COLORS = Color.values();
+    private static final String ESC = "\033[";
+
+    private final int rows;
+    private final int cols;
+    private final boolean useColors;
+
+    // Frame being composed
+    private final char[] chars;
+    private final byte[] colors;
+
+    // Frame the terminal is showing
+    private final char[] shownChars;
+    private final byte[] shownColors;
+    private boolean fullRedraw = true;
+
+    private final StringBuilder output;
+    private PrintStream out;
+
+    /**
+     * Creates a blank screen.
+     *
+     * @param rows screen height in lines
+     * @param cols screen width in characters
+     * @param useColors whether to emit color escapes
+     */
+    public AnsiScreen(int rows, int cols, boolean useColors) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Screen size must be positive");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.useColors = useColors;
+        int size = rows * cols;
+        this.chars = new char[size];
+        this.colors = new byte[size];
+        this.shownChars = new char[size];
+        this.shownColors = new byte[size];
+        this.output = new StringBuilder(size * 2);
+        clear();
+    }
+
+    /** @return screen height in lines */
+    public int getRows() { return rows; }
+
+    /** @return screen width in characters */
+    public int getCols() { return cols; }
+
+    /**
+     * Redirects output, e.g. to capture it in tests.
+     *
+     * @param stream the stream to write to, or null for System.out
+     */
+    public void setOutput(PrintStream stream) {
+        this.out = stream;
+    }
+
+    /**
+     * Blanks the frame being composed. The terminal is not touched until present().
+     */
+    public void clear() {
+        Arrays.fill(chars, ' ');
+        Arrays.fill(colors, (byte) Color.DEFAULT.ordinal());
+    }
+
+    /**
+     * Sets one cell. Cells outside the screen are ignored.
+     *
+     * @param row line, from 0
+     * @param col column, from 0
+     * @param c character to show
+     * @param color its color
+     */
+    public void put(int row, int col, char c, Color color) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) return;
+        int i = row * cols + col;
+        chars[i] = c;
+        colors[i] = (byte) color.ordinal();
+    }
+
+    /**
+     * Writes text on one line, clipped at the right edge.
+     *
+     * @param row line, from 0
+     * @param col first column, from 0
+     * @param text text to write
+     * @param color its color
+     * @return the column after the text
+     */
+    public int write(int row, int col, CharSequence text, Color color) {
+        for (int k = 0; k < text.length(); k++) {
+            put(row, col + k, text.charAt(k), color);
+        }
+        return col + text.length();
+    }
+
+    /**
+     * Makes the next present() clear the terminal and draw every cell.
+     */
+    public void invalidate() {
+        fullRedraw = true;
+    }
+
+    /**
+     * Sends the changes since the last frame to the terminal in one write,
+     * then leaves the cursor on the line below the screen with anything
+     * printed there erased.
+     *
+     * @return number of cells written
+     */
+    public int present() {
+        output.setLength(0);
+        if (fullRedraw) {
+            output.append(ESC).append("H").append(ESC).append("2J");
+        }
+
+        int written = 0;
+        int cursor = -1;            // Cell the terminal cursor is on, -1 if unknown
+        int current = -1;           // Color the terminal is drawing in, -1 if unknown
+        for (int i = 0; i < chars.length; i++) {
+            if (!fullRedraw && chars[i] == shownChars[i] && colors[i] == shownColors[i]) continue;
+
+            if (i != cursor) {
+                output.append(ESC).append(i / cols + 1).append(';').append(i % cols + 1).append('H');
+            }
+            if (useColors && colors[i] != current) {
+                current = colors[i];
+                output.append(ESC).append(COLORS[current].code).append('m');
+            }
+            output.append(chars[i]);
+            written++;
+            // Terminals differ in where the cursor goes after the last column
+            cursor = (i + 1) % cols == 0 ? -1 : i + 1;
+        }
+        if (useColors && current > Color.DEFAULT.ordinal()) {
+            output.append(ESC).append("0m");
+        }
+        output.append(ESC).append(rows + 1).append(";1H").append(ESC).append('J');
+
+        PrintStream stream = out != null ? out : System.out;
+        stream.print(output);
+        stream.flush();
+
+        System.arraycopy(chars, 0, shownChars, 0, chars.length);
+        System.arraycopy(colors, 0, shownColors, 0, colors.length);
+        fullRedraw = false;
+        return written;
+    }
+}
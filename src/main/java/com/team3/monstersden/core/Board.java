@@ -1,20 +1,21 @@
 package com.team3.monstersden.core;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Path;
+import java.util.BitSet;
 
-import java.util.Random;
+import com.team3.monstersden.util.DistanceField;
+import com.team3.monstersden.util.GameLog;
 
 
 /**
  * Represents the game board consisting of a 2D grid of cells.
  * Manages the dungeon layout, including walls, start position, and exit.
  * 
+ * <p>Tile state is kept in a struct-of-arrays {@link BoardStorage} indexed by
+ * {@code y * width + x}; the {@link Cell} objects returned by
+ * {@link #getCell(int, int)} are lightweight views over that store.</p>
+ * 
  * <p>The Board is responsible for:
  * <ul>
  *   <li>Loading map data from files</li>
@@ -25,7 +26,7 @@ import java.util.Random;
  * </ul>
  * </p>
  * 
- * <p>Map file format:
+ * <p>Map file format (text; see {@link MapLayout} for placements and the binary format):
  * <pre>
  * # = Wall
  * . = Empty space
@@ -40,8 +41,8 @@ import java.util.Random;
  */
 public class Board {
     
-    /** 2D grid of cells representing the game board */
-    private Cell[][] grid;
+    /** Struct-of-arrays tile store (null until a map is loaded) */
+    private BoardStorage storage;
     
     /** Width of the board (number of columns) */
     private int width;
@@ -55,18 +56,34 @@ public class Board {
     /** The exit cell that must be reached to win */
     private Cell exitCell;
     
+    /** Layout the board was loaded from (null until a map is loaded) */
+    private MapLayout layout;
+    
+    /** Shared distance field toward the player, created on first use */
+    private DistanceField chaseField;
+    
+    /** Connected walkable regions, built on first query and after wall changes */
+    private volatile ConnectivityIndex connectivity;
+    
+    /** Random stream for placement, normally the game's BOARD stream */
+    private final GameRandom random;
+
     /**
-     * Constructs an empty Board.
+     * Constructs an empty Board with its own unseeded random stream.
      * The board must be initialized by calling loadMap() before use.
      */
-
-    private static final Random RANDOM = new Random();
+    public Board() {
+        this(new GameRandom());
+    }
 
     /**
-     * Constructor to initialize board
+     * Constructs an empty Board that draws placements from the given random stream.
+     * The board must be initialized by calling loadMap() before use.
+     * @param random random stream, normally the game's RandomSource.Stream.BOARD
      */
-    public Board() {
-        this.grid = null;
+    public Board(GameRandom random) {
+        this.random = random;
+        this.storage = null;
         this.width = 0;
         this.height = 0;
         this.startCell = null;
@@ -76,106 +93,135 @@ public class Board {
     /**
      * Loads a map from the specified file and initializes the board grid.
      * 
-     * <p>The map file should contain ASCII characters representing the layout:
+     * <p>The map may be a text map, with ASCII characters representing the layout:
      * <ul>
      *   <li>'#' for walls</li>
      *   <li>'.' for empty spaces</li>
      *   <li>'S' for the start position</li>
      *   <li>'E' for the exit position</li>
      * </ul>
+     * or a binary map; see {@link MapLayout} for both formats. Maps on the
+     * file system are memory-mapped rather than read line by line, and the
+     * parsed layout is kept in the shared {@link MapTemplateCache}, so
+     * restarting on the same map does not read the file again.
      * </p>
      * 
      * @param filename the name of the map file in the resources/maps directory
-     * @throws IOException if the file cannot be read
+     * @throws IOException if the file cannot be found or read
      * @throws IllegalArgumentException if the map format is invalid
      */
     public void loadMap(String filename) throws IOException {
-        List<String> lines = new ArrayList<>();
-        
-        // Try to load from resources first
-        InputStream is = getClass().getClassLoader().getResourceAsStream("maps/" + filename);
-        
-        if (is != null) {
-            // Load from resources (packaged in JAR)
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(is))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (!line.trim().isEmpty() && !line.startsWith("//")) {
-                        lines.add(line);
-                    }
-                }
-            }
-        } else {
-            // Try to load from file system (development)
-            try (BufferedReader reader = new BufferedReader(new FileReader("src/main/resource/maps/" + filename))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (!line.trim().isEmpty() && !line.startsWith("//")) {
-                        lines.add(line);
-                    }
-                }
-            }
-        }
-        
-        if (lines.isEmpty()) {
-            throw new IOException("Map file is empty or not found: " + filename);
-        }
-        
-        // Determine board dimensions
-        height = lines.size();
-        width = lines.get(0).length();
-        
-        // Validate all rows have same width
-        for (String line : lines) {
-            if (line.length() != width) {
-                throw new IllegalArgumentException("Map rows must have equal width");
-            }
-        }
-        
-        // Initialize grid
-        grid = new Cell[height][width];
-        
-        // Parse map and create cells
-        for (int y = 0; y < height; y++) {
-            String line = lines.get(y);
-            for (int x = 0; x < width; x++) {
-                Cell cell = new Cell(x, y);
-                char c = line.charAt(x);
-                
-                switch (c) {
-                    case '#':
-                        cell.setWall(true);
-                        break;
-                    case 'S':
-                        cell.setStart(true);
-                        startCell = cell;
-                        break;
-                    case 'E':
-                        cell.setExit(true);
-                        exitCell = cell;
-                        break;
-                    case '.':
-                        // Empty cell, do nothing
-                        break;
-                    default:
-                        // Treat unknown characters as empty
-                        System.out.println("Warning: Unknown character '" + c + "' at (" + x + "," + y + "), treating as empty");
-                        break;
-                }
-                
-                grid[y][x] = cell;
-            }
-        }
+        loadLayout(MapTemplateCache.getShared().get(filename));
+    }
+    
+    /**
+     * Loads a map file of either format from the file system.
+     * 
+     * @param file the map file
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the map format is invalid
+     */
+    public void loadMap(Path file) throws IOException {
+        loadLayout(MapLayout.read(file));
+    }
+    
+    /**
+     * Initializes the board grid from a parsed layout, replacing any previous map.
+     * The layout's wall bits are shared copy-on-write, and occupancy arrays
+     * are only allocated once entities are placed, so building a board from
+     * a cached layout is cheap.
+     * 
+     * @param layout the layout to build
+     */
+    public void loadLayout(MapLayout layout) {
+        width = layout.getWidth();
+        height = layout.getHeight();
         
-        // Validate start and exit positions exist
-        if (startCell == null) {
-            throw new IllegalArgumentException("Map must contain a start position (S)");
-        }
-        if (exitCell == null) {
-            throw new IllegalArgumentException("Map must contain an exit position (E)");
-        }
+        storage = new BoardStorage(width, height, layout.sharedWalls(), true);
+        setEndpoints(layout.getStartIndex(), layout.getExitIndex());
+        chaseField = null;
+        connectivity = null;
+        this.layout = layout;
         
-        System.out.println("Map loaded successfully: " + width + "x" + height);
+        GameLog.debug("Map loaded successfully: {}x{}", width, height);
+    }
+    
+    /**
+     * Replaces any previous map with an empty one of the given size, for a
+     * generator to fill in row by row. Every tile starts as floor.
+     * 
+     * @param width number of columns
+     * @param height number of rows
+     * @return the new store, whose rows the generator writes directly
+     */
+    BoardStorage beginGenerated(int width, int height) {
+        return replaceStorage(new BoardStorage(width, height));
+    }
+
+    /**
+     * Replaces any previous map with a new store and clears everything
+     * derived from the old one.
+     */
+    private BoardStorage replaceStorage(BoardStorage fresh) {
+        this.width = fresh.width;
+        this.height = fresh.height;
+        storage = fresh;
+        startCell = null;
+        exitCell = null;
+        chaseField = null;
+        connectivity = null;
+        layout = null;
+        return storage;
+    }
+    
+    /**
+     * Completes a generated map by marking its start and exit.
+     * 
+     * @param startIndex flat index of the start tile
+     * @param exitIndex flat index of the exit tile
+     */
+    void finishGenerated(int startIndex, int exitIndex) {
+        setEndpoints(startIndex, exitIndex);
+    }
+    
+    /**
+     * Replaces any previous map with walls restored from a game snapshot.
+     * 
+     * @param width number of columns
+     * @param height number of rows
+     * @param walls wall bits, owned by the board from now on
+     * @param startIndex flat index of the start tile
+     * @param exitIndex flat index of the exit tile
+     */
+    void restore(int width, int height, BitSet walls, int startIndex, int exitIndex) {
+        replaceStorage(new BoardStorage(width, height, walls, false));
+        setEndpoints(startIndex, exitIndex);
+    }
+    
+    /**
+     * Returns a copy of the wall bits as words, 64 tiles per word in
+     * {@code y * width + x} order, e.g. for a game snapshot.
+     * 
+     * @return the wall words, or an empty array if no map is loaded
+     */
+    long[] wallWords() {
+        return storage == null ? new long[0] : storage.wallWords();
+    }
+    
+    private void setEndpoints(int startIndex, int exitIndex) {
+        storage.setStart(startIndex, true);
+        storage.setExit(exitIndex, true);
+        startCell = cellAt(startIndex);
+        exitCell = cellAt(exitIndex);
+    }
+    
+    /**
+     * Returns the layout the board was loaded from.
+     * 
+     * @return the current layout, or null if no map is loaded or the map was generated
+     */
+    public MapLayout getLayout() {
+        return layout;
     }
     
     /**
@@ -189,7 +235,17 @@ public class Board {
         if (!isInBounds(x, y)) {
             return null;
         }
-        return grid[y][x];
+        return cellAt(storage.index(x, y));
+    }
+    
+    /**
+     * Creates a view over the tile at the given flat index.
+     * 
+     * @param index the flat index (y * width + x)
+     * @return a Cell view over that tile
+     */
+    private Cell cellAt(int index) {
+        return new Cell(storage, index, index % width, index / width);
     }
     
     /**
@@ -215,11 +271,100 @@ public class Board {
         if (x < 0 || y < 0 || x >= width || y >= height) {
             return false;
         }
-        Cell cell = grid[y][x];
-        return cell != null && cell.isWalkable();
+        return !storage.isWall(storage.index(x, y));
+    }
+    
+    /**
+     * Checks whether an enemy occupies the given tile without creating a Cell view.
+     * Subclasses that override {@link #getCell(int, int)} should override this too.
+     * 
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @return true if the tile is in bounds and holds an enemy
+     */
+    public boolean hasEnemyAt(int x, int y) {
+        return isInBounds(x, y) && storage.hasEnemy(storage.index(x, y));
     }
 
     
+    /**
+     * Checks whether two tiles are walkable and joined by a path of walkable
+     * tiles, ignoring entities. Answered in constant time from a union-find
+     * index over the walls, built once per map and again after a wall changes.
+     * Subclasses that override {@link #isValidMove(int, int)} should override this too.
+     * 
+     * @param x1 first tile x-coordinate
+     * @param y1 first tile y-coordinate
+     * @param x2 second tile x-coordinate
+     * @param y2 second tile y-coordinate
+     * @return true if one tile can be reached from the other
+     */
+    public boolean sameComponent(int x1, int y1, int x2, int y2) {
+        if (!isInBounds(x1, y1) || !isInBounds(x2, y2)) {
+            return false;
+        }
+        return connectivity().connected(storage.index(x1, y1), storage.index(x2, y2));
+    }
+    
+    /**
+     * Checks whether two cells are walkable and connected; see
+     * {@link #sameComponent(int, int, int, int)}.
+     * 
+     * @param a the first cell
+     * @param b the second cell
+     * @return true if one cell can be reached from the other
+     */
+    public boolean sameComponent(Cell a, Cell b) {
+        return sameComponent(a.getX(), a.getY(), b.getX(), b.getY());
+    }
+    
+    /**
+     * Returns the number of separate walkable regions of the map.
+     * 
+     * @return the region count, 0 if no map is loaded
+     */
+    public int getComponentCount() {
+        return storage == null ? 0 : connectivity().componentCount();
+    }
+    
+    private ConnectivityIndex connectivity() {
+        ConnectivityIndex index = connectivity;
+        if (index == null || index.wallVersion != storage.getWallVersion()) {
+            synchronized (this) {
+                index = connectivity;
+                if (index == null || index.wallVersion != storage.getWallVersion()) {
+                    index = new ConnectivityIndex(storage);
+                    connectivity = index;
+                }
+            }
+        }
+        return index;
+    }
+    
+    /**
+     * Returns a counter that changes whenever a wall is added or removed.
+     * Caches derived from the layout compare it to detect staleness.
+     * 
+     * @return the current layout version
+     */
+    public int getLayoutVersion() {
+        return storage == null ? 0 : storage.getWallVersion();
+    }
+    
+    /**
+     * Returns the distance field toward the player shared by all chasing enemies.
+     * It is bounded by {@link GameConfig#ENEMY_CHASE_RANGE} and recomputed only
+     * when its target or the layout changes.
+     * 
+     * @return the board's chase distance field
+     */
+    public synchronized DistanceField getChaseField() {
+        if (chaseField == null) {
+            chaseField = new DistanceField(this, GameConfig.ENEMY_CHASE_RANGE);
+        }
+        return chaseField;
+    }
+    
     /**
      * Returns the starting cell of the board.
      * 
@@ -231,22 +376,79 @@ public class Board {
 
     /**
      * Returns a random empty walkable cell (not wall, start, exit, or occupied).
-     * @return a random empty cell
+     * Draws from the board's free-cell index, so it takes logarithmic time and
+     * only returns null when no such cell exists.
+     * @return a random empty cell, or null if the board has none
      */
     public Cell getRandomEmptyCell() {
-        for (int attempts = 0; attempts < 1000; attempts++) {
-            int x = RANDOM.nextInt(width);
-            int y = RANDOM.nextInt(height);
-            Cell cell = grid[y][x];
+        return getRandomEmptyCell(random);
+    }
 
-            if (cell != null && cell.isWalkable() && !cell.isStart() && !cell.isExit()
-                && cell.getReward() == null && cell.getEnemy() == null && cell.getPunishment() == null) {
+    /**
+     * Returns a random empty walkable cell drawn from the caller's random stream,
+     * so each subsystem placing entities keeps its own reproducible sequence.
+     * @param random the random stream to draw from
+     * @return a random empty cell, or null if the board has none
+     */
+    public Cell getRandomEmptyCell(GameRandom random) {
+        if (storage == null) {
+            return null;
+        }
+        int index = storage.sampleFree(random);
+        return index < 0 ? null : cellAt(index);
+    }
+
+    /**
+     * Returns a random empty walkable cell that can be reached from the given
+     * cell, so nothing is placed in a sealed pocket of the map. Draws are
+     * rejected while they land in another region; after
+     * {@link GameConfig#MAX_PLACEMENT_DRAWS} misses the region holds only a
+     * small share of the free cells, and one is picked by scanning the board.
+     * @param from the cell placements must be reachable from, e.g. the start
+     * @param random the random stream to draw from
+     * @return a reachable empty cell, or null if there is none
+     */
+    public Cell getRandomEmptyCellReachableFrom(Cell from, GameRandom random) {
+        for (int draw = 0; draw < GameConfig.MAX_PLACEMENT_DRAWS; draw++) {
+            Cell cell = getRandomEmptyCell(random);
+            if (cell == null || from == null || sameComponent(from, cell)) {
                 return cell;
             }
         }
+        return scanEmptyCellReachableFrom(storage.index(from.getX(), from.getY()), random);
+    }
+
+    /**
+     * Picks a uniformly random free tile in the region of the given tile
+     * with two scans of the board: one to count, one to select.
+     */
+    private Cell scanEmptyCellReachableFrom(int from, GameRandom random) {
+        ConnectivityIndex regions = connectivity();
+        int size = storage.size();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (storage.isFree(i) && regions.connected(from, i)) count++;
+        }
+        if (count == 0) {
+            return null;
+        }
+        int rank = random.nextInt(count);
+        for (int i = 0; i < size; i++) {
+            if (storage.isFree(i) && regions.connected(from, i) && rank-- == 0) {
+                return cellAt(i);
+            }
+        }
         return null;
     }
 
+    /**
+     * Returns the number of cells a new entity could be placed on.
+     * @return count of empty walkable cells that are neither start nor exit
+     */
+    public int getEmptyCellCount() {
+        return storage == null ? 0 : storage.freeCount();
+    }
+
     
     /**
      * Returns the exit cell of the board.
@@ -274,10 +476,21 @@ public class Board {
     
     /**
      * Returns the entire grid of cells.
-
-     * @return 2D array of all cells in the board
+     * The array is materialized on each call from views over the tile store,
+     * so per-tile access should prefer {@link #getCell(int, int)}.
+     *
+     * @return 2D array of all cells in the board, or null if no map is loaded
      */
     public Cell[][] getGrid() {
+        if (storage == null) {
+            return null;
+        }
+        Cell[][] grid = new Cell[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                grid[y][x] = cellAt(storage.index(x, y));
+            }
+        }
         return grid;
     }
     
@@ -286,7 +499,7 @@ public class Board {
      * Useful for debugging and testing.
      */
     public void printBoard() {
-        if (grid == null) {
+        if (storage == null) {
             System.out.println("Board not initialized");
             return;
         }
@@ -294,14 +507,14 @@ public class Board {
         System.out.println("\nBoard Layout (" + width + "x" + height + "):");
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                Cell cell = grid[y][x];
-                if (cell.isWall()) {
+                int index = storage.index(x, y);
+                if (storage.isWall(index)) {
                     System.out.print("# ");
-                } else if (cell.isStart()) {
+                } else if (storage.isStart(index)) {
                     System.out.print("S ");
-                } else if (cell.isExit()) {
+                } else if (storage.isExit(index)) {
                     System.out.print("E ");
-                } else if (cell.getContent() != null) {
+                } else if (storage.getContent(index) != null) {
                     System.out.print("? ");
                 } else {
                     System.out.print(". ");
@@ -0,0 +1,383 @@
+package com.team3.monstersden.core;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.team3.monstersden.characters.Enemy;
+import com.team3.monstersden.items.Punishment;
+import com.team3.monstersden.items.Reward;
+
+/**
+ * Struct-of-arrays backing store for the tiles of a {@link Board}.
+ *
+ * <p>Every per-tile attribute lives in its own primitive array indexed by
+ * {@code y * width + x}:
+ * <ul>
+ *   <li>walls, start and exit flags are bitsets; the wall bits may be
+ *       shared read-only with a cached {@link MapLayout} and are copied on
+ *       the first wall change</li>
+ *   <li>enemy, reward and punishment occupancy are {@code int} entity ids,
+ *       with {@link #NONE} meaning "empty"; each array is allocated when
+ *       the first entity of its kind is placed, so an unpopulated board
+ *       costs about one bit per tile</li>
+ *   <li>the legacy content object is kept in a sparse map, since it is
+ *       almost never used</li>
+ * </ul>
+ * Entity ids are resolved through a small id table per entity kind, so the
+ * occupancy arrays never hold object references.
+ * Once sampled from, the store also keeps a {@link FreeCellIndex} of tiles
+ * free for placement up to date on every mutation.
+ * {@link Cell} objects are lightweight views over one index of this store.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+final class BoardStorage {
+
+    /** Entity id meaning "no entity in this tile" */
+    static final int NONE = 0;
+
+    /** Number of columns */
+    final int width;
+
+    /** Number of rows */
+    final int height;
+
+    /** Wall flag per tile; shared with a layout until {@link #wallsShared} is cleared */
+    private BitSet walls;
+
+    /** True while {@link #walls} belongs to a layout and must not be written */
+    private boolean wallsShared;
+
+    /** Start flag per tile */
+    final BitSet starts;
+
+    /** Exit flag per tile */
+    final BitSet exits;
+
+    /** Enemy entity id per tile, allocated on the first enemy placed */
+    private int[] enemyIds;
+
+    /** Reward entity id per tile, allocated on the first reward placed */
+    private int[] rewardIds;
+
+    /** Punishment entity id per tile, allocated on the first punishment placed */
+    private int[] punishmentIds;
+
+    /** Id tables resolving occupancy ids back to objects */
+    private final EntityTable<Enemy> enemies = new EntityTable<>();
+    private final EntityTable<Reward> rewards = new EntityTable<>();
+    private final EntityTable<Punishment> punishments = new EntityTable<>();
+
+    /** Sparse legacy content, created on first use */
+    private Map<Integer, Object> contents;
+
+    /** Incremented whenever a wall flag changes, so derived data can be invalidated */
+    private int wallVersion;
+
+    /** Tiles free for placement, built on first sample and maintained afterwards */
+    private FreeCellIndex free;
+
+    /**
+     * Creates an empty store where every tile is walkable floor.
+     *
+     * @param width number of columns
+     * @param height number of rows
+     */
+    BoardStorage(int width, int height) {
+        this(width, height, new BitSet(width * height), false);
+    }
+
+    /**
+     * Creates a store over existing wall bits without copying them. Shared
+     * bits, such as a layout's, are never written through this store; the
+     * first {@link #setWall} takes a private copy instead. Bits that are
+     * not shared, such as bits decoded from a game snapshot, are owned by
+     * the store from now on.
+     *
+     * @param width number of columns
+     * @param height number of rows
+     * @param walls wall bits in {@code y * width + x} order
+     * @param shared whether the bits belong to someone else
+     */
+    BoardStorage(int width, int height, BitSet walls, boolean shared) {
+        this.width = width;
+        this.height = height;
+        this.walls = walls;
+        this.wallsShared = shared;
+        this.starts = new BitSet();
+        this.exits = new BitSet();
+    }
+
+    /**
+     * Returns the flat index of a tile.
+     */
+    int index(int x, int y) {
+        return y * width + x;
+    }
+
+    /**
+     * Returns the number of tiles in the store.
+     */
+    int size() {
+        return width * height;
+    }
+
+    boolean isWall(int index) {
+        return walls.get(index);
+    }
+
+    void setWall(int index, boolean wall) {
+        if (walls.get(index) != wall) {
+            if (wallsShared) {
+                walls = (BitSet) walls.clone();
+                wallsShared = false;
+            }
+            walls.set(index, wall);
+            wallVersion++;
+            refreshFree(index);
+        }
+    }
+
+    /**
+     * Replaces every wall flag at once, e.g. when a map is loaded.
+     */
+    void setWalls(BitSet newWalls) {
+        walls = (BitSet) newWalls.clone();
+        wallsShared = false;
+        wallVersion++;
+        free = null; // rebuilt by the next sample
+    }
+
+    /**
+     * Returns a copy of the wall bits as words, 64 tiles per word in index order.
+     */
+    long[] wallWords() {
+        return walls.toLongArray();
+    }
+
+    /**
+     * Sets the wall flags of one row from a row-sized bitset, as a map
+     * generator streams rows into a fresh store.
+     *
+     * @param y the row
+     * @param row wall bits indexed by column; bits at or past width are ignored
+     */
+    void setWallRow(int y, BitSet row) {
+        int base = y * width;
+        for (int x = row.nextSetBit(0); x >= 0 && x < width; x = row.nextSetBit(x + 1)) {
+            walls.set(base + x);
+        }
+        wallVersion++;
+        free = null;
+    }
+
+    int getWallVersion() {
+        return wallVersion;
+    }
+
+    boolean isStart(int index) {
+        return starts.get(index);
+    }
+
+    void setStart(int index, boolean start) {
+        starts.set(index, start);
+        refreshFree(index);
+    }
+
+    boolean isExit(int index) {
+        return exits.get(index);
+    }
+
+    void setExit(int index, boolean exit) {
+        exits.set(index, exit);
+        refreshFree(index);
+    }
+
+    Enemy getEnemy(int index) {
+        return enemies.get(idAt(enemyIds, index));
+    }
+
+    void setEnemy(int index, Enemy enemy) {
+        if (enemyIds == null) {
+            if (enemy == null) return;
+            enemyIds = new int[size()];
+        }
+        enemyIds[index] = enemies.replace(enemyIds[index], enemy);
+        refreshFree(index);
+    }
+
+    boolean hasEnemy(int index) {
+        return idAt(enemyIds, index) != NONE;
+    }
+
+    Reward getReward(int index) {
+        return rewards.get(idAt(rewardIds, index));
+    }
+
+    void setReward(int index, Reward reward) {
+        if (rewardIds == null) {
+            if (reward == null) return;
+            rewardIds = new int[size()];
+        }
+        rewardIds[index] = rewards.replace(rewardIds[index], reward);
+        refreshFree(index);
+    }
+
+    boolean hasReward(int index) {
+        return idAt(rewardIds, index) != NONE;
+    }
+
+    Punishment getPunishment(int index) {
+        return punishments.get(idAt(punishmentIds, index));
+    }
+
+    void setPunishment(int index, Punishment punishment) {
+        if (punishmentIds == null) {
+            if (punishment == null) return;
+            punishmentIds = new int[size()];
+        }
+        punishmentIds[index] = punishments.replace(punishmentIds[index], punishment);
+        refreshFree(index);
+    }
+
+    boolean hasPunishment(int index) {
+        return idAt(punishmentIds, index) != NONE;
+    }
+
+    /**
+     * Reads an occupancy id, treating a never-allocated array as all NONE.
+     */
+    private static int idAt(int[] ids, int index) {
+        return ids == null ? NONE : ids[index];
+    }
+
+    Object getContent(int index) {
+        return contents == null ? null : contents.get(index);
+    }
+
+    void setContent(int index, Object content) {
+        if (content == null) {
+            if (contents != null) {
+                contents.remove(index);
+            }
+        } else {
+            if (contents == null) {
+                contents = new HashMap<>();
+            }
+            contents.put(index, content);
+        }
+        refreshFree(index);
+    }
+
+    /**
+     * Checks whether a tile holds no wall, entity or legacy content.
+     */
+    boolean isEmpty(int index) {
+        return !walls.get(index)
+            && idAt(enemyIds, index) == NONE
+            && idAt(rewardIds, index) == NONE
+            && idAt(punishmentIds, index) == NONE
+            && getContent(index) == null;
+    }
+
+    /**
+     * Checks whether a tile is free for placing a new entity:
+     * empty and neither the start nor the exit.
+     */
+    boolean isFree(int index) {
+        return isEmpty(index) && !starts.get(index) && !exits.get(index);
+    }
+
+    /**
+     * Draws a uniformly random free tile in logarithmic time.
+     * The free index is built by one scan on the first call.
+     *
+     * @param random the random source
+     * @return a free tile index, or -1 if the board has none
+     */
+    int sampleFree(GameRandom random) {
+        if (free == null) {
+            free = FreeCellIndex.of(size(), this::isFree);
+        }
+        return free.sample(random);
+    }
+
+    /**
+     * Returns the number of free tiles.
+     */
+    int freeCount() {
+        if (free != null) {
+            return free.size();
+        }
+        int count = 0;
+        for (int i = 0; i < size(); i++) {
+            if (isFree(i)) count++;
+        }
+        return count;
+    }
+
+    private void refreshFree(int index) {
+        if (free == null) return;
+        if (isFree(index)) {
+            free.add(index);
+        } else {
+            free.remove(index);
+        }
+    }
+
+    /**
+     * Maps entity ids to objects for one entity kind.
+     * Released ids are recycled through a free stack, so the table stays
+     * as large as the peak number of live entities.
+     *
+     * @param <T> entity type
+     */
+    private static final class EntityTable<T> {
+        private Object[] slots = new Object[8];
+        private int[] free = new int[8];
+        private int freeCount;
+        private int next = 1; // id 0 is NONE
+
+        @SuppressWarnings("unchecked")
+        T get(int id) {
+            return id == NONE ? null : (T) slots[id];
+        }
+
+        /**
+         * Stores {@code value} in place of the entity with id {@code oldId}.
+         *
+         * @return the id now holding {@code value}, or NONE if value is null
+         */
+        int replace(int oldId, T value) {
+            if (oldId != NONE) {
+                if (value != null) {
+                    slots[oldId] = value;
+                    return oldId;
+                }
+                slots[oldId] = null;
+                if (freeCount == free.length) {
+                    free = Arrays.copyOf(free, freeCount * 2);
+                }
+                free[freeCount++] = oldId;
+                return NONE;
+            }
+            if (value == null) {
+                return NONE;
+            }
+            int id;
+            if (freeCount > 0) {
+                id = free[--freeCount];
+            } else {
+                id = next++;
+                if (id == slots.length) {
+                    slots = Arrays.copyOf(slots, slots.length * 2);
+                }
+            }
+            slots[id] = value;
+            return id;
+        }
+    }
+}
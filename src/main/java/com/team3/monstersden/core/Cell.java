@@ -8,6 +8,10 @@ import com.team3.monstersden.items.Punishment;
  * Represents a single cell in the game board grid.
  * Each cell has coordinates, can be a wall, and may contain game objects.
  * 
+ * <p>A Cell holds no tile state of its own: it is a lightweight view over one
+ * index of a {@link BoardStorage}, so two Cell objects for the same board
+ * position always observe and modify the same tile.</p>
+ * 
  * <p>Cells are the fundamental building blocks of the game board. They can contain:
  * <ul>
  *   <li>Walls (impassable barriers)</li>
@@ -25,50 +29,45 @@ import com.team3.monstersden.items.Punishment;
  */
 public class Cell {
     
+    /** Board store this cell is a view over */
+    private final BoardStorage storage;
+    
+    /** Flat index of this cell in the store (y * width + x) */
+    private final int index;
+    
     /** X-coordinate of this cell in the grid */
     private final int x;
     
     /** Y-coordinate of this cell in the grid */
     private final int y;
     
-    /** Indicates if this cell is a wall (impassable) */
-    private boolean isWall;
-    
-    /** Indicates if this cell is the start position */
-    private boolean isStart;
-    
-    /** Indicates if this cell is the exit position */
-    private boolean isExit;
-    
-    /** The game object currently occupying this cell (if any) - legacy field */
-    private Object content;
-    
-    /** Enemy occupying this cell (if any) */
-    private Enemy enemy;
-    
-    /** Reward in this cell (if any) */
-    private Reward reward;
-    
-    /** Punishment trap in this cell (if any) */
-    private Punishment punishment;
-    
     /**
-     * Constructs a new Cell at the specified coordinates.
+     * Constructs a new standalone Cell at the specified coordinates.
      * By default, the cell is empty and passable.
      * 
+     * <p>A standalone cell owns a private single-tile store. Cells handed out
+     * by a {@link Board} are views over the board's shared store instead.</p>
+     * 
      * @param x the x-coordinate of the cell
      * @param y the y-coordinate of the cell
      */
     public Cell(int x, int y) {
+        this(new BoardStorage(1, 1), 0, x, y);
+    }
+    
+    /**
+     * Constructs a view over one tile of a board store.
+     * 
+     * @param storage the backing store
+     * @param index the flat index of the tile in the store
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     */
+    Cell(BoardStorage storage, int index, int x, int y) {
+        this.storage = storage;
+        this.index = index;
         this.x = x;
         this.y = y;
-        this.isWall = false;
-        this.isStart = false;
-        this.isExit = false;
-        this.content = null;
-        this.enemy = null;
-        this.reward = null;
-        this.punishment = null;
     }
     
     /**
@@ -95,7 +94,7 @@ public class Cell {
      * @return true if this cell is a wall, false otherwise
      */
     public boolean isWall() {
-        return isWall;
+        return storage.isWall(index);
     }
     
     /**
@@ -105,7 +104,7 @@ public class Cell {
      * @return true if this cell can be walked on, false if it's a wall
      */
     public boolean isWalkable() {
-        return !isWall;
+        return !storage.isWall(index);
     }
     
     /**
@@ -114,7 +113,7 @@ public class Cell {
      * @param isWall true to make this cell a wall, false to make it passable
      */
     public void setWall(boolean isWall) {
-        this.isWall = isWall;
+        storage.setWall(index, isWall);
     }
     
     /**
@@ -123,7 +122,7 @@ public class Cell {
      * @return true if this is the start cell, false otherwise
      */
     public boolean isStart() {
-        return isStart;
+        return storage.isStart(index);
     }
     
     /**
@@ -132,7 +131,7 @@ public class Cell {
      * @param isStart true to mark as start position, false otherwise
      */
     public void setStart(boolean isStart) {
-        this.isStart = isStart;
+        storage.setStart(index, isStart);
     }
     
     /**
@@ -141,7 +140,7 @@ public class Cell {
      * @return true if this is the exit cell, false otherwise
      */
     public boolean isExit() {
-        return isExit;
+        return storage.isExit(index);
     }
     
     /**
@@ -150,7 +149,7 @@ public class Cell {
      * @param isExit true to mark as exit position, false otherwise
      */
     public void setExit(boolean isExit) {
-        this.isExit = isExit;
+        storage.setExit(index, isExit);
     }
     
     /**
@@ -160,7 +159,7 @@ public class Cell {
      * @return true if the cell has no content and is not a wall, false otherwise
      */
     public boolean isEmpty() {
-        return content == null && !isWall && enemy == null && reward == null && punishment == null;
+        return storage.isEmpty(index);
     }
     
     /**
@@ -169,7 +168,7 @@ public class Cell {
      * @return the content object, or null if the cell is empty
      */
     public Object getContent() {
-        return content;
+        return storage.getContent(index);
     }
     
     /**
@@ -178,7 +177,7 @@ public class Cell {
      * @param content the object to place in this cell, or null to clear the cell
      */
     public void setContent(Object content) {
-        this.content = content;
+        storage.setContent(index, content);
     }
     
     /**
@@ -187,7 +186,7 @@ public class Cell {
      * @return the Enemy object, or null if no enemy is present
      */
     public Enemy getEnemy() {
-        return enemy;
+        return storage.getEnemy(index);
     }
     
     /**
@@ -196,7 +195,7 @@ public class Cell {
      * @param enemy the Enemy to place in this cell, or null to remove enemy
      */
     public void setEnemy(Enemy enemy) {
-        this.enemy = enemy;
+        storage.setEnemy(index, enemy);
     }
     
     /**
@@ -205,7 +204,7 @@ public class Cell {
      * @return the Reward object, or null if no reward is present
      */
     public Reward getReward() {
-        return reward;
+        return storage.getReward(index);
     }
     
     /**
@@ -214,7 +213,7 @@ public class Cell {
      * @param reward the Reward to place in this cell, or null to remove reward
      */
     public void setReward(Reward reward) {
-        this.reward = reward;
+        storage.setReward(index, reward);
     }
     
     /**
@@ -223,7 +222,7 @@ public class Cell {
      * @return the Punishment object, or null if no punishment is present
      */
     public Punishment getPunishment() {
-        return punishment;
+        return storage.getPunishment(index);
     }
     
     /**
@@ -232,24 +231,24 @@ public class Cell {
      * @param punishment the Punishment to place in this cell, or null to remove punishment
      */
     public void setPunishment(Punishment punishment) {
-        this.punishment = punishment;
+        storage.setPunishment(index, punishment);
     }
     
     /**
      * Clears any content from this cell.
      */
     public void clearContent() {
-        this.content = null;
+        storage.setContent(index, null);
     }
     
     /**
      * Clears all entities from this cell (enemy, reward, punishment).
      */
     public void clearAll() {
-        this.content = null;
-        this.enemy = null;
-        this.reward = null;
-        this.punishment = null;
+        storage.setContent(index, null);
+        storage.setEnemy(index, null);
+        storage.setReward(index, null);
+        storage.setPunishment(index, null);
     }
     
     /**
@@ -259,6 +258,7 @@ public class Cell {
      * @return true if the cell contains an object of the specified type, false otherwise
      */
     public boolean hasContentOfType(Class<?> clazz) {
+        Object content = storage.getContent(index);
         return content != null && clazz.isInstance(content);
     }
     
@@ -268,7 +268,7 @@ public class Cell {
      * @return true if an enemy is present, false otherwise
      */
     public boolean hasEnemy() {
-        return enemy != null;
+        return storage.hasEnemy(index);
     }
     
     /**
@@ -277,7 +277,7 @@ public class Cell {
      * @return true if a reward is present, false otherwise
      */
     public boolean hasReward() {
-        return reward != null;
+        return storage.hasReward(index);
     }
     
     /**
@@ -286,7 +286,26 @@ public class Cell {
      * @return true if a punishment is present, false otherwise
      */
     public boolean hasPunishment() {
-        return punishment != null;
+        return storage.hasPunishment(index);
+    }
+    
+    /**
+     * Two cells are equal when they are views over the same tile of the same store.
+     * 
+     * @param o the object to compare with
+     * @return true if both cells view the same tile
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Cell)) return false;
+        Cell other = (Cell) o;
+        return storage == other.storage && index == other.index;
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(storage) + index;
     }
     
     /**
@@ -299,24 +318,24 @@ public class Cell {
         StringBuilder sb = new StringBuilder();
         sb.append("Cell(").append(x).append(",").append(y).append(")[");
         
-        if (isWall) {
+        if (isWall()) {
             sb.append("wall");
-        } else if (isStart) {
+        } else if (isStart()) {
             sb.append("start");
-        } else if (isExit) {
+        } else if (isExit()) {
             sb.append("exit");
         } else {
             boolean hasContent = false;
-            if (enemy != null) {
+            if (hasEnemy()) {
                 sb.append("enemy");
                 hasContent = true;
             }
-            if (reward != null) {
+            if (hasReward()) {
                 if (hasContent) sb.append(", ");
                 sb.append("reward");
                 hasContent = true;
             }
-            if (punishment != null) {
+            if (hasPunishment()) {
                 if (hasContent) sb.append(", ");
                 sb.append("punishment");
                 hasContent = true;
@@ -0,0 +1,109 @@
+package com.team3.monstersden.core;
+
+/**
+ * Connected components of the walkable tiles of a {@link BoardStorage}.
+ *
+ * <p>Built with one union-find pass that joins every floor tile to its
+ * floor neighbours to the left and above, then flattened so each tile
+ * stores its component's root directly. Asking whether two tiles are
+ * connected is then two array reads, which lets placement skip sealed
+ * pockets and lets the pathfinder give up on unreachable targets without
+ * searching.</p>
+ *
+ * <p>The index only depends on walls. It records the wall version it was
+ * built for so {@link Board} can rebuild it after a wall changes.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+final class ConnectivityIndex {
+
+    /** Component value of wall tiles */
+    static final int WALL = -1;
+
+    /** Component root per tile, or WALL */
+    private final int[] component;
+
+    /** Number of separate walkable regions */
+    private final int componentCount;
+
+    /** Wall version of the store when the index was built */
+    final int wallVersion;
+
+    /**
+     * Builds the index for the current walls of a store.
+     *
+     * @param storage the tile store
+     */
+    ConnectivityIndex(BoardStorage storage) {
+        int width = storage.width;
+        int size = storage.size();
+        int[] parent = new int[size];
+        this.wallVersion = storage.getWallVersion();
+
+        for (int i = 0; i < size; i++) {
+            if (storage.isWall(i)) {
+                parent[i] = WALL;
+                continue;
+            }
+            parent[i] = i;
+            if (i % width > 0 && parent[i - 1] != WALL) {
+                union(parent, i, i - 1);
+            }
+            if (i >= width && parent[i - width] != WALL) {
+                union(parent, i, i - width);
+            }
+        }
+
+        // Flatten so every tile points straight at its root
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (parent[i] != WALL) {
+                parent[i] = find(parent, i);
+                if (parent[i] == i) count++;
+            }
+        }
+        this.component = parent;
+        this.componentCount = count;
+    }
+
+    /**
+     * Checks whether two tiles are walkable and connected.
+     *
+     * @param a flat index of the first tile
+     * @param b flat index of the second tile
+     * @return true if a path of walkable tiles joins them
+     */
+    boolean connected(int a, int b) {
+        int root = component[a];
+        return root != WALL && root == component[b];
+    }
+
+    /**
+     * Returns the number of separate walkable regions.
+     */
+    int componentCount() {
+        return componentCount;
+    }
+
+    /**
+     * Links the roots of two tiles, keeping the smaller index as the root.
+     */
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA < rootB) {
+            parent[rootB] = rootA;
+        } else if (rootB < rootA) {
+            parent[rootA] = rootB;
+        }
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+}
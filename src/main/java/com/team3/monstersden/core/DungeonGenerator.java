@@ -0,0 +1,311 @@
+package com.team3.monstersden.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Generates connected dungeon boards of any size from a seed.
+ *
+ * <p>The board is laid out as a grid of maze cells at odd coordinates
+ * {@code (2c + 1, 2r + 1)}, separated by wall tiles, and carved with
+ * Eller's algorithm. Eller's algorithm builds a perfect maze one row at a
+ * time, remembering only which set each column of the current row belongs
+ * to, so generation keeps O(width) state and writes each finished row
+ * straight into the board's storage. A 10000 x 10000 board needs no more
+ * memory than its own wall bits.</p>
+ *
+ * <p>Every cell of a perfect maze is reachable from every other, so the
+ * start (top-left cell) always has a path to the exit (bottom-right cell).
+ * The wall density is then lowered toward the requested value by only ever
+ * removing walls, which keeps the board connected:
+ * <ul>
+ *   <li>0.5 and above: the plain maze (about half the tiles are walls)</li>
+ *   <li>0.25 to 0.5: walls between cells are knocked out at random, adding loops</li>
+ *   <li>below 0.25: all walls between cells are gone and the pillars
+ *       between them are thinned out too</li>
+ * </ul>
+ * The {@link Style#ROOMS} style also clears open rectangular rooms over the
+ * maze, which then serves as the corridors between them. Densities are
+ * approximate and count the outer wall.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class DungeonGenerator {
+
+    /** Overall shape of a generated dungeon */
+    public enum Style {
+        MAZE,   // Corridors only
+        ROOMS   // Rooms joined by maze corridors
+    }
+
+    /** Density of the plain maze, with one wall per cell edge not carved */
+    private static final double MAZE_DENSITY = 0.5;
+
+    /** Density of the pillars alone, one per four tiles */
+    private static final double PILLAR_DENSITY = 0.25;
+
+    /** In ROOMS style, a room starts at a given maze cell with chance 1 / ROOM_CHANCE */
+    private static final int ROOM_CHANCE = 48;
+
+    /** Largest room side, in maze cells */
+    private static final int MAX_ROOM_CELLS = 5;
+
+    private final Style style;
+    private final double wallDensity;
+
+    /**
+     * Creates a generator.
+     *
+     * @param style dungeon shape
+     * @param wallDensity target fraction of wall tiles, from 0 to 1
+     * @throws IllegalArgumentException if the density is outside [0, 1]
+     */
+    public DungeonGenerator(Style style, double wallDensity) {
+        if (!(wallDensity >= 0.0 && wallDensity <= 1.0)) {
+            throw new IllegalArgumentException("Wall density must be between 0 and 1: " + wallDensity);
+        }
+        this.style = style;
+        this.wallDensity = wallDensity;
+    }
+
+    /**
+     * Generates a dungeon into a board, replacing any map it had. The same
+     * seed, size, style and density always produce the same board.
+     *
+     * @param board the board to fill
+     * @param width number of columns, at least 3
+     * @param height number of rows, at least 3
+     * @param seed random seed
+     * @throws IllegalArgumentException if the board is too small to hold
+     *         separate start and exit cells
+     */
+    public void generate(Board board, int width, int height, long seed) {
+        checkSize(width, height);
+        BoardStorage storage = board.beginGenerated(width, height);
+        carve(width, height, seed, storage::setWallRow);
+        board.finishGenerated(startIndex(width), exitIndex(width, height));
+    }
+
+    /**
+     * Generates a dungeon as an immutable layout, e.g. to share one generated
+     * map between many boards through {@link Board#loadLayout(MapLayout)}.
+     * Produces the same walls as {@link #generate(Board, int, int, long)}.
+     *
+     * @param width number of columns, at least 3
+     * @param height number of rows, at least 3
+     * @param seed random seed
+     * @return the generated layout, without fixed placements
+     * @throws IllegalArgumentException if the size is too small, or larger
+     *         than {@link MapLayout#MAX_TILES}
+     */
+    public MapLayout generateLayout(int width, int height, long seed) {
+        checkSize(width, height);
+        BitSet walls = new BitSet(width * height);
+        carve(width, height, seed, (y, row) -> {
+            int base = y * width;
+            for (int x = row.nextSetBit(0); x >= 0 && x < width; x = row.nextSetBit(x + 1)) {
+                walls.set(base + x);
+            }
+        });
+        return MapLayout.of(width, height, walls, startIndex(width), exitIndex(width, height));
+    }
+
+    /** Receives each finished row of wall bits, top to bottom */
+    private interface RowSink {
+        void accept(int y, BitSet row);
+    }
+
+    private static void checkSize(int width, int height) {
+        int cols = (width - 1) / 2;
+        int rows = (height - 1) / 2;
+        if (cols < 1 || rows < 1 || (long) cols * rows < 2 || (long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Cannot generate a " + width + "x" + height + " dungeon");
+        }
+    }
+
+    /** Start in the top-left maze cell */
+    private static int startIndex(int width) {
+        return width + 1;
+    }
+
+    /** Exit in the bottom-right maze cell */
+    private static int exitIndex(int width, int height) {
+        return (2 * ((height - 1) / 2) - 1) * width + 2 * ((width - 1) / 2) - 1;
+    }
+
+    private void carve(int width, int height, long seed, RowSink sink) {
+        int cols = (width - 1) / 2;
+        int rows = (height - 1) / 2;
+        GameRandom random = new GameRandom(seed);
+        double braid = clamp((MAZE_DENSITY - wallDensity) / (MAZE_DENSITY - PILLAR_DENSITY));
+        double thinPillars = clamp((PILLAR_DENSITY - wallDensity) / PILLAR_DENSITY);
+
+        BitSet row = new BitSet(width);
+        int mazeRight = 2 * cols; // first wall column past the last maze cell
+
+        // Eller state: the set label of each column, -1 for a column starting a new set
+        int[] set = new int[cols];
+        int[] next = new int[cols];
+        int[] parent = new int[cols];
+        int[] lastColumn = new int[cols];
+        boolean[] hasDown = new boolean[cols];
+        int[] remap = new int[cols];
+        boolean[] east = new boolean[cols];
+        boolean[] south = new boolean[cols];
+        Arrays.fill(set, -1);
+        Arrays.fill(remap, -1);
+        int labels = 0;
+
+        List<int[]> rooms = new ArrayList<>(); // {x0, y0, x1, y1}, inclusive
+
+        row.set(0, width);
+        sink.accept(0, row);
+
+        for (int r = 0; r < rows; r++) {
+            boolean lastRow = r == rows - 1;
+
+            // Columns not carried down from the row above start their own set
+            for (int c = 0; c < cols; c++) {
+                if (set[c] < 0) {
+                    set[c] = labels++;
+                }
+            }
+            for (int l = 0; l < labels; l++) {
+                parent[l] = l;
+            }
+
+            // Join neighbours in different sets at random; the last row joins them all
+            for (int c = 0; c < cols - 1; c++) {
+                int a = find(parent, set[c]);
+                int b = find(parent, set[c + 1]);
+                east[c] = a != b && (lastRow || random.nextBoolean());
+                if (east[c]) {
+                    parent[b] = a;
+                }
+            }
+
+            // Carry every set down through at least one column
+            if (!lastRow) {
+                for (int c = 0; c < cols; c++) {
+                    int root = find(parent, set[c]);
+                    set[c] = root;
+                    lastColumn[root] = c;
+                    hasDown[root] = false;
+                }
+                for (int c = 0; c < cols; c++) {
+                    int root = set[c];
+                    south[c] = random.nextBoolean() || (lastColumn[root] == c && !hasDown[root]);
+                    hasDown[root] |= south[c];
+                }
+            }
+
+            if (style == Style.ROOMS) {
+                spawnRooms(rooms, random, r, cols, rows);
+            }
+
+            // Cell row: outer wall, cells, and the walls between them
+            int y = 2 * r + 1;
+            row.clear();
+            row.set(0);
+            for (int c = 0; c < cols - 1; c++) {
+                if (!east[c] && !roll(random, braid)) {
+                    row.set(2 * c + 2);
+                }
+            }
+            row.set(mazeRight, width);
+            clearRooms(rooms, row, y);
+            sink.accept(y, row);
+
+            // Wall row below it: passages down, pillars, or the bottom outer wall
+            y++;
+            row.clear();
+            if (lastRow) {
+                row.set(0, width);
+            } else {
+                row.set(0);
+                for (int c = 0; c < cols; c++) {
+                    if (!south[c] && !roll(random, braid)) {
+                        row.set(2 * c + 1);
+                    }
+                    if (c < cols - 1 && !roll(random, thinPillars)) {
+                        row.set(2 * c + 2);
+                    }
+                }
+                row.set(mazeRight, width);
+                clearRooms(rooms, row, y);
+            }
+            sink.accept(y, row);
+
+            // Relabel the sets carried down as 0..labels-1 for the next row
+            if (!lastRow) {
+                labels = 0;
+                for (int c = 0; c < cols; c++) {
+                    if (south[c]) {
+                        if (remap[set[c]] < 0) {
+                            remap[set[c]] = labels++;
+                        }
+                        next[c] = remap[set[c]];
+                    } else {
+                        next[c] = -1;
+                    }
+                }
+                for (int c = 0; c < cols; c++) {
+                    remap[set[c]] = -1;
+                }
+                int[] swap = set;
+                set = next;
+                next = swap;
+            }
+        }
+
+        // Rows below the maze when the height is even
+        row.set(0, width);
+        for (int y = 2 * rows + 1; y < height; y++) {
+            sink.accept(y, row);
+        }
+    }
+
+    /**
+     * Starts rooms whose top-left cell is in maze row {@code r} and drops
+     * rooms that ended above it. Room edges lie on cell rows and columns,
+     * so every cleared tile touches the maze.
+     */
+    private static void spawnRooms(List<int[]> rooms, GameRandom random, int r, int cols, int rows) {
+        int top = 2 * r + 1;
+        rooms.removeIf(room -> room[3] < top);
+        for (int c = 0; c < cols; c++) {
+            if (random.nextInt(ROOM_CHANCE) == 0) {
+                int right = Math.min(cols - 1, c + 1 + random.nextInt(MAX_ROOM_CELLS - 1));
+                int bottom = Math.min(rows - 1, r + 1 + random.nextInt(MAX_ROOM_CELLS - 1));
+                rooms.add(new int[] { 2 * c + 1, top, 2 * right + 1, 2 * bottom + 1 });
+            }
+        }
+    }
+
+    private static void clearRooms(List<int[]> rooms, BitSet row, int y) {
+        for (int[] room : rooms) {
+            if (room[1] <= y && y <= room[3]) {
+                row.clear(room[0], room[2] + 1);
+            }
+        }
+    }
+
+    private static int find(int[] parent, int label) {
+        while (parent[label] != label) {
+            parent[label] = parent[parent[label]];
+            label = parent[label];
+        }
+        return label;
+    }
+
+    private static boolean roll(GameRandom random, double chance) {
+        return chance > 0.0 && random.nextDouble() < chance;
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+}
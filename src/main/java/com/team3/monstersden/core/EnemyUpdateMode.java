@@ -0,0 +1,9 @@
+package com.team3.monstersden.core;
+
+/**
+ * How {@link Game#tick()} moves the enemies.
+ */
+public enum EnemyUpdateMode {
+    SEQUENTIAL, // Each enemy decides and moves in list order, seeing the moves made before it
+    TWO_PHASE   // All enemies decide in parallel on the tick's starting board, then moves are committed
+}
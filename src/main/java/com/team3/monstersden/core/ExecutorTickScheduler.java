@@ -0,0 +1,159 @@
+package com.team3.monstersden.core;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.team3.monstersden.util.GameLog;
+
+/**
+ * Fixed-timestep {@link TickScheduler} backed by a {@link ScheduledExecutorService}.
+ *
+ * <p>Tick {@code n} is due at {@code start + n * interval}. Each wake-up runs
+ * the ticks that are due according to the {@link OverrunPolicy} and then
+ * schedules itself for the next boundary, so the tick rate does not drift
+ * with tick duration. Every tick's duration and start lag is recorded in a
+ * {@link TickMetrics}.</p>
+ *
+ * <p>The scheduler either owns a single daemon thread, created on each
+ * start(), or runs on a shared executor supplied by the caller (which it
+ * never shuts down).</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class ExecutorTickScheduler implements TickScheduler {
+
+    /** Most ticks run back to back in one wake-up under CATCH_UP */
+    public static final int MAX_CATCH_UP_TICKS = 5;
+
+    private final long intervalNanos;
+    private final OverrunPolicy policy;
+    private final boolean ownsExecutor;
+    private final TickMetrics metrics = new TickMetrics();
+
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> pending;
+    private Runnable tick;
+    private volatile boolean running;
+    private volatile long runId;
+    private long startNanos;
+    private long nextTick;
+
+    /**
+     * Creates a scheduler that runs ticks on its own "GameLoop" daemon thread.
+     *
+     * @param tickIntervalMillis time between ticks
+     * @param policy how to handle ticks that fall behind
+     */
+    public ExecutorTickScheduler(long tickIntervalMillis, OverrunPolicy policy) {
+        this(null, tickIntervalMillis, policy);
+    }
+
+    /**
+     * Creates a scheduler that runs ticks on a shared executor.
+     *
+     * @param executor executor to schedule ticks on, or null to own a thread
+     * @param tickIntervalMillis time between ticks
+     * @param policy how to handle ticks that fall behind
+     */
+    public ExecutorTickScheduler(ScheduledExecutorService executor, long tickIntervalMillis, OverrunPolicy policy) {
+        if (tickIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Tick interval must be positive");
+        }
+        this.executor = executor;
+        this.ownsExecutor = executor == null;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(tickIntervalMillis);
+        this.policy = policy;
+    }
+
+    @Override
+    public synchronized void start(Runnable tick) {
+        stop();
+        this.tick = tick;
+        metrics.reset();
+        if (ownsExecutor) {
+            executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "GameLoop");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        startNanos = System.nanoTime();
+        nextTick = 0;
+        running = true;
+        long run = ++runId;
+        pending = executor.schedule(() -> runDueTicks(run), 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        runId++;
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        if (ownsExecutor && executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public long getTickIntervalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(intervalNanos);
+    }
+
+    @Override
+    public TickStats getStats() {
+        return metrics.snapshot();
+    }
+
+    /**
+     * Runs the ticks that are due and schedules the next wake-up.
+     *
+     * @param run the start() this wake-up belongs to; stale wake-ups exit
+     */
+    private void runDueTicks(long run) {
+        if (!running || run != runId) return;
+
+        long due = (System.nanoTime() - startNanos) / intervalNanos;
+        if (policy == OverrunPolicy.SKIP && due > nextTick) {
+            metrics.recordSkipped(due - nextTick);
+            nextTick = due;
+        }
+
+        int budget = policy == OverrunPolicy.CATCH_UP ? MAX_CATCH_UP_TICKS : 1;
+        while (running && run == runId && nextTick <= due && budget-- > 0) {
+            long scheduled = startNanos + nextTick * intervalNanos;
+            long begin = System.nanoTime();
+            try {
+                tick.run();
+            } catch (RuntimeException e) {
+                GameLog.error("Tick {} failed: {}", nextTick, e);
+            }
+            metrics.recordTick(System.nanoTime() - begin, begin - scheduled, intervalNanos);
+            nextTick++;
+        }
+
+        // Backlog beyond the catch-up budget is dropped rather than spiralling
+        if (nextTick <= due) {
+            metrics.recordSkipped(due - nextTick + 1);
+            nextTick = due + 1;
+        }
+
+        synchronized (this) {
+            if (running && run == runId && executor != null) {
+                long delay = startNanos + nextTick * intervalNanos - System.nanoTime();
+                pending = executor.schedule(() -> runDueTicks(run), Math.max(0, delay), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.team3.monstersden.core;
+
+import java.util.Arrays;
+
+import com.team3.monstersden.core.Game.GameState;
+
+/**
+ * Immutable picture of one game at the end of a tick, handed from the game
+ * loop thread to the renderer.
+ *
+ * <p>The game publishes a new snapshot after every tick. A renderer on
+ * another thread only ever reads the latest one, so it never sees a
+ * half-updated board and simply skips frames it was too slow to draw.
+ * Entities are flattened into parallel primitive arrays. The board
+ * reference is only for its terrain (walls, start, exit), which does not
+ * change while a game is running; a new game gets a new Board.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class FrameSnapshot {
+
+    /**
+     * Kinds of entity drawn on top of the terrain.
+     */
+    public enum EntityKind { MONSTER, HUMAN, REWARD, BONUS, TRAP }
+
+    private final long sequence;
+    private final Board board;
+    private final int layoutVersion;
+    private final GameState state;
+    private final int playerX;
+    private final int playerY;
+    private final int playerHealth;
+    private final String weaponName;
+    private final int score;
+    private final int collectedRewards;
+    private final int totalRewards;
+    private final int bonusTicksRemaining;
+    private final int[] entityX;
+    private final int[] entityY;
+    private final EntityKind[] entityKinds;
+
+    /**
+     * Creates a snapshot. The first {@code entityCount} entries of the entity
+     * arrays are copied, so the caller may reuse them.
+     */
+    FrameSnapshot(long sequence, Board board, GameState state,
+                  int playerX, int playerY, int playerHealth, String weaponName,
+                  int score, int collectedRewards, int totalRewards, int bonusTicksRemaining,
+                  int entityCount, int[] entityX, int[] entityY, EntityKind[] entityKinds) {
+        this.sequence = sequence;
+        this.board = board;
+        this.layoutVersion = board.getLayoutVersion();
+        this.state = state;
+        this.playerX = playerX;
+        this.playerY = playerY;
+        this.playerHealth = playerHealth;
+        this.weaponName = weaponName;
+        this.score = score;
+        this.collectedRewards = collectedRewards;
+        this.totalRewards = totalRewards;
+        this.bonusTicksRemaining = bonusTicksRemaining;
+        this.entityX = Arrays.copyOf(entityX, entityCount);
+        this.entityY = Arrays.copyOf(entityY, entityCount);
+        this.entityKinds = Arrays.copyOf(entityKinds, entityCount);
+    }
+
+    /** @return publish order of this snapshot within its game session */
+    public long getSequence() { return sequence; }
+
+    /** @return board whose terrain this frame shows */
+    public Board getBoard() { return board; }
+
+    /** @return the board's layout version when the frame was taken */
+    public int getLayoutVersion() { return layoutVersion; }
+
+    /** @return game state at the end of the tick */
+    public GameState getState() { return state; }
+
+    /** @return player column */
+    public int getPlayerX() { return playerX; }
+
+    /** @return player row */
+    public int getPlayerY() { return playerY; }
+
+    /** @return player hit points */
+    public int getPlayerHealth() { return playerHealth; }
+
+    /** @return name of the player's current weapon, or null if unarmed */
+    public String getWeaponName() { return weaponName; }
+
+    /** @return current score */
+    public int getScore() { return score; }
+
+    /** @return regular rewards collected so far */
+    public int getCollectedRewards() { return collectedRewards; }
+
+    /** @return regular rewards needed to win */
+    public int getTotalRewards() { return totalRewards; }
+
+    /** @return ticks left on the last reported bonus timer, 0 if none */
+    public int getBonusTicksRemaining() { return bonusTicksRemaining; }
+
+    /** @return number of entities in the frame */
+    public int getEntityCount() { return entityKinds.length; }
+
+    /**
+     * @param i entity index, below {@link #getEntityCount()}
+     * @return the entity's column
+     */
+    public int getEntityX(int i) { return entityX[i]; }
+
+    /**
+     * @param i entity index, below {@link #getEntityCount()}
+     * @return the entity's row
+     */
+    public int getEntityY(int i) { return entityY[i]; }
+
+    /**
+     * @param i entity index, below {@link #getEntityCount()}
+     * @return what the entity is
+     */
+    public EntityKind getEntityKind(int i) { return entityKinds[i]; }
+}
@@ -0,0 +1,143 @@
+package com.team3.monstersden.core;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Set of free tile indices supporting fast insert, remove and uniform sampling.
+ *
+ * <p>Members are bits of a packed bitset; a Fenwick tree over the per-word
+ * bit counts turns a random rank into the member of that rank in
+ * O(log tiles). The member drawn for a given random number depends only on
+ * which tiles are free, never on the order they became free, so a board
+ * rebuilt from a snapshot samples exactly like the original. The whole
+ * index costs about one and a half bits per tile.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+final class FreeCellIndex {
+
+    /** Member bits, 64 tile indices per word */
+    private final long[] words;
+
+    /** Fenwick tree of member counts per word, 1-based */
+    private final int[] counts;
+
+    /** Highest power of two not above words.length, where rank searches start */
+    private final int topStep;
+
+    /** Number of members */
+    private int size;
+
+    /**
+     * Creates an empty index for a store with the given number of tiles.
+     *
+     * @param capacity number of tiles in the store
+     */
+    FreeCellIndex(int capacity) {
+        this.words = new long[(capacity + 63) >>> 6];
+        this.counts = new int[words.length + 1];
+        this.topStep = words.length == 0 ? 0 : Integer.highestOneBit(words.length);
+    }
+
+    /**
+     * Builds an index holding every tile that passes a test, in one scan.
+     *
+     * @param capacity number of tiles in the store
+     * @param isMember test of each tile index
+     * @return the index
+     */
+    static FreeCellIndex of(int capacity, IntPredicate isMember) {
+        FreeCellIndex index = new FreeCellIndex(capacity);
+        for (int i = 0; i < capacity; i++) {
+            if (isMember.test(i)) {
+                index.words[i >>> 6] |= 1L << i;
+            }
+        }
+        // Linear Fenwick construction: push each node's total to its parent
+        for (int node = 1; node < index.counts.length; node++) {
+            int members = Long.bitCount(index.words[node - 1]);
+            index.counts[node] += members;
+            index.size += members;
+            int parent = node + (node & -node);
+            if (parent < index.counts.length) {
+                index.counts[parent] += index.counts[node];
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Adds a tile index if not already present.
+     */
+    void add(int index) {
+        long bit = 1L << index;
+        int word = index >>> 6;
+        if ((words[word] & bit) != 0) return;
+        words[word] |= bit;
+        update(word, 1);
+        size++;
+    }
+
+    /**
+     * Removes a tile index if present.
+     */
+    void remove(int index) {
+        long bit = 1L << index;
+        int word = index >>> 6;
+        if ((words[word] & bit) == 0) return;
+        words[word] &= ~bit;
+        update(word, -1);
+        size--;
+    }
+
+    /**
+     * Checks whether a tile index is a member.
+     */
+    boolean contains(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the number of members.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Draws a uniformly random member.
+     *
+     * @param random the random source
+     * @return a member tile index, or -1 if the index is empty
+     */
+    int sample(GameRandom random) {
+        return size == 0 ? -1 : select(random.nextInt(size));
+    }
+
+    /**
+     * Returns the member with the given rank in tile index order.
+     */
+    private int select(int rank) {
+        // Descend the Fenwick tree to the word holding the member
+        int word = 0;
+        for (int step = topStep; step > 0; step >>= 1) {
+            int next = word + step;
+            if (next < counts.length && counts[next] <= rank) {
+                word = next;
+                rank -= counts[next];
+            }
+        }
+        long bits = words[word];
+        for (int i = 0; i < rank; i++) {
+            bits &= bits - 1; // Drop the lowest member
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    private void update(int word, int delta) {
+        for (int node = word + 1; node < counts.length; node += node & -node) {
+            counts[node] += delta;
+        }
+    }
+}
@@ -1,77 +1,162 @@
 package com.team3.monstersden.core;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.team3.monstersden.characters.Enemy;
 import com.team3.monstersden.characters.HumanEnemy;
 import com.team3.monstersden.characters.Monster;
 import com.team3.monstersden.characters.Player;
+import com.team3.monstersden.core.FrameSnapshot.EntityKind;
 import com.team3.monstersden.items.BonusReward;
 import com.team3.monstersden.items.Punishment;
 import com.team3.monstersden.items.RegularReward;
+import com.team3.monstersden.items.Reward;
+import com.team3.monstersden.patterns.command.Command;
 import com.team3.monstersden.patterns.observer.GameObserver;
 import com.team3.monstersden.patterns.strategy.PlayerMovementStrategy;
 import com.team3.monstersden.patterns.strategy.SmartEnemyStrategy;
+import com.team3.monstersden.replay.ReplayRecorder;
+import com.team3.monstersden.util.GameLog;
 
 /**
- * Main game controller implementing Singleton pattern.
+ * Main game controller for one game session.
  * Manages the game loop, world updates, and state.
+ * Sessions are created by a {@link SessionRegistry}; getInstance() returns
+ * the default session for single-game front ends.
+ * Ticks and snapshots lock the game, so a snapshot can be saved or loaded
+ * from any thread while the loop runs.
  */
 public class Game {
-    private static Game instance;
+    private final long sessionId;
+    private final long seed;
+    private GameRandom sessionRandom;
+    private RandomSource randomSource;
     private Board board;
     private Player player;
     private List<Enemy> enemies;
     private List<Punishment> traps;
+    private List<Reward> rewards;
     private SpawnManager spawnManager;
     private int score;
-    private GameState gameState;
+    private int kills;
+    private volatile GameState gameState;
     private List<GameObserver> observers;
-    private Timer gameTimer;
+    private TickScheduler tickScheduler;
     private int requiredRewards;
     private int rewardsCollected;
     private List<BonusReward> activeBonusRewards;
-
-    private static final int TICK_INTERVAL = 500; 
+    /** Fires in the tick each active bonus expires */
+    private final TimerWheel<BonusReward> bonusExpiry = new TimerWheel<>(GameConfig.TIMER_WHEEL_SLOTS);
+    /** Fires in the tick each triggered trap re-arms */
+    private final TimerWheel<Punishment> trapRearm = new TimerWheel<>(GameConfig.TIMER_WHEEL_SLOTS);
+    private final Queue<Command> pendingCommands = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<FrameSnapshot> latestFrame = new AtomicReference<>();
+    private long frameSequence;
+    private int bonusTicksRemaining;
+    private long tickCount;
+    private String mapId;
+    private ReplayRecorder recorder;
+    private EnemyUpdateMode enemyUpdateMode = GameConfig.ENEMY_UPDATE_MODE;
+    private TwoPhaseEnemyUpdate twoPhaseUpdate;
 
     public enum GameState { NOT_STARTED, RUNNING, PAUSED, WON, LOST }
 
     /**
-     * Constructor to initialize Game
+     * Constructor to initialize a Game session
+     * @param sessionId id assigned by the session registry
+     * @param tickScheduler scheduler that drives this session's game loop
+     * @param seed seed of the session; every game it hosts derives its RandomSource from it
      */
-    private Game() {
-        this.board = new Board();
+    Game(long sessionId, TickScheduler tickScheduler, long seed) {
+        this.sessionId = sessionId;
+        this.seed = seed;
+        this.sessionRandom = new GameRandom(seed);
+        this.randomSource = new RandomSource(seed);
+        this.board = new Board(randomSource.get(RandomSource.Stream.BOARD));
         this.enemies = new ArrayList<>();
         this.traps = new ArrayList<>();
+        this.rewards = new ArrayList<>();
         this.observers = new ArrayList<>();
         this.activeBonusRewards = new ArrayList<>();
         this.gameState = GameState.NOT_STARTED;
+        this.tickScheduler = tickScheduler;
     }
 
     /**
-     * Returns the singleton instance of the Game
-     * @return singleton Game instance
+     * Returns the default game session of the default registry
+     * @return default Game instance
      */
-    public static synchronized Game getInstance() {
-        if (instance == null) instance = new Game();
-        return instance;
+    public static Game getInstance() {
+        return SessionRegistry.getDefault().getDefaultSession();
     }
 
     /**
-     * Initializes or resets the game state to start a new game.
+     * Initializes or resets the game state to start a new game on
+     * {@link GameConfig#DEFAULT_MAP}.
+     * Each new game draws a fresh game seed from the session seed, so the
+     * sequence of games a session plays is reproducible.
      */
     public void initialize() {
+        initialize(GameConfig.DEFAULT_MAP);
+    }
+
+    /**
+     * Initializes or resets the game state to start a new game on a map in
+     * resources/maps, read through the shared MapTemplateCache.
+     * @param mapName file name of the map, which replays record as its id
+     */
+    public void initialize(String mapName) {
+        try {
+            initialize(MapTemplateCache.getShared().get(mapName), mapName, sessionRandom.nextLong());
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Initializes or resets the game state to start a new game on the given
+     * layout, e.g. a generated one. The board shares the layout's walls, so
+     * many games can start on one layout cheaply.
+     * @param layout the map to play
+     */
+    public void initialize(MapLayout layout) {
+        initialize(layout, null, sessionRandom.nextLong());
+    }
+
+    /**
+     * Initializes or resets the game state with an explicit game seed
+     * instead of drawing one from the session seed, e.g. to replay a
+     * recorded game.
+     * @param layout the map to play
+     * @param mapId id of the map for replays, or null if it has none
+     * @param gameSeed seed of the game's RandomSource
+     */
+    public void initialize(MapLayout layout, String mapId, long gameSeed) {
         try {
-            board.loadMap("level1.txt");
+            randomSource = new RandomSource(gameSeed);
+            board = new Board(randomSource.get(RandomSource.Stream.BOARD));
+            board.loadLayout(layout);
+            this.mapId = mapId;
             score = 0;
+            kills = 0;
             rewardsCollected = 0;
             enemies.clear();
             traps.clear();
+            rewards.clear();
+            activeBonusRewards.clear();
+            bonusTicksRemaining = 0;
+            tickCount = 0;
+            bonusExpiry.reset(0);
+            trapRearm.reset(0);
+            pendingCommands.clear();
             gameState = GameState.NOT_STARTED;
             spawnManager = new SpawnManager(this);
 
@@ -83,9 +168,12 @@ public class Game {
                 player.setX(board.getStartCell().getX());
                 player.setY(board.getStartCell().getY());
                 player.setHealth(GameConfig.PLAYER_START_HP);
+                player.resetDamageTaken();
             }
 
             populateWorld();
+            if (recorder != null) recorder.begin(this);
+            publishFrame();
             notifyObservers();
         } catch (Exception e) {
             e.printStackTrace();
@@ -93,116 +181,264 @@ public class Game {
     }
 
     private void populateWorld() {
-        Random rng = new Random();
+        MapLayout layout = board.getLayout();
+        if (layout != null && layout.getPlacementCount() > 0) {
+            placeFromLayout(layout);
+            return;
+        }
+
+        GameRandom rng = randomSource.get(RandomSource.Stream.WORLD);
+        Cell start = board.getStartCell(); // Nothing goes where the player cannot reach
 
         // 1) ENEMIES: mix of monsters and humans
         int monstersToSpawn = 3;
         int humansToSpawn   = 2;
 
         for (int i = 0; i < monstersToSpawn; i++) {
-            Cell cell = board.getRandomEmptyCell();
-            if (cell != null) {
-                Monster m = new Monster(
-                    cell.getX(),
-                    cell.getY(),
-                    GameConfig.MONSTER_DAMAGE,
-                    GameConfig.MONSTER_MAX_HP
-                );
-                m.setMovementStrategy(new SmartEnemyStrategy());
-                cell.setEnemy(m);
-                enemies.add(m);
-            }
+            placeMonster(board.getRandomEmptyCellReachableFrom(start, rng));
         }
 
         for (int i = 0; i < humansToSpawn; i++) {
-            Cell cell = board.getRandomEmptyCell();
-            if (cell != null) {
-                HumanEnemy h = new HumanEnemy(
-                    cell.getX(),
-                    cell.getY(),
-                    GameConfig.HUMAN_DAMAGE,
-                    GameConfig.HUMAN_MAX_HP
-                );
-                h.setMovementStrategy(new SmartEnemyStrategy());
-                cell.setEnemy(h);
-                enemies.add(h);
-            }
+            placeHuman(board.getRandomEmptyCellReachableFrom(start, rng));
         }
 
         // 2) REWARDS
+        // Only rewards that were placed count, so a cramped start region stays winnable
         int rewardCount = 5;
-        requiredRewards = rewardCount;
+        requiredRewards = 0;
         for (int i = 0; i < rewardCount; i++) {
-            Cell cell = board.getRandomEmptyCell();
+            Cell cell = board.getRandomEmptyCellReachableFrom(start, rng);
             if (cell != null) {
-                cell.setReward(new RegularReward(cell.getX(), cell.getY(), GameConfig.SCORE_COLLECT_REWARD));
+                placeReward(cell);
+                requiredRewards++;
             }
         }
 
         // 3) BONUS REWARDS
         int bonusRewardCount = 2;
         for (int i = 0; i < bonusRewardCount; i++) {
-            Cell cell = board.getRandomEmptyCell();
-            if (cell != null) {
-                BonusReward bonus = new BonusReward(
-                    cell.getX(), cell.getY(),
-                    GameConfig.SCORE_COLLECT_REWARD * 2,
-                    15
-                );
-                cell.setReward(bonus);
-            }
+            placeBonus(board.getRandomEmptyCellReachableFrom(start, rng));
         }
 
         // 4) TRAPS
         for (int i = 0; i < 3; i++) {
-            Cell cell = board.getRandomEmptyCell();
-            if (cell != null) {
-                Punishment trap = new Punishment(cell.getX(), cell.getY(), GameConfig.TRAP_DAMAGE);
-                cell.setPunishment(trap);
-                traps.add(trap);
+            placeTrap(board.getRandomEmptyCellReachableFrom(start, rng));
+        }
+    }
+
+    /**
+     * Places exactly the entities the map fixes, instead of random ones.
+     * Every regular reward on the map is required to win.
+     */
+    private void placeFromLayout(MapLayout layout) {
+        requiredRewards = 0;
+        for (int i = 0; i < layout.getPlacementCount(); i++) {
+            int index = layout.getPlacementIndex(i);
+            Cell cell = board.getCell(index % board.getWidth(), index / board.getWidth());
+            switch (layout.getPlacement(i)) {
+                case MONSTER: placeMonster(cell); break;
+                case HUMAN:   placeHuman(cell); break;
+                case REWARD:  placeReward(cell); requiredRewards++; break;
+                case BONUS:   placeBonus(cell); break;
+                case TRAP:    placeTrap(cell); break;
+                default:      break;
             }
         }
     }
 
+    private void placeMonster(Cell cell) {
+        if (cell == null) return;
+        Monster m = new Monster(
+            cell.getX(),
+            cell.getY(),
+            GameConfig.MONSTER_DAMAGE,
+            GameConfig.MONSTER_MAX_HP
+        );
+        m.setMovementStrategy(new SmartEnemyStrategy(randomSource.split(RandomSource.Stream.ENEMY_AI)));
+        cell.setEnemy(m);
+        enemies.add(m);
+    }
+
+    private void placeHuman(Cell cell) {
+        if (cell == null) return;
+        HumanEnemy h = new HumanEnemy(
+            cell.getX(),
+            cell.getY(),
+            GameConfig.HUMAN_DAMAGE,
+            GameConfig.HUMAN_MAX_HP
+        );
+        h.setMovementStrategy(new SmartEnemyStrategy(randomSource.split(RandomSource.Stream.ENEMY_AI)));
+        cell.setEnemy(h);
+        enemies.add(h);
+    }
+
+    private void placeReward(Cell cell) {
+        if (cell == null) return;
+        RegularReward reward = new RegularReward(cell.getX(), cell.getY(), GameConfig.SCORE_COLLECT_REWARD);
+        cell.setReward(reward);
+        rewards.add(reward);
+    }
+
+    private void placeBonus(Cell cell) {
+        if (cell == null) return;
+        BonusReward bonus = new BonusReward(
+            cell.getX(), cell.getY(),
+            GameConfig.SCORE_COLLECT_REWARD * 2,
+            15
+        );
+        cell.setReward(bonus);
+        rewards.add(bonus);
+        activeBonusRewards.add(bonus);
+        bonusExpiry.schedule(bonus, bonusExpiry.now() + bonus.getDuration());
+    }
+
+    private void placeTrap(Cell cell) {
+        if (cell == null) return;
+        Punishment trap = new Punishment(cell.getX(), cell.getY(), GameConfig.TRAP_DAMAGE);
+        cell.setPunishment(trap);
+        traps.add(trap);
+    }
+
     /**
-     * Starts the main game loop, updating the game state at fixed intervals.
+     * Starts the main game loop, updating the game state at fixed intervals
+     * through the game's {@link TickScheduler}.
      */
     public void startGameLoop() {
-        if (gameTimer != null) gameTimer.cancel();
         gameState = GameState.RUNNING;
-        gameTimer = new Timer("GameLoop", true);
-        gameTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                if (gameState == GameState.RUNNING) tick();
+        // The loop is not running yet, so this frame cannot race with a tick
+        publishFrame();
+        tickScheduler.start(() -> {
+            if (gameState == GameState.RUNNING) tick();
+        });
+    }
+
+    /**
+     * Marks the game as running without scheduling any ticks.
+     * The caller drives the game by calling tick() itself, e.g. a headless
+     * simulation that runs ticks back to back.
+     */
+    public void startManualLoop() {
+        tickScheduler.stop();
+        gameState = GameState.RUNNING;
+    }
+
+    /**
+     * Replaces the scheduler that drives the game loop, e.g. to change the
+     * tick rate or overrun policy. Takes effect on the next startGameLoop().
+     * @param scheduler the scheduler to use
+     */
+    public void setTickScheduler(TickScheduler scheduler) {
+        if (scheduler == null) throw new IllegalArgumentException("Tick scheduler cannot be null");
+        tickScheduler.stop();
+        this.tickScheduler = scheduler;
+    }
+
+    /**
+     * Returns the scheduler that drives the game loop.
+     * @return the current tick scheduler
+     */
+    public TickScheduler getTickScheduler() { return tickScheduler; }
+
+    /**
+     * Returns tick timing statistics (durations, overruns, lag) for the
+     * current run of the game loop. Safe to poll from any thread.
+     * @return snapshot of tick statistics
+     */
+    public TickStats getTickStats() { return tickScheduler.getStats(); }
+
+    /**
+     * Queues a player command to be executed by the game loop.
+     * Safe to call from any thread (e.g. the UI thread); the command runs
+     * at the start of the next tick, on the thread that runs the tick.
+     * @param command the command to queue
+     */
+    public void submitCommand(Command command) {
+        if (command != null) pendingCommands.offer(command);
+    }
+
+    /**
+     * Executes queued commands, at most GameConfig.MAX_COMMANDS_PER_TICK of them.
+     * A command that throws is logged and skipped, so the commands behind it
+     * and the rest of the tick still run.
+     * Must only be called by the thread that drives the game; tick() calls it first.
+     */
+    public void processCommands() {
+        for (int i = 0; i < GameConfig.MAX_COMMANDS_PER_TICK; i++) {
+            Command command = pendingCommands.poll();
+            if (command == null) return;
+            if (recorder != null) recorder.commandStarting(tickCount, command); // Even if it throws
+            try {
+                command.execute(this);
+            } catch (RuntimeException e) {
+                GameLog.error("{} failed in tick {}: {}", command.getClass().getSimpleName(), tickCount, e);
             }
-        }, 0, TICK_INTERVAL);
+        }
+    }
+
+    /**
+     * Records every game this session starts from now on, or stops
+     * recording. Set it before initialize(); call it only from the thread
+     * that drives the game, or while no game loop is running.
+     * @param recorder the recorder, or null to stop recording
+     */
+    public void setReplayRecorder(ReplayRecorder recorder) { this.recorder = recorder; }
+
+    /**
+     * Returns the recorder capturing this session's games.
+     * @return the recorder, or null if the session is not recorded
+     */
+    public ReplayRecorder getReplayRecorder() { return recorder; }
+
+    /**
+     * Chooses how enemies move each tick. TWO_PHASE plans every enemy in
+     * parallel, which pays off with hundreds of enemies, but enemies no
+     * longer see the moves made before theirs, so a seed plays out
+     * differently than in SEQUENTIAL mode. Replays and snapshots do not
+     * store the mode; re-simulate them in the mode they were recorded in.
+     * Call it only from the thread that drives the game, or while no game
+     * loop is running.
+     * @param mode the enemy update mode
+     */
+    public void setEnemyUpdateMode(EnemyUpdateMode mode) {
+        if (mode == null) throw new IllegalArgumentException("Enemy update mode cannot be null");
+        this.enemyUpdateMode = mode;
     }
 
+    /**
+     * Returns how enemies move each tick.
+     * @return the enemy update mode
+     */
+    public EnemyUpdateMode getEnemyUpdateMode() { return enemyUpdateMode; }
+
+    /**
+     * Returns the number of commands waiting for the next tick.
+     * @return queued command count
+     */
+    public int getPendingCommandCount() { return pendingCommands.size(); }
+
     /**
      * Performs a single game tick, updating all game entities and checking win/loss conditions.
+     * Queued player commands are applied first.
      */
-    public void tick() {
+    public synchronized void tick() {
         if (gameState != GameState.RUNNING) return;
+        tickCount++;
+
+        processCommands();
 
         updateBonusRewards();
 
-        Iterator<Enemy> enemyIt = enemies.iterator();
-        while (enemyIt.hasNext()) {
-            Enemy enemy = enemyIt.next();
-            if (enemy.isAlive()) {
-                enemy.tick(board, player);
-            } else {
-                board.getCell(enemy.getX(), enemy.getY()).setEnemy(null);
-                enemyIt.remove();
-                addScore(GameConfig.SCORE_KILL_ENEMY);
-            }
-        }
+        // One BFS from the player serves every chasing enemy this tick
+        board.getChaseField().update(player.getX(), player.getY());
 
-        for (Punishment trap : traps) {
-            trap.tick();
+        if (enemyUpdateMode == EnemyUpdateMode.TWO_PHASE) {
+            updateEnemiesTwoPhase();
+        } else {
+            updateEnemiesSequentially();
         }
 
+        trapRearm.advance(tickCount, Punishment::rearm);
+
         spawnManager.tick();
 
         if (!player.isAlive()) {
@@ -215,38 +451,202 @@ public class Game {
              addScore(GameConfig.SCORE_WIN_BONUS);
              notifyGameEnd(true, score);
         }
+        if (recorder != null) recorder.tickCompleted(this);
+        publishFrame();
         notifyObservers();
     }
 
     /**
-     * Updates all active bonus rewards.
+     * Encodes the complete game state as a binary snapshot; see
+     * {@link GameSnapshot} for what it holds. Queued commands and observers
+     * are not part of it.
+     * @return a direct buffer positioned at 0 holding the snapshot
      */
-    private void updateBonusRewards() {
-        Iterator<BonusReward> iterator = activeBonusRewards.iterator();
-        while (iterator.hasNext()) {
-            BonusReward bonus = iterator.next();
-            boolean expired = bonus.tick(); // Update the timer
-
-            if (expired) {
-                // Remove expired bonus from the board
-                Cell cell = board.getCell(bonus.getX(), bonus.getY());
-                if (cell != null && cell.getReward() == bonus) {
-                    cell.setReward(null);
-                    System.out.println("Bonus reward expired at (" + bonus.getX() + ", " + bonus.getY() + ")");
-                }
-                iterator.remove();
-
-                // Notify UI about expired bonus
-                for (GameObserver observer : observers) {
-                    observer.onBonusTimerUpdate(0);
-                }
-            } else {
-                // Update bonus timer display for active bonuses
-                for (GameObserver observer : observers) {
-                    observer.onBonusTimerUpdate(bonus.getTicksRemaining());
-                }
+    public synchronized ByteBuffer saveSnapshot() {
+        return GameSnapshot.write(this);
+    }
+
+    /**
+     * Writes a snapshot of the game to a file, replacing any existing file.
+     * @param file destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void saveSnapshot(Path file) throws IOException {
+        GameSnapshot.writeFile(saveSnapshot(), file);
+    }
+
+    /**
+     * Replaces the game state with a snapshot, e.g. one saved by another
+     * process. The loop is not started; a restored RUNNING game continues
+     * once startGameLoop() or startManualLoop() is called. The current
+     * Player object is kept and updated, so front ends holding it stay valid.
+     * A replay recorder, if any, is detached.
+     * @param snapshot the snapshot bytes, from the buffer's position to its limit
+     * @throws IllegalArgumentException if the snapshot is malformed
+     */
+    public synchronized void loadSnapshot(ByteBuffer snapshot) {
+        tickScheduler.stop();
+        GameSnapshot.read(snapshot, this);
+        publishFrame();
+        notifyObservers();
+    }
+
+    /**
+     * Replaces the game state with a snapshot file, read through a memory-mapped channel.
+     * @param file the snapshot file
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the snapshot is malformed
+     */
+    public void loadSnapshot(Path file) throws IOException {
+        loadSnapshot(GameSnapshot.readFile(file));
+    }
+
+    /**
+     * Installs state decoded from a snapshot. Called by GameSnapshot.read.
+     */
+    void restore(GameRandom sessionRandom, RandomSource randomSource, Board board, String mapId,
+                 long tickCount, GameState gameState, int score, int kills, int requiredRewards,
+                 int rewardsCollected, int bonusTicksRemaining, int spawnTimer, Player player,
+                 List<Enemy> enemies, List<Reward> rewards, List<BonusReward> activeBonusRewards,
+                 List<Punishment> traps) {
+        this.sessionRandom = sessionRandom;
+        this.randomSource = randomSource;
+        this.board = board;
+        this.mapId = mapId;
+        this.tickCount = tickCount;
+        this.gameState = gameState;
+        this.score = score;
+        this.kills = kills;
+        this.requiredRewards = requiredRewards;
+        this.rewardsCollected = rewardsCollected;
+        this.bonusTicksRemaining = bonusTicksRemaining;
+        this.player = player;
+        this.enemies.clear();
+        this.enemies.addAll(enemies);
+        this.rewards.clear();
+        this.rewards.addAll(rewards);
+        this.activeBonusRewards.clear();
+        this.activeBonusRewards.addAll(activeBonusRewards);
+        this.traps.clear();
+        this.traps.addAll(traps);
+        bonusExpiry.reset(tickCount);
+        for (BonusReward bonus : activeBonusRewards) {
+            bonusExpiry.schedule(bonus, tickCount + bonus.getTicksRemaining());
+        }
+        trapRearm.reset(tickCount);
+        for (Punishment trap : traps) {
+            if (!trap.isActive()) trapRearm.schedule(trap, tickCount + trap.getCooldownTimer());
+        }
+        this.spawnManager = new SpawnManager(this);
+        this.spawnManager.setSpawnTimer(spawnTimer);
+        pendingCommands.clear();
+        recorder = null; // A replay must start from the game seed, not mid-game
+    }
+
+    /**
+     * Captures the current state as an immutable frame and makes it the
+     * latest one. tick() calls this at its end; call it only from the thread
+     * that drives the game, or while no game loop is running.
+     */
+    public void publishFrame() {
+        if (player == null) return;
+        int capacity = enemies.size() + rewards.size() + traps.size();
+        int[] xs = new int[capacity];
+        int[] ys = new int[capacity];
+        EntityKind[] kinds = new EntityKind[capacity];
+        int count = 0;
+
+        // Only entities still on their cell are drawn
+        for (Enemy enemy : enemies) {
+            Cell cell = board.getCell(enemy.getX(), enemy.getY());
+            if (cell != null && cell.getEnemy() == enemy) {
+                xs[count] = enemy.getX();
+                ys[count] = enemy.getY();
+                kinds[count++] = (enemy instanceof Monster) ? EntityKind.MONSTER : EntityKind.HUMAN;
+            }
+        }
+        for (Reward reward : rewards) {
+            Cell cell = board.getCell(reward.getX(), reward.getY());
+            if (cell != null && cell.getReward() == reward && !reward.isCollected()) {
+                xs[count] = reward.getX();
+                ys[count] = reward.getY();
+                kinds[count++] = (reward instanceof BonusReward) ? EntityKind.BONUS : EntityKind.REWARD;
+            }
+        }
+        for (Punishment trap : traps) {
+            Cell cell = board.getCell(trap.getX(), trap.getY());
+            if (cell != null && cell.getPunishment() == trap && trap.isActive()) {
+                xs[count] = trap.getX();
+                ys[count] = trap.getY();
+                kinds[count++] = EntityKind.TRAP;
             }
         }
+
+        String weapon = player.getCurrentSword() != null ? player.getCurrentSword().getName() : null;
+        latestFrame.set(new FrameSnapshot(++frameSequence, board, gameState,
+            player.getX(), player.getY(), player.getHealth(), weapon,
+            score, rewardsCollected, requiredRewards, bonusTicksRemaining,
+            count, xs, ys, kinds));
+    }
+
+    /**
+     * Returns the most recently published frame. Safe to call from any thread.
+     * @return latest frame, or null if none has been published yet
+     */
+    public FrameSnapshot getLatestFrame() { return latestFrame.get(); }
+
+    /**
+     * Expires the bonus rewards whose timers fire this tick and updates the
+     * bonus countdown for the newest one still active. Only expiring
+     * rewards are visited.
+     */
+    private void updateBonusRewards() {
+        bonusExpiry.advance(tickCount, this::bonusExpired);
+        if (!activeBonusRewards.isEmpty()) {
+            BonusReward newest = activeBonusRewards.get(activeBonusRewards.size() - 1);
+            notifyBonusTimerUpdate(getBonusTicksLeft(newest));
+        }
+    }
+
+    private void bonusExpired(BonusReward bonus) {
+        bonus.expire();
+        activeBonusRewards.remove(bonus);
+        // Remove expired bonus from the board
+        Cell cell = board.getCell(bonus.getX(), bonus.getY());
+        if (cell != null && cell.getReward() == bonus) {
+            cell.setReward(null);
+            GameLog.info("Bonus reward expired at ({}, {})", bonus.getX(), bonus.getY());
+        }
+        // Notify UI about expired bonus
+        notifyBonusTimerUpdate(0);
+    }
+
+    /**
+     * Schedules a trap that has just been triggered to re-arm once its
+     * cooldown has run. Counting starts with this tick's trap update if
+     * the trap went off during a tick, else with the next tick.
+     * @param trap the triggered trap
+     */
+    public void trapTriggered(Punishment trap) {
+        if (!trap.isActive()) {
+            trapRearm.schedule(trap, trapRearm.now() + trap.getCooldownTimer());
+        }
+    }
+
+    /**
+     * Returns the ticks left before an active bonus reward expires.
+     */
+    int getBonusTicksLeft(BonusReward bonus) {
+        long deadline = bonusExpiry.deadline(bonus);
+        return deadline < 0 ? bonus.getTicksRemaining() : (int) (deadline - tickCount);
+    }
+
+    /**
+     * Returns the ticks left before a triggered trap re-arms.
+     */
+    int getTrapCooldownLeft(Punishment trap) {
+        long deadline = trapRearm.deadline(trap);
+        return deadline < 0 ? trap.getCooldownTimer() : (int) (deadline - tickCount);
     }
 
     /**
@@ -254,17 +654,57 @@ public class Game {
      * @param bonus
      */
     public void bonusRewardCollected(BonusReward bonus) {
+        // The points were added when the reward was collected
         if (activeBonusRewards.remove(bonus)) {
-            addScore(bonus.getScoreValue());
+            bonusExpiry.cancel(bonus);
 
             // Notify UI about bonus collection
-            for (GameObserver observer : observers) {
-                observer.onBonusTimerUpdate(0);
+            notifyBonusTimerUpdate(0);
+            GameLog.info("Bonus reward collected at ({}, {})", bonus.getX(), bonus.getY());
+        }
+    }
+
+    /**
+     * Ticks each enemy in list order; dead ones are removed and counted as kills.
+     */
+    private void updateEnemiesSequentially() {
+        Iterator<Enemy> enemyIt = enemies.iterator();
+        while (enemyIt.hasNext()) {
+            Enemy enemy = enemyIt.next();
+            if (enemy.isAlive()) {
+                enemy.tick(board, player);
+            } else {
+                clearDeadEnemy(enemy);
+                enemyIt.remove();
             }
-            System.out.println("Bonus reward collected at (" + bonus.getX() + ", " + bonus.getY() + ")");
         }
     }
 
+    /**
+     * Removes dead enemies, then plans every living enemy's move in parallel
+     * and commits the moves in a fixed order (see TwoPhaseEnemyUpdate).
+     */
+    private void updateEnemiesTwoPhase() {
+        Iterator<Enemy> enemyIt = enemies.iterator();
+        while (enemyIt.hasNext()) {
+            Enemy enemy = enemyIt.next();
+            if (!enemy.isAlive()) {
+                clearDeadEnemy(enemy);
+                enemyIt.remove();
+            }
+        }
+        if (twoPhaseUpdate == null) {
+            twoPhaseUpdate = new TwoPhaseEnemyUpdate(GameConfig.ENEMY_PLAN_BATCH);
+        }
+        twoPhaseUpdate.run(board, player, enemies);
+    }
+
+    private void clearDeadEnemy(Enemy enemy) {
+        board.getCell(enemy.getX(), enemy.getY()).setEnemy(null);
+        kills++;
+        addScore(GameConfig.SCORE_KILL_ENEMY);
+    }
+
     /**
      * Removes an enemy from the game and clears it from its current cell
      * @param e the Enemy to remove
@@ -279,12 +719,29 @@ public class Game {
     }
 
     /**
-     * Stops the main game loop timer
+     * Removes an enemy the player has defeated and counts the kill
+     * @param e the defeated Enemy
+     */
+    public void enemyKilled(Enemy e) {
+        if (e == null) return;
+        kills++;
+        removeEnemy(e);
+    }
+
+    /**
+     * Stops the main game loop scheduler
      */
     private void stopGameLoop() {
-        if (gameTimer != null){
-            gameTimer.cancel();
-        }
+        tickScheduler.stop();
+    }
+
+    /**
+     * Stops this session for good: halts its loop and drops queued commands.
+     * Called by the registry when the session is closed.
+     */
+    void close() {
+        stopGameLoop();
+        pendingCommands.clear();
     }
 
     /**
@@ -303,6 +760,7 @@ public class Game {
     public void notifyObservers() { for(GameObserver o : observers) o.update(); }
     public void notifyScoreChanged(int s) { for(GameObserver o : observers) o.onScoreChanged(s); }
     public void notifyGameEnd(boolean w, int s) { for(GameObserver o : observers) o.onGameEnd(w, s); }
+    public void notifyBonusTimerUpdate(int t) { bonusTicksRemaining = t; for(GameObserver o : observers) o.onBonusTimerUpdate(t); }
     public Board getBoard() { return board; }
     public Player getPlayer() { return player; }
     public void setPlayer(Player p) { this.player = p; }
@@ -310,4 +768,17 @@ public class Game {
     public int getTotalRewards() { return requiredRewards; }
     public boolean isGameOver() { return gameState == GameState.WON || gameState == GameState.LOST; }
     public int getScore() { return score; }
+    public int getKills() { return kills; }
+    public GameState getGameState() { return gameState; }
+    public long getSessionId() { return sessionId; }
+    public long getSeed() { return seed; }
+    public long getTickCount() { return tickCount; }
+    public String getMapId() { return mapId; }
+    GameRandom getSessionRandom() { return sessionRandom; }
+    List<Reward> getRewards() { return rewards; }
+    List<BonusReward> getActiveBonusRewards() { return activeBonusRewards; }
+    List<Punishment> getTraps() { return traps; }
+    SpawnManager getSpawnManager() { return spawnManager; }
+    int getBonusTicksRemaining() { return bonusTicksRemaining; }
+    public RandomSource getRandomSource() { return randomSource; }
 }
\ No newline at end of file
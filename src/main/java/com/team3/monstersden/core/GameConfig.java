@@ -1,5 +1,7 @@
 package com.team3.monstersden.core;
 
+import com.team3.monstersden.util.GameLog;
+
 /**
  * Central configuration class for game tuning parameters.
  * Allows for easy balancing of HP, damage, speeds, and spawn rates.
@@ -19,9 +21,29 @@ public class GameConfig {
     public static final int ENEMY_CHASE_RANGE = 8;  // Tiles within which enemy will start chasing
     public static final int ENEMY_ATTACK_RANGE = 1; // Must be adjacent to attack
 
+    // --- Game Loop Settings ---
+    public static final int TICK_INTERVAL_MS = 500; // Time between game ticks
+    public static final OverrunPolicy TICK_OVERRUN_POLICY = OverrunPolicy.CATCH_UP; // Matches the old fixed-rate Timer
+    public static final int MAX_COMMANDS_PER_TICK = 16; // Queued input applied per tick; the rest waits a tick
+    public static final GameLog.Level LOG_LEVEL = GameLog.Level.INFO; // Per-hit combat events are DEBUG
+    public static final String DEFAULT_MAP = "level1.txt"; // Map in resources/maps that new games start on
+    public static final int MAP_CACHE_SIZE = 8; // Parsed map layouts kept for new games and restarts
+    public static final int REPLAY_CHECKSUM_INTERVAL = 50; // Ticks between state checksums in recorded replays
+    public static final int REPLAY_CHECKPOINT_INTERVAL = 500; // Ticks between saved snapshots a replay seek can restart from
+    public static final EnemyUpdateMode ENEMY_UPDATE_MODE = EnemyUpdateMode.SEQUENTIAL; // New sessions' enemy update; TWO_PHASE suits hundreds of enemies
+    public static final int ENEMY_PLAN_BATCH = 32; // Enemies one fork/join task plans in TWO_PHASE mode; fewer are planned on the tick thread
+    public static final int TIMER_WHEEL_SLOTS = 256; // Slots in the wheels timing bonus expiry and trap re-arm; longer timers take extra laps
+    public static final String SAVE_FILE = "monstersden.save"; // Snapshot of an unfinished game, written when the window closes
+    public static final String LEADERBOARD_FILE = "monstersden-scores"; // H2 database of finished games, without the .mv.db extension
+    public static final int LEADERBOARD_SIZE = 10; // Best games kept in memory for the leaderboard
+    public static final int LEADERBOARD_BATCH_SIZE = 64; // Most finished games inserted in one transaction
+    public static final int LEADERBOARD_QUEUE_CAPACITY = 1024; // Finished games waiting to be written before new ones are dropped
+    public static final int SESSION_WORKER_THREADS = Runtime.getRuntime().availableProcessors(); // Threads shared by all game sessions
+
     // --- Spawning Settings ---
     public static final int MAX_ACTIVE_ENEMIES = 5;
     public static final int SPAWN_INTERVAL_TICKS = 15; // How many game ticks between spawn attempts
+    public static final int MAX_PLACEMENT_DRAWS = 64; // Free cells drawn before scanning the start region for a reachable one
 
     // --- Trap (Punishment) Settings ---
     public static final int TRAP_DAMAGE = 20;
@@ -0,0 +1,143 @@
+package com.team3.monstersden.core;
+
+import java.util.SplittableRandom;
+
+/**
+ * Splittable random number generator whose state can be saved and restored.
+ *
+ * <p>Runs the same SplitMix64 algorithm as {@link SplittableRandom} and
+ * produces exactly the same values for the same seed and calls, but its
+ * two-word state is visible through {@link #getSeedState()} and
+ * {@link #getGamma()}, so a game snapshot can store every stream and a
+ * restored game draws the same numbers the original would have. Like
+ * SplittableRandom it is not thread-safe; each stream belongs to one
+ * thread.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class GameRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long seed;
+    private final long gamma;
+
+    /**
+     * Creates a generator for a seed, matching {@code new SplittableRandom(seed)}.
+     *
+     * @param seed the seed
+     */
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    /**
+     * Creates an unseeded generator.
+     */
+    public GameRandom() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    private GameRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Recreates a generator from a saved state.
+     *
+     * @param seedState value of {@link #getSeedState()}
+     * @param gamma value of {@link #getGamma()}, which is always odd
+     * @return a generator continuing from the saved state
+     * @throws IllegalArgumentException if the gamma is even
+     */
+    public static GameRandom restore(long seedState, long gamma) {
+        if ((gamma & 1L) == 0) {
+            throw new IllegalArgumentException("Invalid random state: even gamma");
+        }
+        return new GameRandom(seedState, gamma);
+    }
+
+    /** @return the current seed word of the state */
+    public long getSeedState() { return seed; }
+
+    /** @return the gamma word of the state, fixed for the generator's lifetime */
+    public long getGamma() { return gamma; }
+
+    /**
+     * Splits off a new independent generator.
+     *
+     * @return a new generator
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /** @return a random long */
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    /** @return a random int */
+    public int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    /**
+     * Returns a random int between 0 (inclusive) and a bound (exclusive).
+     *
+     * @param bound the upper bound, positive
+     * @return a random int in [0, bound)
+     * @throws IllegalArgumentException if the bound is not positive
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive");
+        }
+        int r = mix32(nextSeed());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        // Reject values in the partial last range so the result is unbiased
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+            // Retry
+        }
+        return r;
+    }
+
+    /** @return a random boolean */
+    public boolean nextBoolean() {
+        return mix32(nextSeed()) < 0;
+    }
+
+    /** @return a random double in [0, 1) */
+    public double nextDouble() {
+        return (mix64(nextSeed()) >>> 11) * DOUBLE_UNIT;
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+        return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+}
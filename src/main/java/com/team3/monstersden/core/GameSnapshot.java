@@ -0,0 +1,505 @@
+package com.team3.monstersden.core;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.team3.monstersden.characters.AIState;
+import com.team3.monstersden.characters.Enemy;
+import com.team3.monstersden.characters.HumanEnemy;
+import com.team3.monstersden.characters.Monster;
+import com.team3.monstersden.characters.Player;
+import com.team3.monstersden.core.Game.GameState;
+import com.team3.monstersden.items.BonusReward;
+import com.team3.monstersden.items.Punishment;
+import com.team3.monstersden.items.RegularReward;
+import com.team3.monstersden.items.Reward;
+import com.team3.monstersden.items.SilverSword;
+import com.team3.monstersden.items.SteelSword;
+import com.team3.monstersden.items.Sword;
+import com.team3.monstersden.patterns.strategy.ChaseMovementStrategy;
+import com.team3.monstersden.patterns.strategy.MovementStrategy;
+import com.team3.monstersden.patterns.strategy.PlayerMovementStrategy;
+import com.team3.monstersden.patterns.strategy.SmartEnemyStrategy;
+
+/**
+ * Binary snapshot of the complete state of a {@link Game}, written and
+ * read through {@link Game#saveSnapshot()} and {@link Game#loadSnapshot}.
+ *
+ * <p>Snapshots (version {@value #VERSION}) are big-endian:
+ * <pre>
+ * int    magic "MDSN"
+ * short  version
+ * short  flags (reserved, 0)
+ * long   session random seed word, long gamma
+ * long   game seed
+ * int    stream count, then per RandomSource stream: long seed word, long gamma
+ * int    map id length in UTF-8 bytes (-1 for none), then the bytes
+ * long   tick count
+ * byte   game state, a Game.GameState ordinal
+ * int    score, kills, required rewards, collected rewards,
+ *        bonus ticks remaining, spawn timer
+ * int    width, height, start tile index, exit tile index
+ * int    wall word count, then long[] wall bits, 64 tiles per word
+ * int    player name length, then the UTF-8 bytes
+ * int    player x, y, health, damage taken
+ * byte   sword (0 none, 1 steel, 2 silver), int sword damage
+ * int    enemy count, then per enemy in list order:
+ *          byte kind (0 monster, 1 human), int x, y, health, damage,
+ *          byte AI state, byte on board, byte strategy (0 none, 1 smart,
+ *          2 chase), long random seed word, long gamma (0 unless smart)
+ * int    reward count, then per reward in list order:
+ *          byte kind (0 regular, 1 bonus), int x, y, score,
+ *          byte flags (1 collected, 2 on board, 4 expired),
+ *          int duration, int ticks remaining (0 for regular rewards)
+ * int    active bonus count, then int index into the reward list each
+ * int    trap count, then per trap in list order:
+ *          int x, y, penalty, byte flags (1 armed, 2 on board), int cooldown
+ * </pre>
+ * Tile indexes are {@code y * width + x}. Board occupancy is not stored
+ * tile by tile: each entity records whether it is still on its tile, and
+ * loading puts it back there. Derived data (free cells, connectivity, the
+ * chase field) is rebuilt on demand. Every random stream is saved, and
+ * free-cell sampling does not depend on history, so a loaded game plays
+ * on exactly as the saved one would have.</p>
+ *
+ * <p>Walls dominate the size of large boards; they are moved with one
+ * bulk copy each way, into and out of direct buffers.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+final class GameSnapshot {
+
+    /** First four bytes of a snapshot: "MDSN" */
+    static final int MAGIC = 0x4D44534E;
+
+    /** Snapshot format version written by this class */
+    static final short VERSION = 1;
+
+    private static final int ENEMY_BYTES = 1 + 4 * 4 + 3 + 16;
+    private static final int REWARD_BYTES = 1 + 3 * 4 + 1 + 2 * 4;
+    private static final int TRAP_BYTES = 3 * 4 + 1 + 4;
+
+    private static final GameState[] STATES = GameState.values();
+    private static final AIState[] AI_STATES = AIState.values();
+
+    private GameSnapshot() { }
+
+    /**
+     * Encodes a game. The caller holds the game's lock.
+     *
+     * @param game the game
+     * @return a direct buffer positioned at 0 holding the snapshot
+     */
+    static ByteBuffer write(Game game) {
+        Board board = game.getBoard();
+        Player player = game.getPlayer();
+        if (board == null || player == null || board.getStartCell() == null) {
+            throw new IllegalStateException("Game has not been initialized");
+        }
+        RandomSource.Stream[] kinds = RandomSource.Stream.values();
+        byte[] mapId = game.getMapId() == null ? null : game.getMapId().getBytes(StandardCharsets.UTF_8);
+        byte[] name = player.getName() == null ? new byte[0] : player.getName().getBytes(StandardCharsets.UTF_8);
+        long[] walls = board.wallWords();
+        List<Enemy> enemies = game.getEnemies();
+        List<Reward> rewards = game.getRewards();
+        List<BonusReward> active = game.getActiveBonusRewards();
+        List<Punishment> traps = game.getTraps();
+
+        int size = 8 + 16 + 8 + 4 + kinds.length * 16 + 4 + (mapId == null ? 0 : mapId.length)
+            + 8 + 1 + 6 * 4 + 4 * 4 + 4 + walls.length * 8
+            + 4 + name.length + 4 * 4 + 1 + 4
+            + 4 + enemies.size() * ENEMY_BYTES
+            + 4 + rewards.size() * REWARD_BYTES
+            + 4 + active.size() * 4
+            + 4 + traps.size() * TRAP_BYTES;
+        ByteBuffer out = ByteBuffer.allocateDirect(size);
+
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putShort((short) 0);
+        putRandom(out, game.getSessionRandom());
+        RandomSource random = game.getRandomSource();
+        out.putLong(random.getSeed());
+        out.putInt(kinds.length);
+        for (RandomSource.Stream kind : kinds) {
+            putRandom(out, random.get(kind));
+        }
+        putBytes(out, mapId);
+
+        out.putLong(game.getTickCount());
+        out.put((byte) game.getGameState().ordinal());
+        out.putInt(game.getScore());
+        out.putInt(game.getKills());
+        out.putInt(game.getTotalRewards());
+        out.putInt(game.getCollectedRewards());
+        out.putInt(game.getBonusTicksRemaining());
+        out.putInt(game.getSpawnManager() == null ? 0 : game.getSpawnManager().getSpawnTimer());
+
+        int width = board.getWidth();
+        out.putInt(width);
+        out.putInt(board.getHeight());
+        out.putInt(board.getStartCell().getY() * width + board.getStartCell().getX());
+        out.putInt(board.getExitCell().getY() * width + board.getExitCell().getX());
+        out.putInt(walls.length);
+        out.asLongBuffer().put(walls);
+        out.position(out.position() + walls.length * 8);
+
+        putBytes(out, name);
+        out.putInt(player.getX());
+        out.putInt(player.getY());
+        out.putInt(player.getHealth());
+        out.putInt(player.getDamageTaken());
+        Sword sword = player.getCurrentSword();
+        out.put((byte) (sword instanceof SteelSword ? 1 : sword == null ? 0 : 2));
+        out.putInt(sword == null ? 0 : sword.getBaseDamage());
+
+        out.putInt(enemies.size());
+        for (Enemy enemy : enemies) {
+            Cell cell = board.getCell(enemy.getX(), enemy.getY());
+            out.put((byte) (enemy instanceof HumanEnemy ? 1 : 0));
+            out.putInt(enemy.getX());
+            out.putInt(enemy.getY());
+            out.putInt(enemy.getHealth());
+            out.putInt(enemy.getDamage());
+            out.put((byte) enemy.getCurrentState().ordinal());
+            out.put((byte) (cell != null && cell.getEnemy() == enemy ? 1 : 0));
+            MovementStrategy strategy = enemy.getMovementStrategy();
+            if (strategy instanceof SmartEnemyStrategy) {
+                out.put((byte) 1);
+                putRandom(out, ((SmartEnemyStrategy) strategy).getRandom());
+            } else {
+                out.put((byte) (strategy instanceof ChaseMovementStrategy ? 2 : 0));
+                out.putLong(0L);
+                out.putLong(0L);
+            }
+        }
+
+        Map<Reward, Integer> rewardIndex = new IdentityHashMap<>();
+        out.putInt(rewards.size());
+        for (Reward reward : rewards) {
+            rewardIndex.put(reward, rewardIndex.size());
+            Cell cell = board.getCell(reward.getX(), reward.getY());
+            boolean bonus = reward instanceof BonusReward;
+            out.put((byte) (bonus ? 1 : 0));
+            out.putInt(reward.getX());
+            out.putInt(reward.getY());
+            out.putInt(reward.getScoreValue());
+            int flags = (reward.isCollected() ? 1 : 0) | (cell != null && cell.getReward() == reward ? 2 : 0)
+                | (bonus && ((BonusReward) reward).isExpired() ? 4 : 0);
+            out.put((byte) flags);
+            out.putInt(bonus ? ((BonusReward) reward).getDuration() : 0);
+            out.putInt(bonus ? game.getBonusTicksLeft((BonusReward) reward) : 0);
+        }
+
+        out.putInt(active.size());
+        for (BonusReward bonus : active) {
+            Integer index = rewardIndex.get(bonus);
+            if (index == null) {
+                throw new IllegalStateException("Active bonus reward is not in the reward list");
+            }
+            out.putInt(index);
+        }
+
+        out.putInt(traps.size());
+        for (Punishment trap : traps) {
+            Cell cell = board.getCell(trap.getX(), trap.getY());
+            out.putInt(trap.getX());
+            out.putInt(trap.getY());
+            out.putInt(trap.getPenaltyValue());
+            out.put((byte) ((trap.isActive() ? 1 : 0) | (cell != null && cell.getPunishment() == trap ? 2 : 0)));
+            out.putInt(game.getTrapCooldownLeft(trap));
+        }
+
+        out.flip();
+        return out;
+    }
+
+    /**
+     * Decodes a snapshot into a game. Nothing in the game changes unless
+     * the whole snapshot decodes. The caller holds the game's lock.
+     *
+     * @param source the snapshot bytes, from its position to its limit
+     * @param game the game to restore
+     * @throws IllegalArgumentException if the snapshot is malformed
+     */
+    static void read(ByteBuffer source, Game game) {
+        ByteBuffer in = source.duplicate();
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a game snapshot");
+            }
+            short version = in.getShort();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot version " + version);
+            }
+            in.getShort(); // flags
+
+            GameRandom sessionRandom = getRandom(in);
+            long seed = in.getLong();
+            int streamCount = in.getInt();
+            if (streamCount != RandomSource.Stream.values().length) {
+                throw new IllegalArgumentException("Corrupt snapshot: " + streamCount + " random streams");
+            }
+            GameRandom[] streams = new GameRandom[streamCount];
+            for (int i = 0; i < streamCount; i++) {
+                streams[i] = getRandom(in);
+            }
+            RandomSource random = RandomSource.restore(seed, streams);
+            byte[] mapIdBytes = getBytes(in);
+            String mapId = mapIdBytes == null ? null : new String(mapIdBytes, StandardCharsets.UTF_8);
+
+            long tickCount = in.getLong();
+            GameState state = STATES[checkOrdinal(in.get(), STATES.length, "game state")];
+            int score = in.getInt();
+            int kills = in.getInt();
+            int requiredRewards = in.getInt();
+            int rewardsCollected = in.getInt();
+            int bonusTicksRemaining = in.getInt();
+            int spawnTimer = in.getInt();
+
+            int width = in.getInt();
+            int height = in.getInt();
+            if (width <= 0 || height <= 0 || (long) width * height > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Corrupt snapshot: board size " + width + "x" + height);
+            }
+            int tiles = width * height;
+            int start = checkIndex(in.getInt(), tiles, "start");
+            int exit = checkIndex(in.getInt(), tiles, "exit");
+            int wordCount = in.getInt();
+            if (wordCount < 0 || wordCount > (tiles + 63) / 64) {
+                throw new IllegalArgumentException("Corrupt snapshot: " + wordCount + " wall words");
+            }
+            LongBuffer wallSection = in.slice().asLongBuffer();
+            wallSection.limit(wordCount);
+            BitSet walls = BitSet.valueOf(wallSection);
+            in.position(in.position() + wordCount * 8);
+            Board board = new Board(random.get(RandomSource.Stream.BOARD));
+            board.restore(width, height, walls, start, exit);
+
+            byte[] nameBytes = getBytes(in);
+            String name = nameBytes == null ? null : new String(nameBytes, StandardCharsets.UTF_8);
+            int playerX = in.getInt();
+            int playerY = in.getInt();
+            checkTile(board, playerX, playerY, "player");
+            int health = in.getInt();
+            int damageTaken = in.getInt();
+            int swordCode = checkOrdinal(in.get(), 3, "sword");
+            int swordDamage = in.getInt();
+
+            int enemyCount = checkCount(in.getInt(), in.remaining() / ENEMY_BYTES, "enemy");
+            List<Enemy> enemies = new ArrayList<>(enemyCount);
+            for (int i = 0; i < enemyCount; i++) {
+                int kind = checkOrdinal(in.get(), 2, "enemy kind");
+                int x = in.getInt();
+                int y = in.getInt();
+                int enemyHealth = in.getInt();
+                int damage = in.getInt();
+                AIState aiState = AI_STATES[checkOrdinal(in.get(), AI_STATES.length, "AI state")];
+                boolean onBoard = in.get() != 0;
+                int strategy = checkOrdinal(in.get(), 3, "strategy");
+                GameRandom strategyRandom = strategy == 1 ? getRandom(in) : skipRandom(in);
+
+                Enemy enemy = kind == 1
+                    ? new HumanEnemy(x, y, damage, enemyHealth)
+                    : new Monster(x, y, damage, enemyHealth);
+                enemy.setHealth(enemyHealth);
+                enemy.setCurrentState(aiState);
+                if (strategy == 1) {
+                    enemy.setMovementStrategy(new SmartEnemyStrategy(strategyRandom));
+                } else if (strategy == 2) {
+                    enemy.setMovementStrategy(new ChaseMovementStrategy());
+                }
+                if (onBoard) {
+                    checkTile(board, x, y, "enemy").setEnemy(enemy);
+                }
+                enemies.add(enemy);
+            }
+
+            int rewardCount = checkCount(in.getInt(), in.remaining() / REWARD_BYTES, "reward");
+            List<Reward> rewards = new ArrayList<>(rewardCount);
+            for (int i = 0; i < rewardCount; i++) {
+                boolean bonus = checkOrdinal(in.get(), 2, "reward kind") == 1;
+                int x = in.getInt();
+                int y = in.getInt();
+                int value = in.getInt();
+                int flags = in.get();
+                int duration = in.getInt();
+                int ticksRemaining = in.getInt();
+
+                Reward reward;
+                if (bonus) {
+                    BonusReward bonusReward = new BonusReward(x, y, value, duration);
+                    bonusReward.restoreTimer(ticksRemaining, (flags & 4) != 0);
+                    reward = bonusReward;
+                } else {
+                    reward = new RegularReward(x, y, value);
+                }
+                reward.setCollected((flags & 1) != 0);
+                if ((flags & 2) != 0) {
+                    checkTile(board, x, y, "reward").setReward(reward);
+                }
+                rewards.add(reward);
+            }
+
+            int activeCount = checkCount(in.getInt(), rewardCount, "active bonus");
+            List<BonusReward> active = new ArrayList<>(activeCount);
+            for (int i = 0; i < activeCount; i++) {
+                int index = checkIndex(in.getInt(), rewardCount, "active bonus");
+                if (!(rewards.get(index) instanceof BonusReward)) {
+                    throw new IllegalArgumentException("Corrupt snapshot: active bonus " + index + " is not a bonus");
+                }
+                active.add((BonusReward) rewards.get(index));
+            }
+
+            int trapCount = checkCount(in.getInt(), in.remaining() / TRAP_BYTES, "trap");
+            List<Punishment> traps = new ArrayList<>(trapCount);
+            for (int i = 0; i < trapCount; i++) {
+                int x = in.getInt();
+                int y = in.getInt();
+                int penalty = in.getInt();
+                int flags = in.get();
+                int cooldown = in.getInt();
+
+                Punishment trap = new Punishment(x, y, penalty);
+                trap.restoreCooldown((flags & 1) != 0, cooldown);
+                if ((flags & 2) != 0) {
+                    checkTile(board, x, y, "trap").setPunishment(trap);
+                }
+                traps.add(trap);
+            }
+
+            // Everything decoded: only now touch the game
+            Player player = game.getPlayer();
+            if (player == null) {
+                player = new Player(name, playerX, playerY);
+                player.setMovementStrategy(new PlayerMovementStrategy());
+            } else {
+                player.setX(playerX);
+                player.setY(playerY);
+            }
+            player.setHealth(health);
+            player.setDamageTaken(damageTaken);
+            player.setCurrentSword(swordCode == 0 ? null
+                : swordCode == 1 ? new SteelSword(swordDamage) : new SilverSword(swordDamage));
+
+            game.restore(sessionRandom, random, board, mapId, tickCount, state, score, kills,
+                requiredRewards, rewardsCollected, bonusTicksRemaining, spawnTimer, player,
+                enemies, rewards, active, traps);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Corrupt snapshot: data is truncated", e);
+        }
+    }
+
+    /**
+     * Writes encoded snapshot bytes to a file, replacing any existing file.
+     */
+    static void writeFile(ByteBuffer snapshot, Path file) throws IOException {
+        ByteBuffer data = snapshot.duplicate();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        }
+    }
+
+    /**
+     * Reads a snapshot file into a direct buffer.
+     *
+     * <p>Snapshots are small, so the file is copied rather than mapped; a
+     * live mapping would keep the file locked on Windows and stop the save
+     * from being deleted after it is resumed.</p>
+     */
+    static ByteBuffer readFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Corrupt snapshot: file is too large");
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) break;
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    private static void putRandom(ByteBuffer out, GameRandom random) {
+        out.putLong(random.getSeedState());
+        out.putLong(random.getGamma());
+    }
+
+    private static GameRandom getRandom(ByteBuffer in) {
+        long seedState = in.getLong();
+        long gamma = in.getLong();
+        try {
+            return GameRandom.restore(seedState, gamma);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Corrupt snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    private static GameRandom skipRandom(ByteBuffer in) {
+        in.position(in.position() + 16);
+        return null;
+    }
+
+    private static void putBytes(ByteBuffer out, byte[] bytes) {
+        if (bytes == null) {
+            out.putInt(-1);
+        } else {
+            out.putInt(bytes.length);
+            out.put(bytes);
+        }
+    }
+
+    private static byte[] getBytes(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == -1) return null;
+        byte[] bytes = new byte[checkCount(length, in.remaining(), "string byte")];
+        in.get(bytes);
+        return bytes;
+    }
+
+    private static int checkOrdinal(byte value, int limit, String what) {
+        if (value < 0 || value >= limit) {
+            throw new IllegalArgumentException("Corrupt snapshot: unknown " + what + " " + value);
+        }
+        return value;
+    }
+
+    private static int checkCount(int count, int limit, String what) {
+        if (count < 0 || count > limit) {
+            throw new IllegalArgumentException("Corrupt snapshot: " + count + " " + what + " entries");
+        }
+        return count;
+    }
+
+    private static int checkIndex(int index, int limit, String what) {
+        if (index < 0 || index >= limit) {
+            throw new IllegalArgumentException("Corrupt snapshot: " + what + " index " + index + " out of range");
+        }
+        return index;
+    }
+
+    private static Cell checkTile(Board board, int x, int y, String what) {
+        Cell cell = board.getCell(x, y);
+        if (cell == null) {
+            throw new IllegalArgumentException("Corrupt snapshot: " + what + " at (" + x + ", " + y + ") is off the board");
+        }
+        return cell;
+    }
+}
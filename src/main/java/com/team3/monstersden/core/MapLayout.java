@@ -0,0 +1,353 @@
+package com.team3.monstersden.core;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import com.team3.monstersden.util.GameLog;
+
+/**
+ * Immutable dungeon layout: dimensions, walls, start, exit and optional
+ * fixed entity placements, read from a text or binary map.
+ *
+ * <p>Text maps use one character per tile: {@code #} wall, {@code .} floor,
+ * {@code S} start, {@code E} exit, and optionally {@code M} monster,
+ * {@code H} human, {@code $} reward, {@code *} bonus reward and {@code X}
+ * trap. Blank lines and lines starting with {@code //} are skipped.</p>
+ *
+ * <p>Binary maps (version {@value #VERSION}) are big-endian:
+ * <pre>
+ * int    magic  "MDEN"
+ * short  version
+ * short  flags (reserved, 0)
+ * int    width
+ * int    height
+ * byte[] walls, one bit per tile in index order, ceil(width * height / 8) bytes
+ * int    start tile index
+ * int    exit tile index
+ * int    placement count, then per placement: byte kind, int tile index
+ * </pre>
+ * Tile indexes are {@code y * width + x}. Files are read through a
+ * memory-mapped FileChannel and the wall section is copied into a BitSet in
+ * one bulk operation, so loading costs little more than the file read.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class MapLayout {
+
+    /**
+     * Entities a map can place at fixed tiles. New kinds go at the end,
+     * since the binary format stores the ordinal.
+     */
+    public enum Placement { MONSTER, HUMAN, REWARD, BONUS, TRAP }
+
+    /** First four bytes of a binary map: "MDEN" */
+    public static final int MAGIC = 0x4D44454E;
+
+    /** Binary format version written by this class */
+    public static final short VERSION = 1;
+
+    /** Largest tile count accepted, to reject corrupt headers early */
+    public static final int MAX_TILES = 1 << 26;
+
+    private static final Placement[] PLACEMENTS = Placement.values();
+
+    private final int width;
+    private final int height;
+    private final BitSet walls;
+    private final int startIndex;
+    private final int exitIndex;
+    private final Placement[] placementKinds;
+    private final int[] placementIndexes;
+
+    private MapLayout(int width, int height, BitSet walls, int startIndex, int exitIndex,
+                      Placement[] placementKinds, int[] placementIndexes) {
+        this.width = width;
+        this.height = height;
+        this.walls = walls;
+        this.startIndex = startIndex;
+        this.exitIndex = exitIndex;
+        this.placementKinds = placementKinds;
+        this.placementIndexes = placementIndexes;
+    }
+
+    /**
+     * Wraps generated walls as a layout without placements.
+     *
+     * @param walls wall bits, owned by the layout from now on
+     * @throws IllegalArgumentException if the size exceeds {@link #MAX_TILES}
+     */
+    static MapLayout of(int width, int height, BitSet walls, int startIndex, int exitIndex) {
+        checkSize(width, height);
+        return new MapLayout(width, height, walls, startIndex, exitIndex, new Placement[0], new int[0]);
+    }
+
+    /**
+     * Parses a text map.
+     *
+     * @param rawLines the file's lines, including any blank or comment lines
+     * @return the parsed layout
+     * @throws IllegalArgumentException if rows differ in width or start or exit is missing
+     */
+    public static MapLayout parseText(List<String> rawLines) {
+        List<String> lines = new ArrayList<>(rawLines.size());
+        for (String line : rawLines) {
+            if (!line.trim().isEmpty() && !line.startsWith("//")) {
+                lines.add(line);
+            }
+        }
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("Map has no rows");
+        }
+
+        int height = lines.size();
+        int width = lines.get(0).length();
+        for (String line : lines) {
+            if (line.length() != width) {
+                throw new IllegalArgumentException("Map rows must have equal width");
+            }
+        }
+        checkSize(width, height);
+
+        BitSet walls = new BitSet(width * height);
+        int start = -1;
+        int exit = -1;
+        List<Placement> kinds = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int y = 0; y < height; y++) {
+            String line = lines.get(y);
+            for (int x = 0; x < width; x++) {
+                int index = y * width + x;
+                char c = line.charAt(x);
+                Placement placement = null;
+
+                switch (c) {
+                    case '#': walls.set(index); break;
+                    case 'S': start = index; break;
+                    case 'E': exit = index; break;
+                    case '.': break;
+                    case 'M': placement = Placement.MONSTER; break;
+                    case 'H': placement = Placement.HUMAN; break;
+                    case '$': placement = Placement.REWARD; break;
+                    case '*': placement = Placement.BONUS; break;
+                    case 'X': placement = Placement.TRAP; break;
+                    default:
+                        // Treat unknown characters as empty
+                        GameLog.warn("Unknown map character '{}' at ({}, {}), treating as empty", c, x, y);
+                        break;
+                }
+                if (placement != null) {
+                    kinds.add(placement);
+                    indexes.add(index);
+                }
+            }
+        }
+
+        if (start < 0) {
+            throw new IllegalArgumentException("Map must contain a start position (S)");
+        }
+        if (exit < 0) {
+            throw new IllegalArgumentException("Map must contain an exit position (E)");
+        }
+
+        int[] placementIndexes = new int[indexes.size()];
+        for (int i = 0; i < placementIndexes.length; i++) {
+            placementIndexes[i] = indexes.get(i);
+        }
+        return new MapLayout(width, height, walls, start, exit,
+            kinds.toArray(new Placement[0]), placementIndexes);
+    }
+
+    /**
+     * Reads a map file of either format through a memory-mapped channel.
+     *
+     * @param file the map file
+     * @return the parsed layout
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the map is malformed
+     */
+    public static MapLayout read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        }
+    }
+
+    /**
+     * Parses a map of either format from a buffer, telling them apart by the magic number.
+     *
+     * @param buffer the map bytes, from its position to its limit
+     * @return the parsed layout
+     * @throws IllegalArgumentException if the map is malformed
+     */
+    public static MapLayout read(ByteBuffer buffer) {
+        if (isBinary(buffer)) {
+            return readBinary(buffer);
+        }
+        String text = StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+        return parseText(Arrays.asList(text.split("\r?\n")));
+    }
+
+    /**
+     * Checks whether a buffer starts with the binary map magic number.
+     *
+     * @param buffer the map bytes; its position is not changed
+     * @return true for a binary map
+     */
+    public static boolean isBinary(ByteBuffer buffer) {
+        return buffer.remaining() >= 4 && buffer.getInt(buffer.position()) == MAGIC;
+    }
+
+    private static MapLayout readBinary(ByteBuffer source) {
+        ByteBuffer in = source.duplicate();
+        try {
+            in.getInt(); // magic
+            short version = in.getShort();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported map version " + version);
+            }
+            in.getShort(); // flags
+            int width = in.getInt();
+            int height = in.getInt();
+            checkSize(width, height);
+            int tiles = width * height;
+
+            int wallBytes = (tiles + 7) / 8;
+            ByteBuffer wallSection = in.slice();
+            wallSection.limit(wallBytes);
+            BitSet walls = BitSet.valueOf(wallSection);
+            in.position(in.position() + wallBytes);
+
+            int start = checkIndex(in.getInt(), tiles, "start");
+            int exit = checkIndex(in.getInt(), tiles, "exit");
+
+            int count = in.getInt();
+            if (count < 0 || count > tiles) {
+                throw new IllegalArgumentException("Corrupt map: " + count + " placements");
+            }
+            Placement[] kinds = new Placement[count];
+            int[] indexes = new int[count];
+            for (int i = 0; i < count; i++) {
+                int kind = in.get() & 0xFF;
+                if (kind >= PLACEMENTS.length) {
+                    throw new IllegalArgumentException("Corrupt map: unknown placement kind " + kind);
+                }
+                kinds[i] = PLACEMENTS[kind];
+                indexes[i] = checkIndex(in.getInt(), tiles, "placement");
+            }
+            return new MapLayout(width, height, walls, start, exit, kinds, indexes);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Corrupt map: file is truncated", e);
+        }
+    }
+
+    private static void checkSize(int width, int height) {
+        if (width <= 0 || height <= 0 || (long) width * height > MAX_TILES) {
+            throw new IllegalArgumentException("Invalid map size " + width + "x" + height);
+        }
+    }
+
+    private static int checkIndex(int index, int tiles, String what) {
+        if (index < 0 || index >= tiles) {
+            throw new IllegalArgumentException("Corrupt map: " + what + " index " + index + " out of range");
+        }
+        return index;
+    }
+
+    /**
+     * Encodes the layout in the binary format.
+     *
+     * @return a buffer positioned at 0 holding the whole map
+     */
+    public ByteBuffer toBinary() {
+        int tiles = width * height;
+        int wallBytes = (tiles + 7) / 8;
+        ByteBuffer out = ByteBuffer.allocate(4 + 2 + 2 + 4 + 4 + wallBytes + 4 + 4 + 4 + (placementKinds.length * 5));
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putShort((short) 0);
+        out.putInt(width);
+        out.putInt(height);
+        byte[] packed = walls.toByteArray();
+        out.put(packed);
+        out.position(out.position() + (wallBytes - packed.length)); // toByteArray drops trailing zero bytes
+        out.putInt(startIndex);
+        out.putInt(exitIndex);
+        out.putInt(placementKinds.length);
+        for (int i = 0; i < placementKinds.length; i++) {
+            out.put((byte) placementKinds[i].ordinal());
+            out.putInt(placementIndexes[i]);
+        }
+        out.flip();
+        return out;
+    }
+
+    /**
+     * Writes the layout to a file in the binary format, replacing any existing file.
+     *
+     * @param file destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeBinary(Path file) throws IOException {
+        ByteBuffer data = toBinary();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        }
+    }
+
+    /** @return number of columns */
+    public int getWidth() { return width; }
+
+    /** @return number of rows */
+    public int getHeight() { return height; }
+
+    /**
+     * @param index tile index
+     * @return true if the tile is a wall
+     */
+    public boolean isWall(int index) { return walls.get(index); }
+
+    /** @return a copy of the wall bits, one per tile index */
+    public BitSet getWalls() { return (BitSet) walls.clone(); }
+
+    /**
+     * Returns the wall bits themselves, for boards that share them
+     * copy-on-write. Callers must never modify the result.
+     */
+    BitSet sharedWalls() { return walls; }
+
+    /** @return tile index of the start */
+    public int getStartIndex() { return startIndex; }
+
+    /** @return tile index of the exit */
+    public int getExitIndex() { return exitIndex; }
+
+    /** @return number of fixed entity placements */
+    public int getPlacementCount() { return placementKinds.length; }
+
+    /**
+     * @param i placement number, below {@link #getPlacementCount()}
+     * @return what is placed
+     */
+    public Placement getPlacement(int i) { return placementKinds[i]; }
+
+    /**
+     * @param i placement number, below {@link #getPlacementCount()}
+     * @return tile index it is placed on
+     */
+    public int getPlacementIndex(int i) { return placementIndexes[i]; }
+}
@@ -0,0 +1,163 @@
+package com.team3.monstersden.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of parsed {@link MapLayout}s, shared by all game sessions.
+ *
+ * <p>Layouts are immutable, so one parsed copy can back any number of
+ * boards: {@link Board#loadLayout(MapLayout)} shares the wall bits
+ * copy-on-write instead of copying them. Each entry remembers the
+ * last-modified time of the file it was read from and is re-read when that
+ * changes, so an edited map is picked up on the next game without a
+ * restart.</p>
+ *
+ * <p>All methods are synchronized. A miss reads the file while holding the
+ * lock, so sessions starting on the same map at once parse it only once.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class MapTemplateCache {
+
+    private static final MapTemplateCache SHARED = new MapTemplateCache(GameConfig.MAP_CACHE_SIZE);
+
+    /** A cached layout and the timestamp of the file it came from */
+    private static final class CachedLayout {
+        final long lastModified;
+        final MapLayout layout;
+
+        CachedLayout(long lastModified, MapLayout layout) {
+            this.lastModified = lastModified;
+            this.layout = layout;
+        }
+    }
+
+    private final int capacity;
+    private final LinkedHashMap<String, CachedLayout> entries;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity maximum number of layouts kept
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public MapTemplateCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<String, CachedLayout>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedLayout> eldest) {
+                return size() > MapTemplateCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache used by {@link Board#loadMap(String)}.
+     *
+     * @return the process-wide cache
+     */
+    public static MapTemplateCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the layout of a map in the classpath {@code maps/} directory,
+     * reading it only if it is not cached or its file has changed.
+     *
+     * @param name file name within {@code maps/}
+     * @return the parsed layout
+     * @throws IOException if the map cannot be found or read
+     * @throws IllegalArgumentException if the map is malformed
+     */
+    public synchronized MapLayout get(String name) throws IOException {
+        URL url = MapTemplateCache.class.getClassLoader().getResource("maps/" + name);
+        if (url == null) {
+            throw new IOException("Map file not found on the classpath: maps/" + name);
+        }
+
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return lookup("maps/" + name, Paths.get(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException("Bad map location: " + url, e);
+            }
+        }
+
+        // Packaged in a JAR: not mappable, so read it into memory
+        URLConnection connection = url.openConnection();
+        long lastModified = connection.getLastModified();
+        CachedLayout entry = entries.get("maps/" + name);
+        if (entry != null && entry.lastModified == lastModified) {
+            hits++;
+            return entry.layout;
+        }
+        misses++;
+        MapLayout layout;
+        try (InputStream is = connection.getInputStream()) {
+            layout = MapLayout.read(ByteBuffer.wrap(is.readAllBytes()));
+        }
+        entries.put("maps/" + name, new CachedLayout(lastModified, layout));
+        return layout;
+    }
+
+    /**
+     * Returns the layout of a map file on the file system, reading it only
+     * if it is not cached or the file has changed.
+     *
+     * @param file the map file
+     * @return the parsed layout
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the map is malformed
+     */
+    public synchronized MapLayout get(Path file) throws IOException {
+        return lookup(file.toAbsolutePath().normalize().toString(), file);
+    }
+
+    private MapLayout lookup(String key, Path file) throws IOException {
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        CachedLayout entry = entries.get(key);
+        if (entry != null && entry.lastModified == lastModified) {
+            hits++;
+            return entry.layout;
+        }
+        misses++;
+        MapLayout layout = MapLayout.read(file);
+        entries.put(key, new CachedLayout(lastModified, layout));
+        return layout;
+    }
+
+    /**
+     * Drops every cached layout. Boards already built from them are unaffected.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /** @return number of layouts currently cached */
+    public synchronized int size() { return entries.size(); }
+
+    /** @return maximum number of layouts kept */
+    public int getCapacity() { return capacity; }
+
+    /** @return lookups answered from the cache */
+    public synchronized long getHits() { return hits; }
+
+    /** @return lookups that had to read the file */
+    public synchronized long getMisses() { return misses; }
+}
@@ -0,0 +1,9 @@
+package com.team3.monstersden.core;
+
+/**
+ * What a {@link TickScheduler} does when ticks fall behind the wall clock.
+ */
+public enum OverrunPolicy {
+    CATCH_UP,   // Run missed ticks back to back (bounded) to keep the tick count in step with time
+    SKIP        // Drop missed ticks and resume at the next tick boundary
+}
@@ -0,0 +1,95 @@
+package com.team3.monstersden.core;
+
+/**
+ * Seeded random numbers for one game, split into independent streams per subsystem.
+ *
+ * <p>Every stream is split from a single root seeded with {@link #getSeed()},
+ * so a game is fully reproducible from its seed, and the draws one
+ * subsystem makes never shift the numbers another one sees. Streams are
+ * {@link GameRandom}s, which are not shared between threads and so
+ * never contend. Subsystems that need one stream per object (e.g. each
+ * enemy's strategy) call {@link #split(Stream)}.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class RandomSource {
+
+    /**
+     * Subsystems that draw random numbers. New constants go at the end so
+     * existing streams keep their values for a given seed.
+     */
+    public enum Stream {
+        BOARD,      // Board's own placement draws
+        WORLD,      // Initial placement of enemies, rewards and traps
+        SPAWN,      // Periodic enemy spawning
+        ENEMY_AI    // Parent of each enemy strategy's stream
+    }
+
+    private final long seed;
+    private final GameRandom[] streams;
+
+    /**
+     * Creates the streams for a seed.
+     *
+     * @param seed the game seed
+     */
+    public RandomSource(long seed) {
+        this.seed = seed;
+        GameRandom root = new GameRandom(seed);
+        Stream[] kinds = Stream.values();
+        this.streams = new GameRandom[kinds.length];
+        for (Stream kind : kinds) {
+            streams[kind.ordinal()] = root.split();
+        }
+    }
+
+    private RandomSource(long seed, GameRandom[] streams) {
+        this.seed = seed;
+        this.streams = streams;
+    }
+
+    /**
+     * Recreates the streams of a saved game, one per {@link Stream} in
+     * declaration order.
+     *
+     * @param seed the game seed
+     * @param streams the saved generators
+     * @return a source continuing from the saved streams
+     */
+    static RandomSource restore(long seed, GameRandom[] streams) {
+        if (streams.length != Stream.values().length) {
+            throw new IllegalArgumentException("Expected " + Stream.values().length + " streams");
+        }
+        return new RandomSource(seed, streams.clone());
+    }
+
+    /**
+     * Returns the seed the streams were derived from.
+     *
+     * @return the game seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns a subsystem's stream. Repeated calls return the same generator.
+     *
+     * @param stream the subsystem
+     * @return the subsystem's generator
+     */
+    public GameRandom get(Stream stream) {
+        return streams[stream.ordinal()];
+    }
+
+    /**
+     * Splits a new independent generator off a subsystem's stream.
+     *
+     * @param stream the parent subsystem
+     * @return a new generator
+     */
+    public GameRandom split(Stream stream) {
+        return streams[stream.ordinal()].split();
+    }
+}
@@ -0,0 +1,180 @@
+package com.team3.monstersden.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates and tracks isolated {@link Game} sessions.
+ *
+ * <p>Every session has its own Board, random source, observers and command
+ * queue, so any number of games can run in one process. All sessions tick
+ * on one shared, fixed-size worker pool instead of a thread per game; a
+ * session never has more than one tick in flight, so its state is still
+ * written by one thread at a time.</p>
+ *
+ * <p>{@link Game#getInstance()} is a facade for the default session of the
+ * default registry.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class SessionRegistry {
+
+    private static SessionRegistry defaultRegistry;
+
+    private final ScheduledExecutorService workers;
+    private final Map<Long, Game> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private Game defaultSession;
+
+    /**
+     * Creates a registry whose sessions tick on a pool of the given size.
+     *
+     * @param workerThreads number of threads shared by all sessions
+     */
+    public SessionRegistry(int workerThreads) {
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("Worker thread count must be positive");
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(workerThreads, r -> {
+            Thread t = new Thread(r, "GameWorker-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        pool.setRemoveOnCancelPolicy(true);
+        this.workers = pool;
+    }
+
+    /**
+     * Returns the process-wide registry, sized by GameConfig.SESSION_WORKER_THREADS.
+     *
+     * @return the default registry
+     */
+    public static synchronized SessionRegistry getDefault() {
+        if (defaultRegistry == null) {
+            defaultRegistry = new SessionRegistry(GameConfig.SESSION_WORKER_THREADS);
+        }
+        return defaultRegistry;
+    }
+
+    /**
+     * Creates a session ticking at the configured default rate.
+     *
+     * @return a new, uninitialized game
+     */
+    public Game createSession() {
+        return createSession(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a session ticking at the configured default rate whose world
+     * is generated from the given seed.
+     *
+     * @param seed seed of the session's random source
+     * @return a new, uninitialized game
+     */
+    public Game createSession(long seed) {
+        return createSession(GameConfig.TICK_INTERVAL_MS, GameConfig.TICK_OVERRUN_POLICY, seed);
+    }
+
+    /**
+     * Creates a session ticking at the given rate on the shared pool.
+     *
+     * @param tickIntervalMillis time between ticks
+     * @param policy how to handle ticks that fall behind
+     * @return a new, uninitialized game
+     */
+    public Game createSession(long tickIntervalMillis, OverrunPolicy policy) {
+        return createSession(tickIntervalMillis, policy, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a session ticking at the given rate on the shared pool.
+     *
+     * @param tickIntervalMillis time between ticks
+     * @param policy how to handle ticks that fall behind
+     * @param seed seed of the session's random source
+     * @return a new, uninitialized game
+     */
+    public Game createSession(long tickIntervalMillis, OverrunPolicy policy, long seed) {
+        long id = nextId.getAndIncrement();
+        Game game = new Game(id, new ExecutorTickScheduler(workers, tickIntervalMillis, policy), seed);
+        sessions.put(id, game);
+        return game;
+    }
+
+    /**
+     * Returns the default session, creating it on first use.
+     *
+     * @return the default game
+     */
+    public synchronized Game getDefaultSession() {
+        if (defaultSession == null) {
+            defaultSession = createSession();
+        }
+        return defaultSession;
+    }
+
+    /**
+     * Looks up a session by id.
+     *
+     * @param sessionId the session id
+     * @return the game, or null if no such session is open
+     */
+    public Game getSession(long sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * Stops a session and removes it from the registry.
+     * Closing the default session makes the next getDefaultSession() create a new one.
+     *
+     * @param sessionId the session id
+     * @return true if the session was open
+     */
+    public boolean closeSession(long sessionId) {
+        Game game = sessions.remove(sessionId);
+        if (game == null) return false;
+        game.close();
+        synchronized (this) {
+            if (defaultSession == game) defaultSession = null;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the open sessions.
+     *
+     * @return snapshot of the open sessions
+     */
+    public Collection<Game> getSessions() {
+        return new ArrayList<>(sessions.values());
+    }
+
+    /**
+     * Returns the number of open sessions.
+     *
+     * @return open session count
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Closes every session and stops the worker pool.
+     */
+    public void shutdown() {
+        for (Long id : new ArrayList<>(sessions.keySet())) {
+            closeSession(id);
+        }
+        workers.shutdown();
+    }
+}
@@ -3,10 +3,11 @@ package com.team3.monstersden.core;
 import com.team3.monstersden.characters.Enemy;
 import com.team3.monstersden.characters.HumanEnemy;
 import com.team3.monstersden.characters.Monster;
+import com.team3.monstersden.characters.Player;
 import com.team3.monstersden.patterns.strategy.SmartEnemyStrategy;
+import com.team3.monstersden.util.GameLog;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * Manages the spawning of enemies in the game at periodic intervals
@@ -14,7 +15,7 @@ import java.util.Random;
 public class SpawnManager {
     private Game game;
     private int spawnTimer;
-    private Random random;
+    private GameRandom random;
 
     /**
      * Constructor for SpawnManager for the Game
@@ -23,7 +24,7 @@ public class SpawnManager {
     public SpawnManager(Game game) {
         this.game = game;
         this.spawnTimer = 0;
-        this.random = new Random();
+        this.random = game.getRandomSource().get(RandomSource.Stream.SPAWN);
     }
 
     /**
@@ -39,7 +40,23 @@ public class SpawnManager {
     }
 
     /**
-     * Attempts to spawn a new enemy on a random walkable and empty cell.
+     * Returns the ticks counted toward the next spawn attempt.
+     */
+    int getSpawnTimer() {
+        return spawnTimer;
+    }
+
+    /**
+     * Restores the spawn timer saved in a game snapshot.
+     */
+    void setSpawnTimer(int spawnTimer) {
+        this.spawnTimer = spawnTimer;
+    }
+
+    /**
+     * Attempts to spawn a new enemy on a random walkable and empty cell
+     * that the player can reach. The cell is drawn from the board's
+     * free-cell index in logarithmic time.
      */
     private void attemptSpawn() {
         Board board = game.getBoard();
@@ -47,28 +64,25 @@ public class SpawnManager {
 
         if (enemies.size() >= GameConfig.MAX_ACTIVE_ENEMIES) return;
 
-        int attempts = 0;
-        while (attempts < 10) {
-            int x = random.nextInt(board.getWidth());
-            int y = random.nextInt(board.getHeight());
-            Cell cell = board.getCell(x, y);
+        // Free-cell index guarantees a valid cell whenever one exists;
+        // cells the player cannot reach are skipped, since their enemy could never chase
+        Player player = game.getPlayer();
+        Cell from = player == null ? board.getStartCell() : board.getCell(player.getX(), player.getY());
+        Cell cell = board.getRandomEmptyCellReachableFrom(from, random);
+        if (cell == null) return;
 
-            if (cell != null && cell.isWalkable() && cell.isEmpty() && !cell.isStart() && !cell.isExit()) {
-                Enemy newEnemy;
-                // PASSING 4 ARGUMENTS HERE:
-                if (random.nextBoolean()) {
-                    newEnemy = new Monster(x, y, GameConfig.MONSTER_DAMAGE, GameConfig.MONSTER_MAX_HP);
-                } else {
-                    newEnemy = new HumanEnemy(x, y, GameConfig.HUMAN_DAMAGE, GameConfig.HUMAN_MAX_HP);
-                }
-                
-                newEnemy.setMovementStrategy(new SmartEnemyStrategy());
-                cell.setEnemy(newEnemy);
-                enemies.add(newEnemy);
-                System.out.println("Spawned " + newEnemy.getClass().getSimpleName() + " at (" + x + "," + y + ")");
-                return;
-            }
-            attempts++;
+        int x = cell.getX();
+        int y = cell.getY();
+        Enemy newEnemy;
+        if (random.nextBoolean()) {
+            newEnemy = new Monster(x, y, GameConfig.MONSTER_DAMAGE, GameConfig.MONSTER_MAX_HP);
+        } else {
+            newEnemy = new HumanEnemy(x, y, GameConfig.HUMAN_DAMAGE, GameConfig.HUMAN_MAX_HP);
         }
+
+        newEnemy.setMovementStrategy(new SmartEnemyStrategy(game.getRandomSource().split(RandomSource.Stream.ENEMY_AI)));
+        cell.setEnemy(newEnemy);
+        enemies.add(newEnemy);
+        GameLog.info("Spawned {} at ({},{})", newEnemy.getClass().getSimpleName(), x, y);
     }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.team3.monstersden.core;
+
+import java.util.Arrays;
+
+/**
+ * Records tick durations, overruns, skipped ticks and start lag.
+ *
+ * <p>Durations go into a fixed ring of the most recent {@value #WINDOW} ticks,
+ * so recording never allocates; percentiles are computed only when a
+ * {@link TickStats} snapshot is requested.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class TickMetrics {
+
+    /** Number of recent tick durations kept for percentiles */
+    static final int WINDOW = 1024;
+
+    private final long[] durations = new long[WINDOW];
+    private long ticks;
+    private long overruns;
+    private long skipped;
+    private long totalNanos;
+    private long maxNanos;
+    private long lagNanos;
+    private long maxLagNanos;
+
+    /**
+     * Records one executed tick.
+     *
+     * @param durationNanos how long the tick took
+     * @param lagNanos how late it started relative to its scheduled time
+     * @param intervalNanos the tick interval, used to detect overruns
+     */
+    public synchronized void recordTick(long durationNanos, long lagNanos, long intervalNanos) {
+        durations[(int) (ticks % WINDOW)] = durationNanos;
+        ticks++;
+        totalNanos += durationNanos;
+        maxNanos = Math.max(maxNanos, durationNanos);
+        if (durationNanos > intervalNanos) {
+            overruns++;
+        }
+        this.lagNanos = lagNanos;
+        maxLagNanos = Math.max(maxLagNanos, lagNanos);
+    }
+
+    /**
+     * Records due ticks that were dropped.
+     *
+     * @param count number of ticks dropped
+     */
+    public synchronized void recordSkipped(long count) {
+        skipped += count;
+    }
+
+    /**
+     * Clears all recorded data.
+     */
+    public synchronized void reset() {
+        ticks = 0;
+        overruns = 0;
+        skipped = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+        lagNanos = 0;
+        maxLagNanos = 0;
+    }
+
+    /**
+     * Builds an immutable snapshot of the recorded data.
+     *
+     * @return current statistics
+     */
+    public synchronized TickStats snapshot() {
+        int n = (int) Math.min(ticks, WINDOW);
+        long[] window = Arrays.copyOf(durations, n);
+        Arrays.sort(window);
+        return new TickStats(ticks, overruns, skipped,
+            ticks == 0 ? 0 : totalNanos / ticks,
+            percentile(window, 0.50), percentile(window, 0.95), percentile(window, 0.99),
+            maxNanos, lagNanos, maxLagNanos);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(rank, sorted.length - 1))];
+    }
+}
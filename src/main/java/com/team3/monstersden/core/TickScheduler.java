@@ -0,0 +1,46 @@
+package com.team3.monstersden.core;
+
+/**
+ * Drives a game's tick callback at a fixed rate.
+ * Implementations decide which thread runs the ticks and how missed ticks are
+ * handled, and record per-tick timings that can be polled at any time.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public interface TickScheduler {
+
+    /**
+     * Starts calling {@code tick} at the scheduler's rate, replacing any
+     * callback that is already running.
+     *
+     * @param tick the work to perform on every tick
+     */
+    void start(Runnable tick);
+
+    /**
+     * Stops ticking. Safe to call from inside a tick.
+     */
+    void stop();
+
+    /**
+     * Checks whether ticks are currently being scheduled.
+     *
+     * @return true between start() and stop()
+     */
+    boolean isRunning();
+
+    /**
+     * Returns the time between two ticks.
+     *
+     * @return tick interval in milliseconds
+     */
+    long getTickIntervalMillis();
+
+    /**
+     * Returns a snapshot of tick timings since the last start().
+     *
+     * @return current tick statistics
+     */
+    TickStats getStats();
+}
@@ -0,0 +1,75 @@
+package com.team3.monstersden.core;
+
+/**
+ * Immutable snapshot of tick timings recorded by a {@link TickScheduler}.
+ * Durations and lag are in nanoseconds; percentiles cover the most recent
+ * window of ticks kept by {@link TickMetrics}.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class TickStats {
+
+    private final long ticks;
+    private final long overruns;
+    private final long skippedTicks;
+    private final long meanNanos;
+    private final long p50Nanos;
+    private final long p95Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+    private final long lagNanos;
+    private final long maxLagNanos;
+
+    TickStats(long ticks, long overruns, long skippedTicks, long meanNanos,
+              long p50Nanos, long p95Nanos, long p99Nanos, long maxNanos,
+              long lagNanos, long maxLagNanos) {
+        this.ticks = ticks;
+        this.overruns = overruns;
+        this.skippedTicks = skippedTicks;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p95Nanos = p95Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+        this.lagNanos = lagNanos;
+        this.maxLagNanos = maxLagNanos;
+    }
+
+    /** @return number of ticks executed */
+    public long getTicks() { return ticks; }
+
+    /** @return number of ticks that took longer than the tick interval */
+    public long getOverruns() { return overruns; }
+
+    /** @return number of due ticks that were dropped instead of executed */
+    public long getSkippedTicks() { return skippedTicks; }
+
+    /** @return mean tick duration */
+    public long getMeanNanos() { return meanNanos; }
+
+    /** @return median tick duration */
+    public long getP50Nanos() { return p50Nanos; }
+
+    /** @return 95th percentile tick duration */
+    public long getP95Nanos() { return p95Nanos; }
+
+    /** @return 99th percentile tick duration */
+    public long getP99Nanos() { return p99Nanos; }
+
+    /** @return longest tick duration */
+    public long getMaxNanos() { return maxNanos; }
+
+    /** @return how late the most recent tick started relative to its scheduled time */
+    public long getLagNanos() { return lagNanos; }
+
+    /** @return the largest start lag observed */
+    public long getMaxLagNanos() { return maxLagNanos; }
+
+    @Override
+    public String toString() {
+        return "TickStats[ticks=" + ticks + ", overruns=" + overruns + ", skipped=" + skippedTicks
+            + ", p50=" + p50Nanos / 1000 + "us, p95=" + p95Nanos / 1000 + "us, p99=" + p99Nanos / 1000
+            + "us, max=" + maxNanos / 1000 + "us, lag=" + lagNanos / 1000 + "us]";
+    }
+}
@@ -0,0 +1,179 @@
+package com.team3.monstersden.core;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel keyed by tick number.
+ *
+ * <p>Each timer hangs off slot {@code deadline % slots} in a doubly linked
+ * list, so scheduling and cancelling are constant time and advancing one
+ * tick only visits the timers in one slot. Timers whose deadline is a
+ * later lap of the wheel stay in their slot until it comes round again.
+ * Every key has at most one pending timer; scheduling a key again moves
+ * it. Timers due in the same tick fire in the order they were scheduled,
+ * so a game replays the same way every time.</p>
+ *
+ * <p>Not thread-safe; a wheel belongs to the thread that ticks its game.</p>
+ *
+ * @param <T> type of the keys timers are scheduled for
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+final class TimerWheel<T> {
+
+    private final Timer<T>[] heads;
+    private final Timer<T>[] tails;
+    private final int mask;
+    private final Map<T, Timer<T>> pending = new IdentityHashMap<>();
+    private final List<T> firing = new ArrayList<>();
+    private long now;
+
+    /**
+     * Creates an empty wheel at tick 0.
+     *
+     * @param slots number of slots, rounded up to a power of two
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TimerWheel(int slots) {
+        if (slots <= 0) {
+            throw new IllegalArgumentException("Slot count must be positive");
+        }
+        int size = Integer.highestOneBit(slots);
+        if (size < slots) size <<= 1;
+        this.heads = (Timer<T>[]) new Timer[size];
+        this.tails = (Timer<T>[]) new Timer[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Schedules a key to fire at a tick, replacing its pending timer if any.
+     * A tick that has already been advanced past fires on the next one.
+     *
+     * @param key the key
+     * @param tick tick in which the timer fires
+     */
+    void schedule(T key, long tick) {
+        cancel(key);
+        Timer<T> timer = new Timer<>(key, Math.max(tick, now + 1));
+        int slot = (int) timer.deadline & mask;
+        timer.prev = tails[slot];
+        if (tails[slot] == null) {
+            heads[slot] = timer;
+        } else {
+            tails[slot].next = timer;
+        }
+        tails[slot] = timer;
+        pending.put(key, timer);
+    }
+
+    /**
+     * Cancels a key's pending timer.
+     *
+     * @param key the key
+     * @return true if a timer was pending
+     */
+    boolean cancel(T key) {
+        Timer<T> timer = pending.remove(key);
+        if (timer == null) return false;
+        unlink(timer);
+        return true;
+    }
+
+    /**
+     * Returns the tick in which a key's timer fires.
+     *
+     * @param key the key
+     * @return the deadline, or -1 if the key has no pending timer
+     */
+    long deadline(T key) {
+        Timer<T> timer = pending.get(key);
+        return timer != null ? timer.deadline : -1;
+    }
+
+    /** @return number of pending timers */
+    int size() {
+        return pending.size();
+    }
+
+    /** @return the last tick advanced to */
+    long now() {
+        return now;
+    }
+
+    /**
+     * Drops every timer and moves the wheel to a tick, e.g. when a game
+     * restarts or is loaded from a snapshot.
+     *
+     * @param tick the current tick
+     */
+    void reset(long tick) {
+        for (int i = 0; i <= mask; i++) {
+            heads[i] = null;
+            tails[i] = null;
+        }
+        pending.clear();
+        now = tick;
+    }
+
+    /**
+     * Advances the wheel tick by tick up to the given tick, firing each
+     * timer in the tick it is due. A fired timer is no longer pending when
+     * its key is passed on, so the callback may schedule the key again.
+     *
+     * @param tick tick to advance to
+     * @param onFire receives the key of every timer that fires
+     */
+    void advance(long tick, Consumer<? super T> onFire) {
+        while (now < tick) {
+            now++;
+            // Take the due timers out first, so callbacks can schedule and cancel freely
+            Timer<T> timer = heads[(int) now & mask];
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                if (timer.deadline == now) {
+                    unlink(timer);
+                    pending.remove(timer.key);
+                    firing.add(timer.key);
+                }
+                timer = next;
+            }
+            for (int i = 0; i < firing.size(); i++) {
+                onFire.accept(firing.get(i));
+            }
+            firing.clear();
+        }
+    }
+
+    private void unlink(Timer<T> timer) {
+        int slot = (int) timer.deadline & mask;
+        if (timer.prev == null) {
+            heads[slot] = timer.next;
+        } else {
+            timer.prev.next = timer.next;
+        }
+        if (timer.next == null) {
+            tails[slot] = timer.prev;
+        } else {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    /** One pending timer, a node in its slot's list */
+    private static final class Timer<T> {
+        final T key;
+        final long deadline;
+        Timer<T> prev;
+        Timer<T> next;
+
+        Timer(T key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+}
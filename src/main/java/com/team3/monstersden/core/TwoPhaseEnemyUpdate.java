@@ -0,0 +1,177 @@
+package com.team3.monstersden.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.team3.monstersden.characters.AIState;
+import com.team3.monstersden.characters.Enemy;
+import com.team3.monstersden.characters.Player;
+import com.team3.monstersden.util.Direction;
+import com.team3.monstersden.util.GameLog;
+
+/**
+ * Enemy update for {@link EnemyUpdateMode#TWO_PHASE}.
+ *
+ * <p>Plan: every enemy runs its strategy against the board as it was when
+ * the phase started. Nothing writes to the board or the player until every
+ * plan is in, so plans can run on any thread; batches of
+ * GameConfig.ENEMY_PLAN_BATCH enemies are forked onto the common
+ * fork/join pool. A plan only changes its own enemy (its AI state and its
+ * own random stream), so the plans do not depend on which thread ran them
+ * or in what order.</p>
+ *
+ * <p>Commit, on the tick thread: attackers hit the player, then each
+ * planned step is checked against the starting board. A step may only
+ * enter a walkable tile that was empty at the start of the tick and is not
+ * the player's. When several enemies want the same tile, the one nearest
+ * the player wins, then the one whose tile index is lowest. That order
+ * depends only on positions, never on the enemy list, so a seed always
+ * replays the same way. Since tiles vacated this tick are never entered,
+ * winners cannot collide or swap.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+final class TwoPhaseEnemyUpdate {
+
+    private final int batchSize;
+    private Direction[] plans = new Direction[0];
+
+    /**
+     * Creates an updater.
+     *
+     * @param batchSize enemies planned per fork/join task
+     */
+    TwoPhaseEnemyUpdate(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Plans and commits one tick for living enemies.
+     *
+     * @param board the board
+     * @param player the player
+     * @param enemies the enemies, all alive
+     */
+    void run(Board board, Player player, List<Enemy> enemies) {
+        int count = enemies.size();
+        if (count == 0) return;
+        if (plans.length < count) {
+            plans = new Direction[count];
+        }
+        if (count <= batchSize) {
+            plan(board, player, enemies, 0, count);
+        } else {
+            ForkJoinPool.commonPool().invoke(new PlanTask(board, player, enemies, 0, count));
+        }
+        commit(board, player, enemies, count);
+        Arrays.fill(plans, 0, count, null);
+    }
+
+    private void plan(Board board, Player player, List<Enemy> enemies, int from, int to) {
+        for (int i = from; i < to; i++) {
+            plans[i] = enemies.get(i).move(board, player);
+        }
+    }
+
+    private void commit(Board board, Player player, List<Enemy> enemies, int count) {
+        int width = board.getWidth();
+        int playerX = player.getX();
+        int playerY = player.getY();
+
+        // Enemies whose step enters a tile that was empty at the start of the tick
+        int[] claims = new int[count];
+        int claimCount = 0;
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.getCurrentState() == AIState.ATTACK) {
+                GameLog.debug("{} attacks Player!", enemy.getClass().getSimpleName());
+                player.takeDamage(enemy.getDamage());
+                continue;
+            }
+            Direction dir = plans[i];
+            if (dir == null || dir == Direction.NONE) continue;
+            int nx = enemy.getX() + dir.getDx();
+            int ny = enemy.getY() + dir.getDy();
+            if (!board.isValidMove(nx, ny) || board.hasEnemyAt(nx, ny) || (nx == playerX && ny == playerY)) {
+                continue;
+            }
+            claims[claimCount++] = i;
+        }
+        if (claimCount == 0) return;
+
+        Integer[] order = new Integer[claimCount];
+        for (int c = 0; c < claimCount; c++) {
+            order[c] = claims[c];
+        }
+        // Group the claims by target tile, best claim first
+        Arrays.sort(order, (a, b) -> {
+            Enemy ea = enemies.get(a);
+            Enemy eb = enemies.get(b);
+            int cmp = Integer.compare(target(ea, plans[a], width), target(eb, plans[b], width));
+            if (cmp != 0) return cmp;
+            cmp = Integer.compare(distance(ea, playerX, playerY), distance(eb, playerX, playerY));
+            if (cmp != 0) return cmp;
+            return Integer.compare(ea.getY() * width + ea.getX(), eb.getY() * width + eb.getX());
+        });
+
+        int lastTarget = -1;
+        for (int c = 0; c < claimCount; c++) {
+            int i = order[c];
+            Enemy enemy = enemies.get(i);
+            int target = target(enemy, plans[i], width);
+            if (target == lastTarget) continue; // Lost to a higher priority claim
+            lastTarget = target;
+            Cell from = board.getCell(enemy.getX(), enemy.getY());
+            if (from != null && from.getEnemy() == enemy) {
+                from.setEnemy(null);
+            }
+            enemy.setX(target % width);
+            enemy.setY(target / width);
+            board.getCell(enemy.getX(), enemy.getY()).setEnemy(enemy);
+        }
+    }
+
+    private static int target(Enemy enemy, Direction dir, int width) {
+        return (enemy.getY() + dir.getDy()) * width + enemy.getX() + dir.getDx();
+    }
+
+    private static int distance(Enemy enemy, int x, int y) {
+        return Math.abs(enemy.getX() - x) + Math.abs(enemy.getY() - y);
+    }
+
+    /** Plans a range of enemies, splitting it in halves down to one batch */
+    private final class PlanTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Board board;
+        private final Player player;
+        private final List<Enemy> enemies;
+        private final int from;
+        private final int to;
+
+        PlanTask(Board board, Player player, List<Enemy> enemies, int from, int to) {
+            this.board = board;
+            this.player = player;
+            this.enemies = enemies;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= batchSize) {
+                plan(board, player, enemies, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PlanTask(board, player, enemies, from, mid),
+                      new PlanTask(board, player, enemies, mid, to));
+        }
+    }
+}
@@ -51,8 +51,9 @@ public class BonusReward extends Reward {
     }
     
     /**
-     * Updates the timer for this bonus reward.
-     * Called each game tick. Decrements the remaining time.
+     * Updates the timer for this bonus reward by one tick.
+     * Game does not call this; it schedules {@link #expire()} for the
+     * tick the countdown would end.
      * 
      * @return true if reward expired this tick, false otherwise
      */
@@ -67,6 +68,17 @@ public class BonusReward extends Reward {
         return false;
     }
     
+    /**
+     * Expires the reward at once. The game calls this when the reward's
+     * expiry timer fires, instead of counting down with tick().
+     */
+    public void expire() {
+        if (!collected) {
+            ticksRemaining = 0;
+            expired = true;
+        }
+    }
+    
     /**
      * Collects the bonus reward if not expired.
      * 
@@ -98,6 +110,17 @@ public class BonusReward extends Reward {
         return ticksRemaining;
     }
     
+    /**
+     * Restores the timer saved in a game snapshot.
+     * 
+     * @param ticksRemaining remaining ticks before expiration
+     * @param expired whether the reward has expired
+     */
+    public void restoreTimer(int ticksRemaining, boolean expired) {
+        this.ticksRemaining = ticksRemaining;
+        this.expired = expired;
+    }
+    
     /**
      * Gets the initial duration of this bonus reward.
      * 
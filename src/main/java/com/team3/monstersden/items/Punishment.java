@@ -21,7 +21,8 @@ public class Punishment {
     }
 
     /**
-     * Updates trap cooldown state. Called every game tick.
+     * Counts the cooldown down by one tick. Game does not call this; it
+     * schedules {@link #rearm()} for the tick the countdown would end.
      */
     public void tick() {
         if (!isReady) {
@@ -33,6 +34,15 @@ public class Punishment {
         }
     }
 
+    /**
+     * Re-arms the trap at once. The game calls this when the trap's
+     * cooldown timer fires, instead of counting down with tick().
+     */
+    public void rearm() {
+        isReady = true;
+        cooldownTimer = 0;
+    }
+
     /**
      * Activates the trap if it is ready and applies its penalty
      * @return penalty value of the trap if triggered; 0 if trap is on cooldown
@@ -47,12 +57,27 @@ public class Punishment {
     }
 
     public boolean isActive() { return isReady; }
+    public int getCooldownTimer() { return cooldownTimer; }
     public int getX() { return x; }
     public int getY() { return y; }
     public int getPenaltyValue() { return penaltyValue; }
 
+    /**
+     * Restores the cooldown state saved in a game snapshot
+     * @param ready whether the trap is armed
+     * @param cooldownTimer ticks left before it re-arms
+     */
+    public void restoreCooldown(boolean ready, int cooldownTimer) {
+        this.isReady = ready;
+        this.cooldownTimer = cooldownTimer;
+    }
+
+    /**
+     * Traps stay on their cell after triggering and re-arm once their
+     * cooldown ends, so a trap is never removed when stepped on
+     * @return always true
+     */
     public boolean isRespawnable() {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'isRespawnable'");
+        return true;
     }
 }
\ No newline at end of file
@@ -57,6 +57,15 @@ public abstract class Reward {
         return collected;
     }
     
+    /**
+     * Restores the collected flag saved in a game snapshot.
+     * 
+     * @param collected whether the reward has been collected
+     */
+    public void setCollected(boolean collected) {
+        this.collected = collected;
+    }
+    
     /**
      * Gets the score value of this reward.
      * 
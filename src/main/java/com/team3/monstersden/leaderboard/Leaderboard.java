@@ -0,0 +1,269 @@
+package com.team3.monstersden.leaderboard;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.team3.monstersden.core.GameConfig;
+import com.team3.monstersden.util.GameLog;
+
+/**
+ * Leaderboard of finished games, stored in an embedded H2 database.
+ *
+ * <p>{@link #record} never touches the database: it puts the entry in a
+ * bounded queue and returns, so it is safe to call from the tick thread.
+ * A background daemon thread drains the queue and inserts everything
+ * waiting in one batch and one transaction. After each batch it reloads
+ * the best scores into an immutable in-memory list, which
+ * {@link #getTop} returns without a query. If the queue is full the entry
+ * is dropped and counted rather than stalling the caller.</p>
+ *
+ * <p>Games rank by score, then by fewer ticks, then by who got there first.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class Leaderboard implements AutoCloseable {
+
+    /** Longest player name stored; longer names are cut so the batch still commits */
+    private static final int MAX_NAME_LENGTH = 64;
+
+    private static final String CREATE_TABLE =
+        "CREATE TABLE IF NOT EXISTS LEADERBOARD ("
+        + "ID BIGINT AUTO_INCREMENT PRIMARY KEY, "
+        + "PLAYER_NAME VARCHAR(64) NOT NULL, "
+        + "SCORE INT NOT NULL, "
+        + "TICKS BIGINT NOT NULL, "
+        + "KILLS INT NOT NULL, "
+        + "MAP_ID VARCHAR(255), "
+        + "SEED BIGINT NOT NULL, "
+        + "RECORDED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL)";
+    private static final String CREATE_INDEX =
+        "CREATE INDEX IF NOT EXISTS LEADERBOARD_RANK ON LEADERBOARD (SCORE DESC, TICKS, ID)";
+    private static final String INSERT =
+        "INSERT INTO LEADERBOARD (PLAYER_NAME, SCORE, TICKS, KILLS, MAP_ID, SEED) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_TOP =
+        "SELECT PLAYER_NAME, SCORE, TICKS, KILLS, MAP_ID, SEED FROM LEADERBOARD "
+        + "ORDER BY SCORE DESC, TICKS, ID LIMIT ?";
+
+    private final Connection connection;
+    private final int cacheSize;
+    private final BlockingQueue<LeaderboardEntry> pending;
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final Object writtenLock = new Object();
+    private final Thread writer;
+    private long written;
+    private volatile boolean open = true;
+    private volatile List<LeaderboardEntry> top;
+
+    /**
+     * Opens the leaderboard in an H2 database file, creating it if needed,
+     * and caches the best GameConfig.LEADERBOARD_SIZE games.
+     *
+     * @param file database file, without H2's ".mv.db" extension
+     * @return the leaderboard
+     * @throws SQLException if the database cannot be opened
+     */
+    public static Leaderboard open(Path file) throws SQLException {
+        return new Leaderboard("jdbc:h2:" + file.toAbsolutePath(), GameConfig.LEADERBOARD_SIZE);
+    }
+
+    /**
+     * Opens the leaderboard in any H2 database, e.g. an in-memory one.
+     *
+     * @param jdbcUrl H2 JDBC URL
+     * @param cacheSize number of best games kept in memory for getTop
+     * @throws SQLException if the database cannot be opened
+     */
+    public Leaderboard(String jdbcUrl, int cacheSize) throws SQLException {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.cacheSize = cacheSize;
+        this.pending = new ArrayBlockingQueue<>(GameConfig.LEADERBOARD_QUEUE_CAPACITY);
+        this.connection = DriverManager.getConnection(jdbcUrl);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_TABLE);
+                statement.execute(CREATE_INDEX);
+            }
+            this.top = loadTop();
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        // From here on only the writer thread uses the connection
+        this.writer = new Thread(this::drainLoop, "Leaderboard-Writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues a finished game for the database. Never blocks.
+     *
+     * @param entry the game
+     * @return false if the entry was dropped because the queue is full or
+     *         the leaderboard is closed
+     */
+    public boolean record(LeaderboardEntry entry) {
+        if (entry == null) throw new IllegalArgumentException("Entry cannot be null");
+        if (!open) return false;
+        published.incrementAndGet();
+        if (!pending.offer(entry)) {
+            dropped.incrementAndGet();
+            synchronized (writtenLock) {
+                writtenLock.notifyAll();
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the best games written so far, best first. Served from memory.
+     *
+     * @param count number of games wanted; at most the cache size are returned
+     * @return an unmodifiable list of at most count entries
+     */
+    public List<LeaderboardEntry> getTop(int count) {
+        List<LeaderboardEntry> best = top;
+        return count >= best.size() ? best : best.subList(0, Math.max(0, count));
+    }
+
+    /**
+     * Waits until every entry recorded so far has been written, or has failed.
+     *
+     * @param timeoutMillis maximum time to wait
+     * @return true if the queue drained in time
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = published.get();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (writtenLock) {
+            while (written + dropped.get() < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) return false;
+                try {
+                    writtenLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /** @return entries dropped because the queue was full */
+    public long getDroppedCount() { return dropped.get(); }
+
+    /** @return entries lost because their batch could not be written */
+    public long getFailedCount() { return failed.get(); }
+
+    /**
+     * Writes everything still queued, stops the writer and closes the database.
+     */
+    @Override
+    public void close() {
+        if (!open) return;
+        open = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Entries that raced with close() missed the writer
+        dropped.addAndGet(pending.size());
+        pending.clear();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            GameLog.warn("Could not close leaderboard database: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Writer thread: inserts queued entries in batches until closed and drained.
+     */
+    private void drainLoop() {
+        List<LeaderboardEntry> batch = new ArrayList<>(GameConfig.LEADERBOARD_BATCH_SIZE);
+        while (open || !pending.isEmpty()) {
+            LeaderboardEntry first;
+            try {
+                first = pending.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (first == null) continue;
+            batch.add(first);
+            pending.drainTo(batch, GameConfig.LEADERBOARD_BATCH_SIZE - 1);
+            try {
+                insert(batch);
+                top = loadTop();
+            } catch (SQLException e) {
+                failed.addAndGet(batch.size());
+                GameLog.error("Could not write {} leaderboard entries: {}", batch.size(), e.getMessage());
+            }
+            synchronized (writtenLock) {
+                written += batch.size();
+                writtenLock.notifyAll();
+            }
+            batch.clear();
+        }
+    }
+
+    private void insert(List<LeaderboardEntry> batch) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            for (LeaderboardEntry entry : batch) {
+                String name = entry.getPlayerName();
+                insert.setString(1, name.length() > MAX_NAME_LENGTH ? name.substring(0, MAX_NAME_LENGTH) : name);
+                insert.setInt(2, entry.getScore());
+                insert.setLong(3, entry.getTicks());
+                insert.setInt(4, entry.getKills());
+                if (entry.getMapId() != null) {
+                    insert.setString(5, entry.getMapId());
+                } else {
+                    insert.setNull(5, Types.VARCHAR);
+                }
+                insert.setLong(6, entry.getSeed());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private List<LeaderboardEntry> loadTop() throws SQLException {
+        List<LeaderboardEntry> best = new ArrayList<>(cacheSize);
+        try (PreparedStatement select = connection.prepareStatement(SELECT_TOP)) {
+            select.setInt(1, cacheSize);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    best.add(new LeaderboardEntry(rows.getString(1), rows.getInt(2), rows.getLong(3),
+                        rows.getInt(4), rows.getString(5), rows.getLong(6)));
+                }
+            }
+        }
+        return Collections.unmodifiableList(best);
+    }
+}
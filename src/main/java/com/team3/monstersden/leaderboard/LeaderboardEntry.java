@@ -0,0 +1,50 @@
+package com.team3.monstersden.leaderboard;
+
+/**
+ * One finished game on the leaderboard. Immutable.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class LeaderboardEntry {
+
+    private final String playerName;
+    private final int score;
+    private final long ticks;
+    private final int kills;
+    private final String mapId;
+    private final long seed;
+
+    /**
+     * Creates an entry.
+     *
+     * @param playerName name of the player
+     * @param score final score
+     * @param ticks ticks the game lasted
+     * @param kills enemies killed
+     * @param mapId map the game was played on, or null for a generated map
+     * @param seed game seed, which regenerates the same world
+     */
+    public LeaderboardEntry(String playerName, int score, long ticks, int kills, String mapId, long seed) {
+        if (playerName == null) throw new IllegalArgumentException("Player name cannot be null");
+        this.playerName = playerName;
+        this.score = score;
+        this.ticks = ticks;
+        this.kills = kills;
+        this.mapId = mapId;
+        this.seed = seed;
+    }
+
+    public String getPlayerName() { return playerName; }
+    public int getScore() { return score; }
+    public long getTicks() { return ticks; }
+    public int getKills() { return kills; }
+    public String getMapId() { return mapId; }
+    public long getSeed() { return seed; }
+
+    @Override
+    public String toString() {
+        return playerName + " " + score + " (" + ticks + " ticks, " + kills + " kills, "
+            + (mapId != null ? mapId : "generated") + ", seed " + seed + ")";
+    }
+}
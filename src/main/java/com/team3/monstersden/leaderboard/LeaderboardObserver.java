@@ -0,0 +1,53 @@
+package com.team3.monstersden.leaderboard;
+
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.patterns.observer.GameObserver;
+
+/**
+ * Records every game a session finishes on a {@link Leaderboard}.
+ *
+ * <p>Register it with {@link Game#addObserver}. onGameEnd runs on the
+ * tick thread, so it only queues the entry; the database write happens
+ * on the leaderboard's writer thread.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class LeaderboardObserver implements GameObserver {
+
+    private final Game game;
+    private final Leaderboard leaderboard;
+
+    /**
+     * Creates an observer that records a game's results.
+     *
+     * @param game the game to record
+     * @param leaderboard where to record it
+     */
+    public LeaderboardObserver(Game game, Leaderboard leaderboard) {
+        if (game == null || leaderboard == null) {
+            throw new IllegalArgumentException("Game and leaderboard cannot be null");
+        }
+        this.game = game;
+        this.leaderboard = leaderboard;
+    }
+
+    @Override
+    public void update() {
+    }
+
+    @Override
+    public void onScoreChanged(int newScore) {
+    }
+
+    @Override
+    public void onBonusTimerUpdate(int ticksRemaining) {
+    }
+
+    @Override
+    public void onGameEnd(boolean won, int finalScore) {
+        String name = game.getPlayer() != null ? game.getPlayer().getName() : null;
+        leaderboard.record(new LeaderboardEntry(name != null ? name : "Player", finalScore,
+            game.getTickCount(), game.getKills(), game.getMapId(), game.getRandomSource().getSeed()));
+    }
+}
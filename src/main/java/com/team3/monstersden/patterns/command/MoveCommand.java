@@ -23,4 +23,12 @@ public class MoveCommand implements Command {
             movementStrategy.addMove(game, direction);
         }
     }
+
+    /**
+     * Returns the direction this command moves the player.
+     * @return the direction
+     */
+    public Direction getDirection() {
+        return direction;
+    }
 }
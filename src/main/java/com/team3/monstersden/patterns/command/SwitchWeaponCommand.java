@@ -0,0 +1,31 @@
+package com.team3.monstersden.patterns.command;
+
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.items.Sword;
+
+/**
+ * Command that switches the player's equipped sword.
+ */
+public class SwitchWeaponCommand implements Command {
+
+    private final Sword weapon;
+
+    public SwitchWeaponCommand(Sword weapon) {
+        this.weapon = weapon;
+    }
+
+    @Override
+    public void execute(Game game) {
+        if (game != null && game.getPlayer() != null && weapon != null) {
+            game.getPlayer().switchWeapon(weapon);
+        }
+    }
+
+    /**
+     * Returns the sword this command equips.
+     * @return the sword
+     */
+    public Sword getWeapon() {
+        return weapon;
+    }
+}
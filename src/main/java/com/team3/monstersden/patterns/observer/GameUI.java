@@ -1,5 +1,7 @@
 package com.team3.monstersden.patterns.observer;
 
+import com.team3.monstersden.console.AnsiScreen;
+import com.team3.monstersden.console.AnsiScreen.Color;
 import com.team3.monstersden.core.Game;
 import com.team3.monstersden.core.Board;
 import com.team3.monstersden.core.Cell;
@@ -42,12 +44,13 @@ public class GameUI implements GameObserver {
     private static final String RED = "\u001B[31m";
     private static final String GREEN = "\u001B[32m";
     private static final String YELLOW = "\u001B[33m";
-    private static final String BLUE = "\u001B[34m";
-    private static final String PURPLE = "\u001B[35m";
-    private static final String CYAN = "\u001B[36m";
-    private static final String WHITE = "\u001B[37m";
     
     private boolean useColors;
+
+    // Off-screen frame, diffed against the terminal on every render
+    private AnsiScreen screen;
+    private static final int HEADER_WIDTH = 60;
+    private static final int STATS_WIDTH = 55;
     
     /**
      * Constructs a GameUI for the specified game.
@@ -99,114 +102,134 @@ public class GameUI implements GameObserver {
     
     /**
      * Renders the complete game UI to console.
+     * The frame is composed off-screen and only the characters that changed
+     * since the previous frame are sent to the terminal, in a single write.
      */
     public void render() {
-        clearScreen();
-        displayHeader();
-        displayBoard();
-        displayStats();
-        displayLegend();
-        displayControls();
-    }
-    
-    /**
-     * Clears the console screen.
-     */
-    private void clearScreen() {
-        // ANSI escape code to clear screen
-        System.out.print("\033[H\033[2J");
-        System.out.flush();
-        
-        // Alternative for Windows (less effective):
-        // for (int i = 0; i < 50; i++) System.out.println();
+        Board board = game.getBoard();
+        int boardWidth = board != null ? board.getWidth() : 0;
+        int boardHeight = board != null ? board.getHeight() : 1;
+        int rows = boardHeight + 32;
+        int cols = Math.max(HEADER_WIDTH, (boardWidth * 3) + 4);
+        if (screen == null || screen.getRows() != rows || screen.getCols() != cols) {
+            screen = new AnsiScreen(rows, cols, useColors);
+        }
+
+        screen.clear();
+        int row = displayHeader(0);
+        row = displayBoard(row);
+        row = displayStats(row);
+        row = displayLegend(row);
+        displayControls(row);
+        screen.present();
     }
     
     /**
      * Displays the game header/title.
+     * @return the next free screen row
      */
-    private void displayHeader() {
-        String border = "═".repeat(60);
-        System.out.println(color(CYAN, border));
-        System.out.println(color(CYAN, "║") + 
-                          centerText("MONSTER'S DEN", 58) + 
-                          color(CYAN, "║"));
-        System.out.println(color(CYAN, "║") + 
-                          centerText("A Witcher-Inspired Dungeon Adventure", 58) + 
-                          color(CYAN, "║"));
-        System.out.println(color(CYAN, border));
-        System.out.println();
+    private int displayHeader(int row) {
+        String border = "═".repeat(HEADER_WIDTH);
+        screen.write(row++, 0, border, Color.CYAN);
+        headerLine(row++, "MONSTER'S DEN");
+        headerLine(row++, "A Witcher-Inspired Dungeon Adventure");
+        screen.write(row++, 0, border, Color.CYAN);
+        return row + 1;
+    }
+
+    private void headerLine(int row, String text) {
+        int col = screen.write(row, 0, "║", Color.CYAN);
+        col = screen.write(row, col, centerText(text, HEADER_WIDTH - 2), Color.DEFAULT);
+        screen.write(row, col, "║", Color.CYAN);
     }
     
     /**
      * Displays the game board with all entities.
+     * @return the next free screen row
      */
-    private void displayBoard() {
+    private int displayBoard(int row) {
         Board board = game.getBoard();
         if (board == null) {
-            System.out.println("Board not initialized.");
-            return;
+            screen.write(row, 0, "Board not initialized.", Color.DEFAULT);
+            return row + 2;
         }
         
         int width = board.getWidth();
         int height = board.getHeight();
         Player player = (Player) game.getPlayer();
+        int right = 3 + (width * 3);
         
         // Top border
-        System.out.print("  ┌");
+        screen.write(row, 0, "  ┌", Color.DEFAULT);
         for (int x = 0; x < width; x++) {
-            System.out.print("───");
+            screen.write(row, 3 + (x * 3), "───", Color.DEFAULT);
         }
-        System.out.println("┐");
+        screen.write(row++, right, "┐", Color.DEFAULT);
         
         // Board content
-        for (int y = 0; y < height; y++) {
-            System.out.print(String.format("%2d│", y)); // Row number
+        for (int y = 0; y < height; y++, row++) {
+            writeNumber(row, 0, y, 2, true); // Row number
+            screen.put(row, 2, '│', Color.DEFAULT);
             
             for (int x = 0; x < width; x++) {
                 Cell cell = board.getCell(x, y);
-                String symbol = getCellSymbol(cell, x, y, player);
-                System.out.print(symbol);
+                drawCell(row, 3 + (x * 3), cell, x, y, player);
             }
             
-            System.out.println("│");
+            screen.put(row, right, '│', Color.DEFAULT);
         }
         
         // Bottom border
-        System.out.print("  └");
+        screen.write(row, 0, "  └", Color.DEFAULT);
         for (int x = 0; x < width; x++) {
-            System.out.print("───");
+            screen.write(row, 3 + (x * 3), "───", Color.DEFAULT);
         }
-        System.out.println("┘");
+        screen.write(row++, right, "┘", Color.DEFAULT);
         
         // Column numbers
-        System.out.print("   ");
         for (int x = 0; x < width; x++) {
-            System.out.print(String.format(" %-2d", x));
+            writeNumber(row, 4 + (x * 3), x, 2, false);
+        }
+        return row + 2;
+    }
+
+    /**
+     * Writes a non-negative number padded with spaces to a fixed width,
+     * without formatting a String.
+     */
+    private void writeNumber(int row, int col, int value, int width, boolean alignRight) {
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) digits++;
+        int start = alignRight ? col + Math.max(0, width - digits) : col;
+        for (int i = digits - 1, v = value; i >= 0; i--, v /= 10) {
+            screen.put(row, start + i, (char) ('0' + (v % 10)), Color.DEFAULT);
         }
-        System.out.println();
-        System.out.println();
     }
     
     /**
-     * Determines the display symbol for a cell.
+     * Draws the display symbol for a cell.
      */
-    private String getCellSymbol(Cell cell, int x, int y, Player player) {
+    private void drawCell(int row, int col, Cell cell, int x, int y, Player player) {
         if (cell == null) {
-            return color(WHITE, WALL);
+            screen.write(row, col, WALL, Color.WHITE);
+            return;
         }
         
         // Check if player is on this cell
         if (player != null && player.getX() == x && player.getY() == y) {
-            return color(GREEN, PLAYER);
+            screen.write(row, col, PLAYER, Color.GREEN);
+            return;
         }
         
         // Check for enemies
         Enemy enemy = cell.getEnemy();
         if (enemy != null) {
             if (enemy instanceof Monster) {
-                return color(RED, MONSTER);
+                screen.write(row, col, MONSTER, Color.RED);
+                return;
             } else if (enemy instanceof HumanEnemy) {
-                return color(YELLOW, HUMAN);
+                screen.write(row, col, HUMAN, Color.YELLOW);
+                return;
             }
         }
         
@@ -216,105 +239,108 @@ public class GameUI implements GameObserver {
             if (reward instanceof BonusReward) {
                 BonusReward bonus = (BonusReward) reward;
                 if (!bonus.isExpired()) {
-                    return color(PURPLE, BONUS);
+                    screen.write(row, col, BONUS, Color.PURPLE);
+                    return;
                 }
             } else if (reward instanceof RegularReward) {
-                return color(YELLOW, REWARD);
+                screen.write(row, col, REWARD, Color.YELLOW);
+                return;
             }
         }
         
         // Check for punishment
         Punishment punishment = cell.getPunishment();
         if (punishment != null && punishment.isActive()) {
-            return color(RED, PUNISHMENT);
+            screen.write(row, col, PUNISHMENT, Color.RED);
+            return;
         }
         
         // Check for special cells
         if (cell.isExit()) {
-            return color(CYAN, EXIT);
-        }
-        if (cell.isStart()) {
-            return color(BLUE, START);
-        }
-        
-        // Empty walkable cell
-        if (cell.isWalkable()) {
-            return color(WHITE, EMPTY);
+            screen.write(row, col, EXIT, Color.CYAN);
+        } else if (cell.isStart()) {
+            screen.write(row, col, START, Color.BLUE);
+        } else if (cell.isWalkable()) {
+            // Empty walkable cell
+            screen.write(row, col, EMPTY, Color.WHITE);
+        } else {
+            // Wall
+            screen.write(row, col, WALL, Color.WHITE);
         }
-        
-        // Wall
-        return color(WHITE, WALL);
     }
     
     /**
      * Displays game statistics (score, health, weapon, etc.).
+     * @return the next free screen row
      */
-    private void displayStats() {
+    private int displayStats(int row) {
         Player player = (Player) game.getPlayer();
         
-        System.out.println("┌─────────────────────── STATS ───────────────────────┐");
+        screen.write(row++, 0, "┌─────────────────────── STATS ───────────────────────┐", Color.DEFAULT);
         
         // Score
-        System.out.printf("│ Score: %-42s │%n", 
-                         color(YELLOW, String.format("%d", currentScore)));
+        statLine(row++, "Score: ", Integer.toString(currentScore), Color.YELLOW);
         
         // Player stats
         if (player != null) {
-            System.out.printf("│ Health: %-41s │%n", 
-                             color(player.getHealth() > 50 ? GREEN : RED, 
-                                   String.format("%d", player.getHealth())));
-            
-            System.out.printf("│ Position: %-39s │%n", 
-                             String.format("(%d, %d)", player.getX(), player.getY()));
-            
-            System.out.printf("│ Current Weapon: %-34s │%n", 
-                             color(CYAN, player.getCurrentSword().getName()));
+            statLine(row++, "Health: ", Integer.toString(player.getHealth()),
+                     player.getHealth() > 50 ? Color.GREEN : Color.RED);
+            statLine(row++, "Position: ", "(" + player.getX() + ", " + player.getY() + ")", Color.DEFAULT);
+            statLine(row++, "Current Weapon: ", player.getCurrentSword().getName(), Color.CYAN);
         }
         
         // Bonus timer
         if (bonusTimerTicks > 0) {
-            System.out.printf("│ Bonus Expires In: %-31s │%n", 
-                             color(PURPLE, String.format("%d ticks", bonusTimerTicks)));
+            statLine(row++, "Bonus Expires In: ", bonusTimerTicks + " ticks", Color.PURPLE);
         }
         
         // Collected rewards
-        System.out.printf("│ Regular Rewards Collected: %-23s │%n",
-                         String.format("%d / %d", 
-                                     game.getCollectedRewards(), 
-                                     game.getTotalRewards()));
+        statLine(row++, "Regular Rewards Collected: ",
+                 game.getCollectedRewards() + " / " + game.getTotalRewards(), Color.DEFAULT);
         
-        System.out.println("└─────────────────────────────────────────────────────┘");
-        System.out.println();
+        screen.write(row++, 0, "└─────────────────────────────────────────────────────┘", Color.DEFAULT);
+        return row + 1;
+    }
+
+    private void statLine(int row, String label, String value, Color valueColor) {
+        int col = screen.write(row, 0, "│ " + label, Color.DEFAULT);
+        screen.write(row, col, value, valueColor);
+        screen.put(row, STATS_WIDTH - 1, '│', Color.DEFAULT);
     }
     
     /**
      * Displays the legend explaining symbols.
+     * @return the next free screen row
      */
-    private void displayLegend() {
-        System.out.println("┌──────────────────── LEGEND ─────────────────────┐");
-        System.out.printf("│ %s Gerald (Player)    %s Monster           │%n", 
-                         color(GREEN, PLAYER), color(RED, MONSTER));
-        System.out.printf("│ %s Human Enemy        %s Regular Reward    │%n", 
-                         color(YELLOW, HUMAN), color(YELLOW, REWARD));
-        System.out.printf("│ %s Bonus Reward       %s Punishment/Trap   │%n", 
-                         color(PURPLE, BONUS), color(RED, PUNISHMENT));
-        System.out.printf("│ %s Exit               %s Start Position    │%n", 
-                         color(CYAN, EXIT), color(BLUE, START));
-        System.out.println("└─────────────────────────────────────────────────┘");
-        System.out.println();
+    private int displayLegend(int row) {
+        screen.write(row++, 0, "┌──────────────────── LEGEND ─────────────────────┐", Color.DEFAULT);
+        legendLine(row++, PLAYER, Color.GREEN, " Gerald (Player)    ", MONSTER, Color.RED, " Monster           │");
+        legendLine(row++, HUMAN, Color.YELLOW, " Human Enemy        ", REWARD, Color.YELLOW, " Regular Reward    │");
+        legendLine(row++, BONUS, Color.PURPLE, " Bonus Reward       ", PUNISHMENT, Color.RED, " Punishment/Trap   │");
+        legendLine(row++, EXIT, Color.CYAN, " Exit               ", START, Color.BLUE, " Start Position    │");
+        screen.write(row++, 0, "└─────────────────────────────────────────────────┘", Color.DEFAULT);
+        return row + 1;
+    }
+
+    private void legendLine(int row, String first, Color firstColor, String firstText,
+                            String second, Color secondColor, String secondText) {
+        int col = screen.write(row, 0, "│ ", Color.DEFAULT);
+        col = screen.write(row, col, first, firstColor);
+        col = screen.write(row, col, firstText, Color.DEFAULT);
+        col = screen.write(row, col, second, secondColor);
+        screen.write(row, col, secondText, Color.DEFAULT);
     }
     
     /**
      * Displays game controls.
      */
-    private void displayControls() {
-        System.out.println("┌─────────────────── CONTROLS ────────────────────┐");
-        System.out.println("│ W/↑ - Move Up       S/↓ - Move Down           │");
-        System.out.println("│ A/← - Move Left     D/→ - Move Right           │");
-        System.out.println("│ 1 - Silver Sword    2 - Steel Sword            │");
-        System.out.println("│ Q - Quit Game       H - Help                   │");
-        System.out.println("└─────────────────────────────────────────────────┘");
-        System.out.println();
+    private void displayControls(int row) {
+        screen.write(row++, 0, "┌─────────────────── CONTROLS ────────────────────┐", Color.DEFAULT);
+        screen.write(row++, 0, "│ W/↑ - Move Up       S/↓ - Move Down           │", Color.DEFAULT);
+        screen.write(row++, 0, "│ A/← - Move Left     D/→ - Move Right           │", Color.DEFAULT);
+        screen.write(row++, 0, "│ 1 - Silver Sword    2 - Steel Sword            │", Color.DEFAULT);
+        screen.write(row++, 0, "│ Q - Quit Game       H - Help                   │", Color.DEFAULT);
+        screen.write(row, 0, "└─────────────────────────────────────────────────┘", Color.DEFAULT);
     }
     
     /**
@@ -346,6 +372,9 @@ public class GameUI implements GameObserver {
                           color(won ? GREEN : RED, "║"));
         System.out.println(color(won ? GREEN : RED, border));
         System.out.println();
+
+        // The lines above may have scrolled the terminal
+        invalidateScreen();
     }
     
     /**
@@ -392,5 +421,16 @@ public class GameUI implements GameObserver {
      */
     public void setColorEnabled(boolean enabled) {
         this.useColors = enabled;
+        this.screen = null;
+    }
+
+    /**
+     * Makes the next render redraw the whole screen. Call it after printing
+     * anything long enough to scroll the terminal.
+     */
+    public void invalidateScreen() {
+        if (screen != null) {
+            screen.invalidate();
+        }
     }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.team3.monstersden.patterns.observer;
 import com.team3.monstersden.core.Game;
 import com.team3.monstersden.core.Board;
 import com.team3.monstersden.core.Cell;
+import com.team3.monstersden.core.FrameSnapshot;
+import com.team3.monstersden.core.FrameSnapshot.EntityKind;
 import com.team3.monstersden.characters.Player;
 import com.team3.monstersden.characters.Enemy;
 import com.team3.monstersden.characters.Monster;
@@ -14,10 +16,12 @@ import com.team3.monstersden.items.Punishment;
 import com.team3.monstersden.items.SilverSword;
 import com.team3.monstersden.items.SteelSword;
 import com.team3.monstersden.patterns.command.MoveCommand;
-import com.team3.monstersden.patterns.command.Command;
+import com.team3.monstersden.patterns.command.SwitchWeaponCommand;
+import com.team3.monstersden.patterns.observer.SpriteAtlas.Sprite;
 import com.team3.monstersden.patterns.strategy.PlayerMovementStrategy;
 import com.team3.monstersden.util.Direction;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
@@ -28,10 +32,13 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
 import javafx.stage.Stage;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -64,6 +71,8 @@ public class GameUIFX implements GameObserver {
 
     // Display settings
     private static final int CELL_SIZE = 50;
+    private static final int MIN_CELL_SIZE = 32;   // Smallest readable cell; larger boards scroll
+    private static final int CAMERA_MARGIN = 3;    // Cells kept between the player and the view edge
     private static final int GRID_LINE_WIDTH = 2;
 
     // Colors
@@ -79,10 +88,60 @@ public class GameUIFX implements GameObserver {
     private static final Color COLOR_BONUS      = Color.rgb(138, 43, 226);  // Purple
     private static final Color COLOR_PUNISHMENT = Color.rgb(220, 20, 60);   // Red
 
+    // Drawn in place of sprites whose image failed to load
+    private static final Map<Sprite, Color> SPRITE_FALLBACKS = new EnumMap<>(Sprite.class);
+    static {
+        SPRITE_FALLBACKS.put(Sprite.FLOOR, COLOR_EMPTY);
+        SPRITE_FALLBACKS.put(Sprite.WALL, COLOR_WALL);
+        SPRITE_FALLBACKS.put(Sprite.EXIT, COLOR_EXIT);
+        SPRITE_FALLBACKS.put(Sprite.TRAP, COLOR_PUNISHMENT);
+        SPRITE_FALLBACKS.put(Sprite.REWARD, COLOR_REWARD);
+        SPRITE_FALLBACKS.put(Sprite.BONUS, COLOR_BONUS);
+        SPRITE_FALLBACKS.put(Sprite.MONSTER, COLOR_MONSTER);
+        SPRITE_FALLBACKS.put(Sprite.HUMAN, COLOR_HUMAN);
+        SPRITE_FALLBACKS.put(Sprite.PLAYER, COLOR_PLAYER);
+        SPRITE_FALLBACKS.put(Sprite.PLAYER_LEFT, COLOR_PLAYER);
+    }
+
+
 
+    // Occupant bits compared between frames to find cells that need redrawing
+    private static final int OCC_TRAP        = 1;
+    private static final int OCC_REWARD      = 1 << 1;
+    private static final int OCC_BONUS       = 1 << 2;
+    private static final int OCC_MONSTER     = 1 << 3;
+    private static final int OCC_HUMAN       = 1 << 4;
+    private static final int OCC_PLAYER      = 1 << 5;
+    private static final int OCC_PLAYER_LEFT = 1 << 6;
+
+    // Sprites pre-scaled to the current cell size, rebuilt when it changes
+    private SpriteAtlas atlas;
+
+    // Cached terrain layer and the layout it was rendered for
+    private WritableImage terrainLayer;
+    private Board terrainBoard;
+    private int terrainLayoutVersion;
+    private int cellSize;
+    private int boardOffsetX;
+    private int boardOffsetY;
+
+    // Camera: first visible cell, and how many cells the view shows
+    private int cameraX = -1;
+    private int cameraY = -1;
+    private int fullCols;
+    private int fullRows;
+    private int viewCols;
+    private int viewRows;
+
+    // Occupant code last drawn in each visible cell, and the codes being built for this frame
+    private int[] drawnOccupants = new int[0];
+    private int[] frameOccupants = new int[0];
+
+    // Render loop: draws the game's latest frame once per screen pulse
+    private AnimationTimer renderLoop;
+    private FrameSnapshot drawnFrame;
+    private boolean viewDirty = true;   // Redraw even if no new frame (resize, facing)
 
-    private int currentScore = 0;
-    private int bonusTimerTicks = 0;
     private boolean playerFacingLeft = false;
 
     /**
@@ -195,8 +254,8 @@ public class GameUIFX implements GameObserver {
         canvas.heightProperty().bind(canvasContainer.heightProperty());
 
         // Re-render when resized
-        canvas.widthProperty().addListener(observable -> update());
-        canvas.heightProperty().addListener(observable -> update());
+        canvas.widthProperty().addListener(observable -> viewDirty = true);
+        canvas.heightProperty().addListener(observable -> viewDirty = true);
 
 
         VBox statsPanel = createStatsPanel();
@@ -372,24 +431,24 @@ public class GameUIFX implements GameObserver {
                 case LEFT:
                     direction = Direction.LEFT;
                     playerFacingLeft = true;
+                    viewDirty = true;
                     break;
                 case D:
                 case RIGHT:
                     direction = Direction.RIGHT;
                     playerFacingLeft = false;
+                    viewDirty = true;
                     break;
 
                 case DIGIT1:
                 case NUMPAD1:
-                    ((Player) game.getPlayer()).switchWeapon(new SilverSword());
+                    game.submitCommand(new SwitchWeaponCommand(new SilverSword()));
                     displayMessage("Switched to Silver Sword (effective vs Monsters)");
-                    update();
                     break;
                 case DIGIT2:
                 case NUMPAD2:
-                    ((Player) game.getPlayer()).switchWeapon(new SteelSword());
+                    game.submitCommand(new SwitchWeaponCommand(new SteelSword()));
                     displayMessage("Switched to Steel Sword (effective vs Humans)");
-                    update();
                     break;
 
                 case Q:
@@ -404,119 +463,267 @@ public class GameUIFX implements GameObserver {
             }
 
             if (direction != null) {
+                // Applied by the game loop thread at the start of the next tick
                 PlayerMovementStrategy strategy = (PlayerMovementStrategy) game.getPlayer().getMovementStrategy();
-                Command moveCommand = new MoveCommand(strategy, direction);
-                moveCommand.execute(game);
-                game.tick();
+                game.submitCommand(new MoveCommand(strategy, direction));
             }
         });
     }
 
     /**
-     * Renders the game board with images.
+     * Renders the part of the game board that fits in the window.
+     *
+     * <p>Cells are drawn at least {@link #MIN_CELL_SIZE} pixels wide; a board
+     * small enough is scaled up to fill the window, while a larger one is
+     * viewed through a camera that follows the player. The camera only moves
+     * when the player comes within {@link #CAMERA_MARGIN} cells of the edge of
+     * the view, and every loop, grid stroke and entity draw is limited to the
+     * visible cells, so a frame costs the same on any map size.</p>
+     *
+     * <p>Terrain (floor, walls, start/exit tints, exit marker and grid) for the
+     * view is pre-rendered into an offscreen image that is rebuilt only when
+     * the canvas is resized, a new map is loaded or the camera moves. Each
+     * frame then compares an occupant code per visible cell with the code drawn
+     * last frame and redraws only the cells that changed, restoring their
+     * terrain from the cached image.</p>
+     *
+     * <p>Everything but the terrain comes from the frame, never from the
+     * live game, which the game loop thread may be changing meanwhile.</p>
      */
+    private void renderBoard(FrameSnapshot frame) {
+        Board board = frame.getBoard();
+        if (board == null || board.getWidth() == 0 || canvas.getWidth() <= 0 || canvas.getHeight() <= 0) return;
+
+        boolean relayout = terrainNeedsRebuild(frame);
+        if (relayout) {
+            layoutView(board);
+        }
+        if (moveCamera(board, frame.getPlayerX(), frame.getPlayerY()) || relayout) {
+            rebuildTerrain(board, frame.getLayoutVersion());
+        }
+
+        // Stamp the occupants that fall inside the view
+        Arrays.fill(frameOccupants, 0);
+        for (int i = 0; i < frame.getEntityCount(); i++) {
+            markOccupant(frame.getEntityX(i), frame.getEntityY(i), occupantBit(frame.getEntityKind(i)));
+        }
+        markOccupant(frame.getPlayerX(), frame.getPlayerY(),
+                playerFacingLeft ? OCC_PLAYER | OCC_PLAYER_LEFT : OCC_PLAYER);
+
+        int lastX = Math.min(board.getWidth(), cameraX + viewCols);
+        int lastY = Math.min(board.getHeight(), cameraY + viewRows);
+        for (int y = cameraY; y < lastY; y++) {
+            for (int x = cameraX; x < lastX; x++) {
+                int index = (y - cameraY) * viewCols + (x - cameraX);
+                int code = frameOccupants[index];
+                if (code != drawnOccupants[index]) {
+                    redrawCell(x, y, code);
+                    drawnOccupants[index] = code;
+                }
+            }
+        }
+    }
+
     /**
- * Renders the game board using images that scale to the full window.
- */
+     * Adds an occupant to a cell of this frame, ignoring cells outside the view.
+     */
+    private void markOccupant(int x, int y, int bit) {
+        int col = x - cameraX;
+        int row = y - cameraY;
+        if (col < 0 || row < 0 || col >= viewCols || row >= viewRows) return;
+        frameOccupants[row * viewCols + col] |= bit;
+    }
+
     /**
-     * Renders the game board using images that scale to the full window.
+     * Maps a frame entity to its occupant bit.
      */
-    private void renderBoard() {
-        Board board = game.getBoard();
-        Player player = game.getPlayer();
+    private static int occupantBit(EntityKind kind) {
+        switch (kind) {
+            case TRAP:    return OCC_TRAP;
+            case REWARD:  return OCC_REWARD;
+            case BONUS:   return OCC_BONUS;
+            case MONSTER: return OCC_MONSTER;
+            default:      return OCC_HUMAN;
+        }
+    }
 
-        // Calculate cell size while maintaining square aspect ratio
-        double cellWidth = canvas.getWidth() / board.getWidth();
-        double cellHeight = canvas.getHeight() / board.getHeight();
-        double cellSize = Math.min(cellWidth, cellHeight); // Use the smaller dimension to keep cells square
+    /**
+     * Checks whether the cached terrain no longer matches the canvas or the board.
+     */
+    private boolean terrainNeedsRebuild(FrameSnapshot frame) {
+        return terrainLayer == null
+                || terrainBoard != frame.getBoard()
+                || terrainLayoutVersion != frame.getLayoutVersion()
+                || terrainLayer.getWidth() != canvas.getWidth()
+                || terrainLayer.getHeight() != canvas.getHeight();
+    }
 
-        // Center the board in the canvas
-        double offsetX = (canvas.getWidth() - (cellSize * board.getWidth())) / 2;
-        double offsetY = (canvas.getHeight() - (cellSize * board.getHeight())) / 2;
+    /**
+     * Picks the cell size and view dimensions for the canvas and board, and
+     * resets the camera so the next frame centres it on the player.
+     */
+    private void layoutView(Board board) {
+        // Whole pixels per cell so cached terrain blits line up exactly
+        int fitSize = (int) Math.min(canvas.getWidth() / board.getWidth(), canvas.getHeight() / board.getHeight());
+        cellSize = Math.max(fitSize, MIN_CELL_SIZE);
+
+        // Cells that fit entirely, and cells touched including a partial last one
+        fullCols = Math.max(1, Math.min(board.getWidth(), (int) (canvas.getWidth() / cellSize)));
+        fullRows = Math.max(1, Math.min(board.getHeight(), (int) (canvas.getHeight() / cellSize)));
+        viewCols = Math.min(board.getWidth(), (int) Math.ceil(canvas.getWidth() / cellSize));
+        viewRows = Math.min(board.getHeight(), (int) Math.ceil(canvas.getHeight() / cellSize));
+
+        // Centre the board along any axis where it fits
+        boardOffsetX = Math.max(0, (int) ((canvas.getWidth() - (cellSize * board.getWidth())) / 2));
+        boardOffsetY = Math.max(0, (int) ((canvas.getHeight() - (cellSize * board.getHeight())) / 2));
+
+        if (atlas == null || atlas.getCellSize() != cellSize) {
+            atlas = new SpriteAtlas(cellSize, imageCache, SPRITE_FALLBACKS);
+        }
+        cameraX = -1;
+        cameraY = -1;
+    }
+
+    /**
+     * Scrolls the camera if the focus (the player) is near the edge of the view.
+     *
+     * @return true if the camera moved
+     */
+    private boolean moveCamera(Board board, int focusX, int focusY) {
+        int newX = followAxis(cameraX, focusX, fullCols, board.getWidth());
+        int newY = followAxis(cameraY, focusY, fullRows, board.getHeight());
+        if (newX == cameraX && newY == cameraY) return false;
+        cameraX = newX;
+        cameraY = newY;
+        return true;
+    }
 
-        // Clear the entire canvas
-        gc.setFill(Color.rgb(30, 30, 30));
-        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    /**
+     * Returns the camera's first visible cell along one axis, recentring on
+     * the focus when it is unset or the focus is within the margin of an edge.
+     */
+    private static int followAxis(int camera, int focus, int visible, int boardSize) {
+        if (visible >= boardSize) return 0;
+        int margin = Math.min(CAMERA_MARGIN, (visible - 1) / 2);
+        if (camera >= 0 && focus >= camera + margin && focus < camera + visible - margin) {
+            return camera;
+        }
+        return Math.max(0, Math.min(boardSize - visible, focus - (visible / 2)));
+    }
 
-        // Draw each cell and its contents
-        for (int y = 0; y < board.getHeight(); y++) {
-            for (int x = 0; x < board.getWidth(); x++) {
+    /**
+     * Pre-renders the terrain of the visible cells offscreen and paints it,
+     * leaving every visible cell marked as showing bare terrain.
+     */
+    private void rebuildTerrain(Board board, int layoutVersion) {
+        Canvas offscreen = new Canvas(canvas.getWidth(), canvas.getHeight());
+        GraphicsContext tg = offscreen.getGraphicsContext2D();
+        tg.setFill(Color.rgb(30, 30, 30));
+        tg.fillRect(0, 0, offscreen.getWidth(), offscreen.getHeight());
+
+        int lastX = Math.min(board.getWidth(), cameraX + viewCols);
+        int lastY = Math.min(board.getHeight(), cameraY + viewRows);
+        for (int y = cameraY; y < lastY; y++) {
+            for (int x = cameraX; x < lastX; x++) {
                 Cell cell = board.getCell(x, y);
                 if (cell == null) continue;
 
-                double pixelX = offsetX + (x * cellSize);
-                double pixelY = offsetY + (y * cellSize);
+                double pixelX = cellPixelX(x);
+                double pixelY = cellPixelY(y);
 
                 // Draw the base floor or wall image
-                if (cell.isWall()) {
-                    drawImageScaled("wall", pixelX, pixelY, cellSize, cellSize, COLOR_WALL);
-                } else {
-                    drawImageScaled("floor", pixelX, pixelY, cellSize, cellSize, COLOR_EMPTY);
-                }
+                atlas.draw(tg, cell.isWall() ? Sprite.WALL : Sprite.FLOOR, pixelX, pixelY);
 
                 // Overlay subtle tint for start/exit cells
                 if (cell.isStart()) {
-                    gc.setFill(COLOR_START.deriveColor(0, 1, 1, 0.35));
-                    gc.fillRect(pixelX, pixelY, cellSize, cellSize);
+                    tg.setFill(COLOR_START.deriveColor(0, 1, 1, 0.35));
+                    tg.fillRect(pixelX, pixelY, cellSize, cellSize);
                 } else if (cell.isExit()) {
-                    gc.setFill(COLOR_EXIT.deriveColor(0, 1, 1, 0.35));
-                    gc.fillRect(pixelX, pixelY, cellSize, cellSize);
+                    tg.setFill(COLOR_EXIT.deriveColor(0, 1, 1, 0.35));
+                    tg.fillRect(pixelX, pixelY, cellSize, cellSize);
+                    // Nothing is ever placed on the exit, so its marker is static
+                    atlas.draw(tg, Sprite.EXIT, pixelX, pixelY);
                 }
+            }
+        }
 
-                // 1️⃣ Draw trap (punishment)
-                Punishment trap = cell.getPunishment();
-                if (trap != null && trap.isActive()) {
-                    drawImageScaled("trap", pixelX, pixelY, cellSize, cellSize, COLOR_PUNISHMENT);
-                }
+        // Draw grid lines for structure, only across the visible cells
+        tg.setStroke(COLOR_GRID);
+        tg.setLineWidth(1.0);
+        double left = cellPixelX(cameraX);
+        double right = cellPixelX(lastX);
+        double top = cellPixelY(cameraY);
+        double bottom = cellPixelY(lastY);
+        for (int i = cameraX; i <= lastX; i++) {
+            double x = cellPixelX(i);
+            tg.strokeLine(x, top, x, bottom);
+        }
+        for (int i = cameraY; i <= lastY; i++) {
+            double y = cellPixelY(i);
+            tg.strokeLine(left, y, right, y);
+        }
 
-                // 2️⃣ Draw reward or bonus
-                Reward reward = cell.getReward();
-                if (reward != null && !reward.isCollected()) {
-                    if (reward instanceof BonusReward) {
-                        drawImageScaled("bonus", pixelX, pixelY, cellSize, cellSize, COLOR_BONUS);
-                    } else {
-                        drawImageScaled("reward", pixelX, pixelY, cellSize, cellSize, COLOR_REWARD);
-                    }
-                }
+        terrainLayer = offscreen.snapshot(null, null);
+        terrainBoard = board;
+        terrainLayoutVersion = layoutVersion;
+        drawnOccupants = new int[viewCols * viewRows];
+        frameOccupants = new int[viewCols * viewRows];
 
-                // 3️⃣ Draw exit image (if applicable)
-                if (cell.isExit()) {
-                    drawImageScaled("exit", pixelX, pixelY, cellSize, cellSize, COLOR_EXIT);
-                }
+        gc.drawImage(terrainLayer, 0, 0);
+    }
 
-                // 4️⃣ Draw enemy (monster/human)
-                Enemy enemy = cell.getEnemy();
-                if (enemy != null) {
-                    if (enemy instanceof Monster) {
-                        drawImageScaled("monster", pixelX, pixelY, cellSize, cellSize, COLOR_MONSTER);
-                    } else if (enemy instanceof HumanEnemy) {
-                        drawImageScaled("human", pixelX, pixelY, cellSize, cellSize, COLOR_HUMAN);
-                    }
-                }
-            }
-        }
+    /** @return canvas x of a board column's left edge under the current camera */
+    private double cellPixelX(int x) {
+        return boardOffsetX + ((x - cameraX) * cellSize);
+    }
 
-        // 5️⃣ Draw player last (always on top)
-        if (player != null) {
-            double px = offsetX + (player.getX() * cellSize);
-            double py = offsetY + (player.getY() * cellSize);
-            drawPlayerImageScaled(px, py, cellSize, cellSize);
+    /** @return canvas y of a board row's top edge under the current camera */
+    private double cellPixelY(int y) {
+        return boardOffsetY + ((y - cameraY) * cellSize);
+    }
+
+    /**
+     * Restores one cell's terrain from the cached layer and draws its occupants.
+     */
+    private void redrawCell(int x, int y, int code) {
+        double pixelX = cellPixelX(x);
+        double pixelY = cellPixelY(y);
+
+        gc.drawImage(terrainLayer, pixelX, pixelY, cellSize, cellSize, pixelX, pixelY, cellSize, cellSize);
+
+        // 1️⃣ Draw trap (punishment)
+        if ((code & OCC_TRAP) != 0) {
+            atlas.draw(gc, Sprite.TRAP, pixelX, pixelY);
         }
 
-        // Draw grid lines for structure
-        gc.setStroke(COLOR_GRID);
-        gc.setLineWidth(1.0);
-        for (int i = 0; i <= board.getWidth(); i++) {
-            double x = offsetX + (i * cellSize);
-            gc.strokeLine(x, offsetY, x, offsetY + (board.getHeight() * cellSize));
+        // 2️⃣ Draw reward or bonus
+        if ((code & OCC_BONUS) != 0) {
+            atlas.draw(gc, Sprite.BONUS, pixelX, pixelY);
+        } else if ((code & OCC_REWARD) != 0) {
+            atlas.draw(gc, Sprite.REWARD, pixelX, pixelY);
         }
-        for (int i = 0; i <= board.getHeight(); i++) {
-            double y = offsetY + (i * cellSize);
-            gc.strokeLine(offsetX, y, offsetX + (board.getWidth() * cellSize), y);
+
+        // 3️⃣ Exit marker is part of the terrain layer
+
+        // 4️⃣ Draw enemy (monster/human)
+        if ((code & OCC_MONSTER) != 0) {
+            atlas.draw(gc, Sprite.MONSTER, pixelX, pixelY);
+        } else if ((code & OCC_HUMAN) != 0) {
+            atlas.draw(gc, Sprite.HUMAN, pixelX, pixelY);
         }
-    }
 
+        // 5️⃣ Draw player last (always on top)
+        if ((code & OCC_PLAYER) != 0) {
+            atlas.draw(gc, (code & OCC_PLAYER_LEFT) != 0 ? Sprite.PLAYER_LEFT : Sprite.PLAYER, pixelX, pixelY);
+        }
 
+        // Grid lines go over the player, as in the full layer
+        if (code != 0) {
+            gc.setStroke(COLOR_GRID);
+            gc.setLineWidth(1.0);
+            gc.strokeRect(pixelX, pixelY, cellSize, cellSize);
+        }
+    }
 
     /**
      * Draws a single cell with images or colored rectangles.
@@ -636,36 +843,6 @@ public class GameUIFX implements GameObserver {
         }
     }
 
-    /**
- * Draws an image scaled to a cell, falling back to a color if missing.
- */
-private void drawImageScaled(String key, double x, double y, double w, double h, Color fallbackColor) {
-    Image image = getImage(key);
-    if (image != null && !image.isError()) {
-        gc.drawImage(image, x + 2, y + 2, w - 4, h - 4);
-    } else {
-        gc.setFill(fallbackColor);
-        gc.fillRect(x + 4, y + 4, w - 8, h - 8);
-    }
-}
-
-/**
- * Draws the player image scaled to fit dynamic cell size (with left/right facing).
- */
-private void drawPlayerImageScaled(double x, double y, double w, double h) {
-    Image playerImage = getImage("player");
-    if (playerImage != null && !playerImage.isError()) {
-        if (playerFacingLeft) {
-            gc.drawImage(playerImage, x + w, y, -w, h); // flipped
-        } else {
-            gc.drawImage(playerImage, x, y, w, h);
-        }
-    } else {
-        gc.setFill(COLOR_PLAYER);
-        gc.fillOval(x + 4, y + 4, w - 8, h - 8);
-    }
-}
-
 
     /**
  * Draws a symbol (entity) centered in a dynamically scaled cell.
@@ -688,27 +865,37 @@ private void drawPlayerImageScaled(double x, double y, double w, double h) {
     }
 
 
-    private void updateStats() {
-        Player player = game.getPlayer();
-
-        if (player != null) {
-            scoreLabel.setText("Score: " + currentScore);
-            int health = player.getHealth();
-            healthLabel.setText("Health: " + health);
-            healthBar.setProgress(health / 100.0);
+    /**
+     * Draws the game's latest frame if it is new or the view changed.
+     * Called by the render loop on every screen pulse, on the JavaFX thread.
+     */
+    void drawLatestFrame() {
+        FrameSnapshot frame = game.getLatestFrame();
+        if (frame == null || (frame == drawnFrame && !viewDirty)) return;
+        viewDirty = false;
+        drawnFrame = frame;
+        renderBoard(frame);
+        updateStats(frame);
+    }
 
-            if (health > 60) {
-                healthBar.setStyle("-fx-accent: #32cd32;");
-            } else if (health > 30) {
-                healthBar.setStyle("-fx-accent: #ffa500;");
-            } else {
-                healthBar.setStyle("-fx-accent: #dc143c;");
-            }
+    private void updateStats(FrameSnapshot frame) {
+        scoreLabel.setText("Score: " + frame.getScore());
+        int health = frame.getPlayerHealth();
+        healthLabel.setText("Health: " + health);
+        healthBar.setProgress(health / 100.0);
 
-            positionLabel.setText(String.format("Position: (%d, %d)", player.getX(), player.getY()));
-            weaponLabel.setText("Weapon: " + player.getCurrentSword().getName());
+        if (health > 60) {
+            healthBar.setStyle("-fx-accent: #32cd32;");
+        } else if (health > 30) {
+            healthBar.setStyle("-fx-accent: #ffa500;");
+        } else {
+            healthBar.setStyle("-fx-accent: #dc143c;");
         }
 
+        positionLabel.setText(String.format("Position: (%d, %d)", frame.getPlayerX(), frame.getPlayerY()));
+        weaponLabel.setText("Weapon: " + frame.getWeaponName());
+
+        int bonusTimerTicks = frame.getBonusTicksRemaining();
         if (bonusTimerTicks > 0) {
             bonusTimerLabel.setText("Bonus Expires: " + bonusTimerTicks + " ticks");
             bonusTimerLabel.setTextFill(Color.rgb(138, 43, 226));
@@ -718,35 +905,36 @@ private void drawPlayerImageScaled(double x, double y, double w, double h) {
         }
 
         rewardsLabel.setText(String.format("Rewards: %d / %d",
-                game.getCollectedRewards(),
-                game.getTotalRewards()));
+                frame.getCollectedRewards(),
+                frame.getTotalRewards()));
     }
 
+    /**
+     * Board changes reach the screen through the frames the game publishes
+     * after every tick, so there is nothing to do per notification.
+     */
     @Override
     public void update() {
-        Platform.runLater(() -> {
-            renderBoard();
-            updateStats();
-        });
     }
 
+    /**
+     * The score is part of every frame.
+     */
     @Override
     public void onScoreChanged(int newScore) {
-        this.currentScore = newScore;
-        Platform.runLater(this::updateStats);
     }
 
+    /**
+     * The bonus timer is part of every frame.
+     */
     @Override
     public void onBonusTimerUpdate(int ticksRemaining) {
-        this.bonusTimerTicks = ticksRemaining;
-        Platform.runLater(this::updateStats);
     }
 
     @Override
     public void onGameEnd(boolean won, int finalScore) {
         Platform.runLater(() -> {
-            renderBoard();
-            updateStats();
+            drawLatestFrame();
             showGameOverDialog(won, finalScore);
         });
     }
@@ -791,7 +979,6 @@ private void drawPlayerImageScaled(double x, double y, double w, double h) {
             // Restart game
             game.initialize();
             game.startGameLoop();   // 🔥 start ticking again
-            update();
             displayMessage("New game started! Good luck!");
         } else {
             Platform.exit();
@@ -815,7 +1002,17 @@ private void drawPlayerImageScaled(double x, double y, double w, double h) {
 
     public void show() {
         stage.show();
-        update();
+        if (renderLoop == null) {
+            renderLoop = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    drawLatestFrame();
+                }
+            };
+            stage.setOnHidden(event -> renderLoop.stop());
+        }
+        renderLoop.start();
+        drawLatestFrame();
     }
 
     private String getCSS() {
@@ -1,8 +1,8 @@
 package com.team3.monstersden.patterns.observer;
 
 import com.team3.monstersden.core.Game;
-import com.team3.monstersden.patterns.command.Command;
 import com.team3.monstersden.patterns.command.MoveCommand;
+import com.team3.monstersden.patterns.command.SwitchWeaponCommand;
 import com.team3.monstersden.patterns.strategy.PlayerMovementStrategy;
 import com.team3.monstersden.util.Direction;
 import com.team3.monstersden.items.SilverSword;
@@ -48,7 +48,8 @@ public class InputHandler {
             
             processInput(input);
             
-            // Game tick after each action
+            // This thread drives the console game: apply queued commands, then tick
+            game.processCommands();
             game.tick();
             
             // Update UI
@@ -83,11 +84,11 @@ public class InputHandler {
                 
             // Weapon switching
             case "1":
-                game.getPlayer().switchWeapon(new SilverSword());
+                game.submitCommand(new SwitchWeaponCommand(new SilverSword()));
                 ui.displayMessage("Switched to Silver Sword (effective vs Monsters)");
                 break;
             case "2":
-                game.getPlayer().switchWeapon(new SteelSword());
+                game.submitCommand(new SwitchWeaponCommand(new SteelSword()));
                 ui.displayMessage("Switched to Steel Sword (effective vs Humans)");
                 break;
                 
@@ -108,14 +109,13 @@ public class InputHandler {
     }
     
     /**
-     * Moves the player in the specified direction.
+     * Queues a move of the player in the specified direction.
      * 
      * @param direction the direction to move
      */
     private void movePlayer(Direction direction) {
         PlayerMovementStrategy strategy = (PlayerMovementStrategy) game.getPlayer().getMovementStrategy();
-        Command moveCommand = new MoveCommand(strategy, direction);
-        moveCommand.execute(game);
+        game.submitCommand(new MoveCommand(strategy, direction));
     }
     
     /**
@@ -131,6 +131,7 @@ public class InputHandler {
         System.out.println("Avoid punishments (X) and defeat enemies!");
         System.out.println("Press Enter to continue...");
         scanner.nextLine();
+        ui.invalidateScreen();
     }
     
     /**
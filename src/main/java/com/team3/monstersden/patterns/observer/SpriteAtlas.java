@@ -0,0 +1,138 @@
+package com.team3.monstersden.patterns.observer;
+
+import java.util.Map;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * All board sprites packed into one texture, pre-scaled to a single cell size.
+ *
+ * <p>Each sprite is rendered once into its own cell-sized slot exactly as it
+ * appears on the board: inset by the usual margin, with the player filling
+ * the cell and a mirrored copy for when it faces left. Sprites whose image
+ * failed to load get their fallback shape baked in instead. Drawing a sprite
+ * is then a 1:1 copy of a sub-image, so no full-size PNG is rescaled while
+ * the game runs. An atlas is only valid for one cell size; build a new one
+ * when the cell size changes.</p>
+ *
+ * <p>Must be created on the JavaFX application thread.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class SpriteAtlas {
+
+    /**
+     * Sprites in the atlas, with the image cache key each is drawn from.
+     */
+    public enum Sprite {
+        FLOOR("floor"),
+        WALL("wall"),
+        EXIT("exit"),
+        TRAP("trap"),
+        REWARD("reward"),
+        BONUS("bonus"),
+        MONSTER("monster"),
+        HUMAN("human"),
+        PLAYER("player"),
+        PLAYER_LEFT("player");
+
+        private final String imageKey;
+
+        Sprite(String imageKey) {
+            this.imageKey = imageKey;
+        }
+
+        /** @return key of the source image in the image cache */
+        public String getImageKey() {
+            return imageKey;
+        }
+    }
+
+    /** Slots per texture row; keeps the texture roughly square */
+    private static final int COLUMNS = 4;
+
+    private final int cellSize;
+    private final WritableImage texture;
+
+    /**
+     * Renders every sprite into a new texture.
+     *
+     * @param cellSize size of one cell in pixels, at least 1
+     * @param images loaded images by cache key; missing or broken ones use the fallback
+     * @param fallbacks color drawn for each sprite whose image is unavailable
+     */
+    public SpriteAtlas(int cellSize, Map<String, Image> images, Map<Sprite, Color> fallbacks) {
+        if (cellSize < 1) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+
+        Sprite[] sprites = Sprite.values();
+        int rows = (sprites.length + COLUMNS - 1) / COLUMNS;
+        Canvas sheet = new Canvas(COLUMNS * cellSize, rows * cellSize);
+        GraphicsContext g = sheet.getGraphicsContext2D();
+
+        for (Sprite sprite : sprites) {
+            Image image = images.get(sprite.getImageKey());
+            boolean usable = image != null && !image.isError();
+            double x = slotX(sprite);
+            double y = slotY(sprite);
+            double size = cellSize;
+
+            if (sprite == Sprite.PLAYER || sprite == Sprite.PLAYER_LEFT) {
+                if (!usable) {
+                    g.setFill(fallbacks.get(sprite));
+                    g.fillOval(x + 4, y + 4, size - 8, size - 8);
+                } else if (sprite == Sprite.PLAYER_LEFT) {
+                    g.drawImage(image, x + size, y, -size, size); // flipped
+                } else {
+                    g.drawImage(image, x, y, size, size);
+                }
+            } else if (usable) {
+                g.drawImage(image, x + 2, y + 2, size - 4, size - 4);
+            } else {
+                g.setFill(fallbacks.get(sprite));
+                g.fillRect(x + 4, y + 4, size - 8, size - 8);
+            }
+        }
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        this.texture = sheet.snapshot(params, null);
+    }
+
+    /**
+     * Returns the cell size the sprites were scaled to.
+     *
+     * @return cell size in pixels
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Copies a sprite into a cell.
+     *
+     * @param g graphics context to draw on
+     * @param sprite sprite to draw
+     * @param x left edge of the cell
+     * @param y top edge of the cell
+     */
+    public void draw(GraphicsContext g, Sprite sprite, double x, double y) {
+        g.drawImage(texture, slotX(sprite), slotY(sprite), cellSize, cellSize, x, y, cellSize, cellSize);
+    }
+
+    private int slotX(Sprite sprite) {
+        return (sprite.ordinal() % COLUMNS) * cellSize;
+    }
+
+    private int slotY(Sprite sprite) {
+        return (sprite.ordinal() / COLUMNS) * cellSize;
+    }
+}
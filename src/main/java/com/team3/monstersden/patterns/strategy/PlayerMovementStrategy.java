@@ -12,6 +12,7 @@ import com.team3.monstersden.items.Punishment;
 import com.team3.monstersden.items.Reward;
 import com.team3.monstersden.items.RegularReward;
 import com.team3.monstersden.util.Direction;
+import com.team3.monstersden.util.GameLog;
 
 /**
  * Player movement logic using Strategy pattern.
@@ -71,10 +72,10 @@ switch (dir) {
     player.attack(enemy);
 
     if (!enemy.isAlive()) {
-        System.out.println("Enemy defeated!");
+        GameLog.debug("Enemy defeated!");
         nextCell.setEnemy(null);
         game.addScore(50);
-        game.removeEnemy(enemy); // remove from enemy list too
+        game.enemyKilled(enemy); // remove from enemy list too
 
         // Move into the now-empty cell
         player.setX(newX);
@@ -85,7 +86,7 @@ switch (dir) {
         // Enemy survives → counterattacks ONCE
         int damage = enemy.getDamage();
         player.takeDamage(damage);
-        System.out.println(enemy.getClass().getSimpleName() + " hit back for " + damage + " damage!");
+        GameLog.debug("{} hit back for {} damage!", enemy.getClass().getSimpleName(), damage);
         game.notifyObservers();
         return; // Player does NOT move into the cell
     }
@@ -128,6 +129,7 @@ private void handleCellInteractions(Game game, Cell cell) {
         Punishment trap = cell.getPunishment();
         if (trap.isActive()) {
             int penalty = trap.trigger();
+            game.trapTriggered(trap); // Schedules the re-arm
             game.addScore(-penalty);
             game.getPlayer().takeDamage(GameConfig.TRAP_HP_DAMAGE); // HP loss too
 
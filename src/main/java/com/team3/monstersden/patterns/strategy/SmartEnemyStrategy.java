@@ -6,18 +6,44 @@ import com.team3.monstersden.characters.Enemy;
 import com.team3.monstersden.characters.Player;
 import com.team3.monstersden.core.Board;
 import com.team3.monstersden.core.GameConfig;
+import com.team3.monstersden.core.GameRandom;
 import com.team3.monstersden.util.AStarPathFinder;
 import com.team3.monstersden.util.Direction;
-
-import java.util.Random;
+import com.team3.monstersden.util.DistanceField;
 
 /**
  * Advanced movement strategy that implements a state machine for enemy AI.
- * Uses A* pathfinding for chasing and random movement for patrolling.
+ * Chases by following the board's shared distance field toward the player,
+ * falling back to A* pathfinding when the enemy is outside the field, and
+ * uses random movement for patrolling.
  */
 public class SmartEnemyStrategy implements MovementStrategy {
 
-    private final Random random = new Random();
+    private final GameRandom random;
+
+    /**
+     * Creates a strategy with its own unseeded random stream.
+     */
+    public SmartEnemyStrategy() {
+        this(new GameRandom());
+    }
+
+    /**
+     * Creates a strategy that patrols using the given random stream,
+     * normally split from the game's RandomSource.Stream.ENEMY_AI.
+     * @param random random stream owned by this strategy
+     */
+    public SmartEnemyStrategy(GameRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Returns the strategy's random stream, e.g. to save its state in a game snapshot.
+     * @return random stream owned by this strategy
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
 
     @Override
     public Direction chooseMove(Board board, Character self, Player player) {
@@ -30,7 +56,7 @@ public class SmartEnemyStrategy implements MovementStrategy {
         // Decide move based on current state
         switch (enemy.getCurrentState()) {
             case CHASE:
-                return AStarPathFinder.findNextMove(board, enemy.getX(), enemy.getY(), player.getX(), player.getY());
+                return getChaseMove(board, enemy, player);
             case PATROL:
                 return getPatrolMove(board, enemy);
             case IDLE:
@@ -58,6 +84,23 @@ public class SmartEnemyStrategy implements MovementStrategy {
         }
     }
 
+    private Direction getChaseMove(Board board, Enemy enemy, Player player) {
+        // Shared per-tick BFS from the player: just step downhill
+        DistanceField field = board.getChaseField();
+        if (field.update(player.getX(), player.getY())) {
+            int here = field.distanceAt(enemy.getX(), enemy.getY());
+            if (here != DistanceField.UNREACHED) {
+                Direction step = field.downhillFrom(enemy.getX(), enemy.getY());
+                if (step != Direction.NONE || here == 0) {
+                    return step;
+                }
+                // Every shorter step holds an enemy: route around them below
+            }
+        }
+        // Path is longer than the chase range, blocked by enemies (or the board can't be indexed)
+        return AStarPathFinder.findNextMove(board, enemy.getX(), enemy.getY(), player.getX(), player.getY());
+    }
+
     private Direction getPatrolMove(Board board, Enemy enemy) {
         // Simple random wander for patrol, but avoids walls and keeps moving if possible
         Direction[] dirs = Direction.values();
@@ -0,0 +1,373 @@
+package com.team3.monstersden.replay;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.core.Game.GameState;
+import com.team3.monstersden.items.SilverSword;
+import com.team3.monstersden.items.SteelSword;
+import com.team3.monstersden.items.Sword;
+import com.team3.monstersden.patterns.command.Command;
+import com.team3.monstersden.patterns.command.MoveCommand;
+import com.team3.monstersden.patterns.command.SwitchWeaponCommand;
+import com.team3.monstersden.patterns.strategy.PlayerMovementStrategy;
+import com.team3.monstersden.util.Direction;
+
+/**
+ * An immutable recording of one game: its seed, map, the player commands
+ * with the tick each ran in, and state checksums taken every few ticks.
+ * Built by a {@link ReplayRecorder} and re-run by a {@link ReplayPlayer}.
+ *
+ * <p>Files (version {@value #VERSION}) start with the big-endian int magic
+ * "MDRP"; every other number is an unsigned LEB128 varint, with signed
+ * values zigzag-encoded:
+ * <pre>
+ * int     magic "MDRP"
+ * varint  version
+ * varint  game seed (zigzag)
+ * varint  map id length in UTF-8 bytes (0 for none), then the bytes
+ * varint  checksum interval in ticks
+ * varint  tick count
+ * varint  outcome, a Game.GameState ordinal
+ * varint  initial weapon code, then its damage
+ * varint  command count, then per command:
+ *           varint tick delta from the previous command, varint code,
+ *           and for weapon codes varint damage
+ * varint  checksum count, then per checksum:
+ *           varint tick delta from the previous checksum, long checksum
+ * </pre>
+ * Command codes 0-3 are moves in Direction order (UP, DOWN, LEFT, RIGHT),
+ * 4 equips a steel sword and 5 a silver sword. A typical game records one
+ * or two bytes per move.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class Replay {
+
+    /** First four bytes of a replay file: "MDRP" */
+    public static final int MAGIC = 0x4D445250;
+
+    /** File format version written by this class */
+    public static final int VERSION = 1;
+
+    static final int STEEL_SWORD = 4;
+    static final int SILVER_SWORD = 5;
+    private static final int CODES = 6;
+
+    private static final GameState[] STATES = GameState.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final long gameSeed;
+    private final String mapId;
+    private final int checksumInterval;
+    private final long tickCount;
+    private final GameState outcome;
+    private final int initialWeapon;
+    private final int initialWeaponDamage;
+    private final long[] commandTicks;
+    private final int[] commandCodes;
+    private final int[] commandArgs;
+    private final long[] checksumTicks;
+    private final long[] checksums;
+
+    /**
+     * Creates a replay. The arrays are owned by the replay from now on.
+     */
+    Replay(long gameSeed, String mapId, int checksumInterval, long tickCount, GameState outcome,
+           int initialWeapon, int initialWeaponDamage,
+           long[] commandTicks, int[] commandCodes, int[] commandArgs,
+           long[] checksumTicks, long[] checksums) {
+        this.gameSeed = gameSeed;
+        this.mapId = mapId;
+        this.checksumInterval = checksumInterval;
+        this.tickCount = tickCount;
+        this.outcome = outcome;
+        this.initialWeapon = initialWeapon;
+        this.initialWeaponDamage = initialWeaponDamage;
+        this.commandTicks = commandTicks;
+        this.commandCodes = commandCodes;
+        this.commandArgs = commandArgs;
+        this.checksumTicks = checksumTicks;
+        this.checksums = checksums;
+    }
+
+    /**
+     * Returns the code of a command, or -1 if replays cannot record it.
+     */
+    static int encode(Command command) {
+        if (command instanceof MoveCommand) {
+            Direction direction = ((MoveCommand) command).getDirection();
+            return direction == null || direction == Direction.NONE ? -1 : direction.ordinal();
+        }
+        if (command instanceof SwitchWeaponCommand) {
+            return weaponCode(((SwitchWeaponCommand) command).getWeapon());
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the extra value a command code carries: the sword's damage, or 0.
+     */
+    static int argument(Command command) {
+        if (command instanceof SwitchWeaponCommand && ((SwitchWeaponCommand) command).getWeapon() != null) {
+            return ((SwitchWeaponCommand) command).getWeapon().getBaseDamage();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the code of a sword, or -1 if replays cannot record it.
+     */
+    static int weaponCode(Sword weapon) {
+        if (weapon instanceof SteelSword) return STEEL_SWORD;
+        if (weapon instanceof SilverSword) return SILVER_SWORD;
+        return -1;
+    }
+
+    /**
+     * Creates the sword for a weapon code.
+     */
+    static Sword weapon(int code, int damage) {
+        return code == STEEL_SWORD ? new SteelSword(damage) : new SilverSword(damage);
+    }
+
+    /**
+     * Recreates a recorded command for the game it will run in.
+     */
+    static Command decode(int code, int argument, Game game) {
+        if (code < STEEL_SWORD) {
+            PlayerMovementStrategy strategy = (PlayerMovementStrategy) game.getPlayer().getMovementStrategy();
+            return new MoveCommand(strategy, DIRECTIONS[code]);
+        }
+        return new SwitchWeaponCommand(weapon(code, argument));
+    }
+
+    /** @return seed of the game's RandomSource */
+    public long getGameSeed() { return gameSeed; }
+
+    /** @return id of the map the game was played on, or null for an unnamed layout */
+    public String getMapId() { return mapId; }
+
+    /** @return ticks between periodic checksums */
+    public int getChecksumInterval() { return checksumInterval; }
+
+    /** @return number of ticks recorded */
+    public long getTickCount() { return tickCount; }
+
+    /** @return state of the game when recording stopped */
+    public GameState getOutcome() { return outcome; }
+
+    /** @return number of recorded commands */
+    public int getCommandCount() { return commandTicks.length; }
+
+    /**
+     * @param i command number
+     * @return tick the command ran in, counting from 1
+     */
+    public long getCommandTick(int i) { return commandTicks[i]; }
+
+    /** @return number of recorded checksums */
+    public int getChecksumCount() { return checksums.length; }
+
+    /**
+     * @param i checksum number
+     * @return tick after which the checksum was taken
+     */
+    public long getChecksumTick(int i) { return checksumTicks[i]; }
+
+    /**
+     * @param i checksum number
+     * @return the state checksum
+     */
+    public long getChecksum(int i) { return checksums[i]; }
+
+    int getCommandCode(int i) { return commandCodes[i]; }
+
+    int getCommandArgument(int i) { return commandArgs[i]; }
+
+    int getInitialWeapon() { return initialWeapon; }
+
+    int getInitialWeaponDamage() { return initialWeaponDamage; }
+
+    /**
+     * Encodes the replay in the file format.
+     *
+     * @return a buffer positioned at 0 holding the whole replay
+     */
+    public ByteBuffer toBinary() {
+        byte[] id = mapId == null ? new byte[0] : mapId.getBytes(StandardCharsets.UTF_8);
+        // Worst case: 10 bytes per varint
+        int size = 4 + 10 * 9 + id.length + commandTicks.length * 30 + checksums.length * 18;
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(MAGIC);
+        putVarLong(out, VERSION);
+        putVarLong(out, zigzag(gameSeed));
+        putVarLong(out, id.length);
+        out.put(id);
+        putVarLong(out, checksumInterval);
+        putVarLong(out, tickCount);
+        putVarLong(out, outcome.ordinal());
+        putVarLong(out, initialWeapon);
+        putVarLong(out, initialWeaponDamage);
+
+        putVarLong(out, commandTicks.length);
+        long previous = 0;
+        for (int i = 0; i < commandTicks.length; i++) {
+            putVarLong(out, commandTicks[i] - previous);
+            previous = commandTicks[i];
+            putVarLong(out, commandCodes[i]);
+            if (commandCodes[i] >= STEEL_SWORD) {
+                putVarLong(out, commandArgs[i]);
+            }
+        }
+
+        putVarLong(out, checksums.length);
+        previous = 0;
+        for (int i = 0; i < checksums.length; i++) {
+            putVarLong(out, checksumTicks[i] - previous);
+            previous = checksumTicks[i];
+            out.putLong(checksums[i]);
+        }
+        out.flip();
+        return out;
+    }
+
+    /**
+     * Writes the replay to a file, replacing any existing file.
+     *
+     * @param file destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        ByteBuffer data = toBinary();
+        Files.write(file, Arrays.copyOf(data.array(), data.limit()));
+    }
+
+    /**
+     * Reads a replay file.
+     *
+     * @param file the replay file
+     * @return the replay
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid replay
+     */
+    public static Replay read(Path file) throws IOException {
+        return read(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Parses a replay from a buffer.
+     *
+     * @param source the replay bytes, from its position to its limit
+     * @return the replay
+     * @throws IllegalArgumentException if the bytes are not a valid replay
+     */
+    public static Replay read(ByteBuffer source) {
+        ByteBuffer in = source.duplicate();
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a replay file");
+            }
+            long version = getVarLong(in);
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported replay version " + version);
+            }
+            long gameSeed = unzigzag(getVarLong(in));
+            byte[] id = new byte[count(getVarLong(in), in.remaining())];
+            in.get(id);
+            String mapId = id.length == 0 ? null : new String(id, StandardCharsets.UTF_8);
+            int checksumInterval = toInt(getVarLong(in), 1, "checksum interval");
+            long tickCount = getVarLong(in);
+            long outcome = getVarLong(in);
+            if (outcome < 0 || outcome >= STATES.length) {
+                throw new IllegalArgumentException("Corrupt replay: unknown outcome " + outcome);
+            }
+            int initialWeapon = code(getVarLong(in));
+            int initialWeaponDamage = toInt(getVarLong(in), Integer.MIN_VALUE, "weapon damage");
+
+            int commands = count(getVarLong(in), in.remaining());
+            long[] commandTicks = new long[commands];
+            int[] commandCodes = new int[commands];
+            int[] commandArgs = new int[commands];
+            long tick = 0;
+            for (int i = 0; i < commands; i++) {
+                tick += getVarLong(in);
+                commandTicks[i] = tick;
+                commandCodes[i] = code(getVarLong(in));
+                if (commandCodes[i] >= STEEL_SWORD) {
+                    commandArgs[i] = toInt(getVarLong(in), Integer.MIN_VALUE, "command argument");
+                }
+            }
+
+            int checksumCount = count(getVarLong(in), in.remaining() / 8);
+            long[] checksumTicks = new long[checksumCount];
+            long[] checksums = new long[checksumCount];
+            tick = 0;
+            for (int i = 0; i < checksumCount; i++) {
+                tick += getVarLong(in);
+                checksumTicks[i] = tick;
+                checksums[i] = in.getLong();
+            }
+            return new Replay(gameSeed, mapId, checksumInterval, tickCount, STATES[(int) outcome],
+                initialWeapon, initialWeaponDamage, commandTicks, commandCodes, commandArgs,
+                checksumTicks, checksums);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Corrupt replay: file is truncated", e);
+        }
+    }
+
+    private static int count(long value, int limit) {
+        if (value < 0 || value > limit) {
+            throw new IllegalArgumentException("Corrupt replay: count " + value + " exceeds the file");
+        }
+        return (int) value;
+    }
+
+    private static int code(long value) {
+        if (value < 0 || value >= CODES) {
+            throw new IllegalArgumentException("Corrupt replay: unknown command code " + value);
+        }
+        return (int) value;
+    }
+
+    /** Narrows a decoded int field; ints are written sign-extended, so negatives are fine */
+    private static int toInt(long value, int min, String field) {
+        if (value < min || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Corrupt replay: " + field + " " + value + " is out of range");
+        }
+        return (int) value;
+    }
+
+    static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("Corrupt replay: varint too long");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,244 @@
+package com.team3.monstersden.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.core.Game.GameState;
+import com.team3.monstersden.core.GameConfig;
+import com.team3.monstersden.core.MapLayout;
+import com.team3.monstersden.core.MapTemplateCache;
+import com.team3.monstersden.core.SessionRegistry;
+
+/**
+ * Re-runs a {@link Replay} through Game.tick() without a UI or tick timer.
+ *
+ * <p>The replayed game starts from the recorded seed and map, and before
+ * each tick the player queues the commands recorded for it, so the game
+ * goes through exactly the recorded states. After every tick that has a
+ * recorded checksum, the live state is hashed and compared; the first
+ * mismatch is kept as the divergence tick. Like the HeadlessRunner, a tick
+ * that throws is counted and playback carries on.</p>
+ *
+ * <p>Every few hundred ticks the player keeps a {@link Game#saveSnapshot()
+ * snapshot} of the game. {@link #seek(long)} resumes from the latest
+ * checkpoint at or before the target, restarting the game only when there
+ * is none, so seeking back and forth in a long replay re-simulates at most
+ * one checkpoint interval.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class ReplayPlayer {
+
+    private final SessionRegistry registry;
+    private final Replay replay;
+    private final MapLayout layout;
+    private final Game game;
+    private final int checkpointInterval;
+    private final TreeMap<Long, Checkpoint> checkpoints = new TreeMap<>();
+    private int nextCommand;
+    private int nextChecksum;
+    private long divergenceTick = -1;
+    private int failedTicks;
+
+    /**
+     * Creates a player for a replay of a map in resources/maps.
+     *
+     * @param registry registry that hosts the replayed session
+     * @param replay the replay
+     * @throws IOException if the replay's map cannot be read
+     * @throws IllegalArgumentException if the replay has no map id
+     */
+    public ReplayPlayer(SessionRegistry registry, Replay replay) throws IOException {
+        this(registry, replay, loadMap(replay));
+    }
+
+    /**
+     * Creates a player for a replay, using the given layout as its map,
+     * e.g. for games played on a generated map.
+     *
+     * @param registry registry that hosts the replayed session
+     * @param replay the replay
+     * @param layout the map the game was played on
+     */
+    public ReplayPlayer(SessionRegistry registry, Replay replay, MapLayout layout) {
+        this(registry, replay, layout, GameConfig.REPLAY_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a player for a replay with a custom checkpoint spacing.
+     *
+     * @param registry registry that hosts the replayed session
+     * @param replay the replay
+     * @param layout the map the game was played on
+     * @param checkpointInterval ticks between kept snapshots
+     */
+    public ReplayPlayer(SessionRegistry registry, Replay replay, MapLayout layout, int checkpointInterval) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.registry = registry;
+        this.replay = replay;
+        this.layout = layout;
+        this.checkpointInterval = checkpointInterval;
+        this.game = registry.createSession(replay.getGameSeed());
+        restart();
+    }
+
+    private static MapLayout loadMap(Replay replay) throws IOException {
+        if (replay.getMapId() == null) {
+            throw new IllegalArgumentException("Replay has no map id; pass its layout instead");
+        }
+        return MapTemplateCache.getShared().get(replay.getMapId());
+    }
+
+    private void restart() {
+        game.initialize(layout, replay.getMapId(), replay.getGameSeed());
+        game.getPlayer().setCurrentSword(Replay.weapon(replay.getInitialWeapon(), replay.getInitialWeaponDamage()));
+        game.startManualLoop();
+        nextCommand = 0;
+        nextChecksum = 0;
+        failedTicks = 0;
+    }
+
+    /**
+     * Runs the next recorded tick.
+     *
+     * @return false if the replay had already ended
+     */
+    public boolean step() {
+        if (isFinished()) return false;
+        long tick = game.getTickCount() + 1;
+        while (nextCommand < replay.getCommandCount() && replay.getCommandTick(nextCommand) <= tick) {
+            game.submitCommand(Replay.decode(replay.getCommandCode(nextCommand),
+                replay.getCommandArgument(nextCommand), game));
+            nextCommand++;
+        }
+        try {
+            game.tick();
+        } catch (RuntimeException e) {
+            failedTicks++;
+        }
+        verify(tick);
+        if (tick % checkpointInterval == 0 && !checkpoints.containsKey(tick)) {
+            checkpoints.put(tick, new Checkpoint(game.saveSnapshot(), failedTicks));
+        }
+        return true;
+    }
+
+    private void verify(long tick) {
+        while (nextChecksum < replay.getChecksumCount() && replay.getChecksumTick(nextChecksum) < tick) {
+            nextChecksum++; // Tick was skipped, e.g. the game ended early
+        }
+        if (nextChecksum < replay.getChecksumCount() && replay.getChecksumTick(nextChecksum) == tick) {
+            if (divergenceTick < 0 && StateChecksum.of(game) != replay.getChecksum(nextChecksum)) {
+                divergenceTick = tick;
+            }
+            nextChecksum++;
+        }
+    }
+
+    /**
+     * Plays the game to the given tick, restarting it first if the tick
+     * has already passed.
+     *
+     * @param tick target tick, clamped to the recorded range
+     * @return the tick reached
+     */
+    public long seek(long tick) {
+        long target = Math.max(0, Math.min(tick, replay.getTickCount()));
+        Map.Entry<Long, Checkpoint> checkpoint = checkpoints.floorEntry(target);
+        if (checkpoint != null && (target < game.getTickCount() || checkpoint.getKey() > game.getTickCount())) {
+            resume(checkpoint.getKey(), checkpoint.getValue());
+        } else if (target < game.getTickCount()) {
+            restart();
+        }
+        while (game.getTickCount() < target && step()) {
+            // Fast-forward
+        }
+        return game.getTickCount();
+    }
+
+    private void resume(long tick, Checkpoint checkpoint) {
+        game.loadSnapshot(checkpoint.state);
+        failedTicks = checkpoint.failedTicks;
+        nextCommand = 0;
+        while (nextCommand < replay.getCommandCount() && replay.getCommandTick(nextCommand) <= tick) {
+            nextCommand++;
+        }
+        nextChecksum = 0;
+        while (nextChecksum < replay.getChecksumCount() && replay.getChecksumTick(nextChecksum) <= tick) {
+            nextChecksum++;
+        }
+    }
+
+    /**
+     * Plays the rest of the replay as fast as possible.
+     *
+     * @return the tick reached
+     */
+    public long playToEnd() {
+        return seek(replay.getTickCount());
+    }
+
+    /**
+     * Checks whether playback has reached the end of the recording, or the
+     * replayed game has ended before it.
+     *
+     * @return true if there are no more ticks to play
+     */
+    public boolean isFinished() {
+        return game.getTickCount() >= replay.getTickCount() || game.getGameState() != GameState.RUNNING;
+    }
+
+    /**
+     * Checks whether the replayed game matches the recording so far:
+     * every checksum passed agreed, and a finished replay ended the same way.
+     *
+     * @return true if no divergence was detected
+     */
+    public boolean isConsistent() {
+        if (divergenceTick >= 0) return false;
+        return !isFinished() || (game.getTickCount() == replay.getTickCount()
+            && game.getGameState() == replay.getOutcome());
+    }
+
+    /** @return first tick whose checksum did not match, or -1 */
+    public long getDivergenceTick() { return divergenceTick; }
+
+    /** @return ticks played so far */
+    public long getTick() { return game.getTickCount(); }
+
+    /** @return ticks cut short by an exception since the last restart */
+    public int getFailedTicks() { return failedTicks; }
+
+    /** @return number of checkpoints kept so far */
+    public int getCheckpointCount() { return checkpoints.size(); }
+
+    /** @return the replayed game, for inspecting or rendering its state */
+    public Game getGame() { return game; }
+
+    /** @return the replay being played */
+    public Replay getReplay() { return replay; }
+
+    /**
+     * Closes the replayed session.
+     */
+    public void close() {
+        registry.closeSession(game.getSessionId());
+    }
+
+    /** Game state saved at a tick, with the failure count at that point */
+    private static final class Checkpoint {
+        final ByteBuffer state;
+        final int failedTicks;
+
+        Checkpoint(ByteBuffer state, int failedTicks) {
+            this.state = state;
+            this.failedTicks = failedTicks;
+        }
+    }
+}
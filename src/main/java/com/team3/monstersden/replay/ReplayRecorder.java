@@ -0,0 +1,147 @@
+package com.team3.monstersden.replay;
+
+import java.util.Arrays;
+
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.core.Game.GameState;
+import com.team3.monstersden.core.GameConfig;
+import com.team3.monstersden.items.Sword;
+import com.team3.monstersden.patterns.command.Command;
+import com.team3.monstersden.util.GameLog;
+
+/**
+ * Records the games of one session as {@link Replay}s.
+ *
+ * <p>Attach it with {@link Game#setReplayRecorder} before initialize().
+ * Each new game restarts the recording, which keeps the game seed and map
+ * id, every command with the tick it ran in, and a state checksum every
+ * few ticks and when the game ends. Calls from the game arrive on the
+ * thread that runs its ticks; {@link #toReplay()} may be called from any
+ * thread, e.g. when the window closes mid-game.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class ReplayRecorder {
+
+    private final int checksumInterval;
+    private boolean started;
+    private long gameSeed;
+    private String mapId;
+    private int initialWeapon;
+    private int initialWeaponDamage;
+    private long tickCount;
+    private GameState outcome = GameState.NOT_STARTED;
+
+    private int commandCount;
+    private long[] commandTicks = new long[64];
+    private int[] commandCodes = new int[64];
+    private int[] commandArgs = new int[64];
+
+    private int checksumCount;
+    private long[] checksumTicks = new long[16];
+    private long[] checksums = new long[16];
+
+    /**
+     * Creates a recorder that takes a checksum every
+     * GameConfig.REPLAY_CHECKSUM_INTERVAL ticks.
+     */
+    public ReplayRecorder() {
+        this(GameConfig.REPLAY_CHECKSUM_INTERVAL);
+    }
+
+    /**
+     * Creates a recorder.
+     *
+     * @param checksumInterval ticks between state checksums
+     */
+    public ReplayRecorder(int checksumInterval) {
+        if (checksumInterval <= 0) {
+            throw new IllegalArgumentException("Checksum interval must be positive");
+        }
+        this.checksumInterval = checksumInterval;
+    }
+
+    /**
+     * Starts recording a new game. Called by Game.initialize once the world is populated.
+     *
+     * @param game the game
+     */
+    public synchronized void begin(Game game) {
+        started = true;
+        gameSeed = game.getRandomSource().getSeed();
+        mapId = game.getMapId();
+        Sword sword = game.getPlayer().getCurrentSword();
+        initialWeapon = Replay.weaponCode(sword);
+        if (initialWeapon < 0) {
+            initialWeapon = Replay.SILVER_SWORD; // The player's default
+        }
+        initialWeaponDamage = sword != null ? sword.getBaseDamage() : 0;
+        tickCount = 0;
+        outcome = game.getGameState();
+        commandCount = 0;
+        checksumCount = 0;
+    }
+
+    /**
+     * Records a command the game is about to execute.
+     *
+     * @param tick number of the tick it ran in, counting from 1
+     * @param command the command
+     */
+    public synchronized void commandStarting(long tick, Command command) {
+        if (!started) return;
+        int code = Replay.encode(command);
+        if (code < 0) {
+            GameLog.warn("Replay cannot record {}; playback will diverge", command.getClass().getSimpleName());
+            return;
+        }
+        if (commandCount == commandTicks.length) {
+            int capacity = commandCount * 2;
+            commandTicks = Arrays.copyOf(commandTicks, capacity);
+            commandCodes = Arrays.copyOf(commandCodes, capacity);
+            commandArgs = Arrays.copyOf(commandArgs, capacity);
+        }
+        commandTicks[commandCount] = tick;
+        commandCodes[commandCount] = code;
+        commandArgs[commandCount] = Replay.argument(command);
+        commandCount++;
+    }
+
+    /**
+     * Records the end of a tick, and a checksum if one is due or the game is over.
+     *
+     * @param game the game
+     */
+    public synchronized void tickCompleted(Game game) {
+        if (!started) return;
+        tickCount = game.getTickCount();
+        outcome = game.getGameState();
+        if (tickCount % checksumInterval == 0 || game.isGameOver()) {
+            if (checksumCount == checksums.length) {
+                checksumTicks = Arrays.copyOf(checksumTicks, checksumCount * 2);
+                checksums = Arrays.copyOf(checksums, checksumCount * 2);
+            }
+            checksumTicks[checksumCount] = tickCount;
+            checksums[checksumCount] = StateChecksum.of(game);
+            checksumCount++;
+        }
+    }
+
+    /**
+     * Returns what has been recorded of the current game so far.
+     *
+     * @return the replay
+     * @throws IllegalStateException if no game has started
+     */
+    public synchronized Replay toReplay() {
+        if (!started) {
+            throw new IllegalStateException("No game has been recorded");
+        }
+        return new Replay(gameSeed, mapId, checksumInterval, tickCount, outcome,
+            initialWeapon, initialWeaponDamage,
+            Arrays.copyOf(commandTicks, commandCount), Arrays.copyOf(commandCodes, commandCount),
+            Arrays.copyOf(commandArgs, commandCount),
+            Arrays.copyOf(checksumTicks, checksumCount), Arrays.copyOf(checksums, checksumCount));
+    }
+}
@@ -0,0 +1,71 @@
+package com.team3.monstersden.replay;
+
+import java.util.List;
+
+import com.team3.monstersden.characters.Enemy;
+import com.team3.monstersden.characters.Player;
+import com.team3.monstersden.core.Game;
+
+/**
+ * 64-bit hash of the parts of a game's state that diverge when a replay
+ * goes wrong: tick, state, score, counters, the player and every enemy.
+ * Enemies are hashed in list order, which is part of the simulated state.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+final class StateChecksum {
+
+    private static final long PRIME = 0x100000001B3L;
+
+    private long hash = 0xCBF29CE484222325L;
+
+    private StateChecksum() { }
+
+    /**
+     * Hashes a game. Call it only from the thread that drives the game.
+     *
+     * @param game the game
+     * @return the checksum
+     */
+    static long of(Game game) {
+        StateChecksum sum = new StateChecksum();
+        sum.add(game.getTickCount());
+        sum.add(game.getGameState().ordinal());
+        sum.add(game.getScore());
+        sum.add(game.getKills());
+        sum.add(game.getCollectedRewards());
+
+        Player player = game.getPlayer();
+        sum.add(player.getX());
+        sum.add(player.getY());
+        sum.add(player.getHealth());
+        sum.add(Replay.weaponCode(player.getCurrentSword()));
+
+        List<Enemy> enemies = game.getEnemies();
+        sum.add(enemies.size());
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            sum.add(enemy.getX());
+            sum.add(enemy.getY());
+            sum.add(enemy.getHealth());
+            sum.add(enemy.getCurrentState().ordinal());
+        }
+        return sum.mix();
+    }
+
+    private void add(long value) {
+        // FNV-1a over the value's bytes
+        for (int i = 0; i < 8; i++) {
+            hash = (hash ^ (value & 0xFF)) * PRIME;
+            value >>>= 8;
+        }
+    }
+
+    private long mix() {
+        long h = hash;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
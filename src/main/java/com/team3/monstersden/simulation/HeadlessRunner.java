@@ -0,0 +1,117 @@
+package com.team3.monstersden.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.core.Game.GameState;
+import com.team3.monstersden.core.SessionRegistry;
+import com.team3.monstersden.patterns.command.MoveCommand;
+import com.team3.monstersden.patterns.strategy.PlayerMovementStrategy;
+import com.team3.monstersden.util.Direction;
+
+/**
+ * Runs whole games as fast as the CPU allows, without a UI or tick timer.
+ *
+ * <p>Each run creates its own session, asks a {@link PlayerPolicy} for a
+ * move every tick, queues it as a MoveCommand and calls Game.tick() in a
+ * tight loop until the game is won, lost, or the tick cap is reached.
+ * Like the scheduled game loop, a tick that throws is counted and the game
+ * carries on. Sessions share nothing, so many runs can go in parallel.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class HeadlessRunner {
+
+    private final SessionRegistry registry;
+    private final long maxTicks;
+
+    /**
+     * Creates a runner.
+     *
+     * @param registry registry that hosts the simulated sessions
+     * @param maxTicks tick cap per game
+     */
+    public HeadlessRunner(SessionRegistry registry, long maxTicks) {
+        if (maxTicks <= 0) {
+            throw new IllegalArgumentException("Tick cap must be positive");
+        }
+        this.registry = registry;
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Plays one game on the calling thread.
+     *
+     * @param policy scripted player
+     * @param seed seed for the game world
+     * @return the game's outcome and statistics
+     */
+    public SimulationResult run(PlayerPolicy policy, long seed) {
+        Game game = registry.createSession(seed);
+        try {
+            game.initialize();
+            game.startManualLoop();
+            PlayerMovementStrategy strategy = (PlayerMovementStrategy) game.getPlayer().getMovementStrategy();
+
+            long ticks = 0;
+            int failedTicks = 0;
+            while (game.getGameState() == GameState.RUNNING && ticks < maxTicks) {
+                Direction move = policy.nextMove(game, ticks);
+                if (move != null && move != Direction.NONE) {
+                    game.submitCommand(new MoveCommand(strategy, move));
+                }
+                try {
+                    game.tick();
+                } catch (RuntimeException e) {
+                    failedTicks++;
+                }
+                ticks++;
+            }
+
+            return new SimulationResult(seed, game.getGameState(), ticks, game.getScore(),
+                game.getKills(), game.getPlayer().getDamageTaken(), failedTicks);
+        } finally {
+            registry.closeSession(game.getSessionId());
+        }
+    }
+
+    /**
+     * Plays one game per seed on a pool of worker threads.
+     *
+     * @param policies creates a fresh policy for each game, since policies may keep state
+     * @param seeds one seed per game
+     * @param threads number of games to run at once
+     * @return results in the same order as the seeds
+     * @throws InterruptedException if interrupted while waiting for the games
+     */
+    public List<SimulationResult> runAll(Supplier<PlayerPolicy> policies, long[] seeds, int threads)
+            throws InterruptedException {
+        List<Callable<SimulationResult>> runs = new ArrayList<>(seeds.length);
+        for (long seed : seeds) {
+            runs.add(() -> run(policies.get(), seed));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<SimulationResult> results = new ArrayList<>(seeds.length);
+            for (Future<SimulationResult> future : pool.invokeAll(runs)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Simulation failed", e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.team3.monstersden.simulation;
+
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.util.Direction;
+
+/**
+ * Scripted player used by the {@link HeadlessRunner}.
+ * Called once per tick, before the tick runs.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface PlayerPolicy {
+
+    /**
+     * Chooses the player's move for the coming tick.
+     *
+     * @param game the game being simulated (read-only by convention)
+     * @param tick number of ticks already run
+     * @return the direction to move, or Direction.NONE to stay put
+     */
+    Direction nextMove(Game game, long tick);
+}
@@ -0,0 +1,74 @@
+package com.team3.monstersden.simulation;
+
+import com.team3.monstersden.core.Game.GameState;
+
+/**
+ * Outcome of one headless game.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class SimulationResult {
+
+    private final long seed;
+    private final GameState outcome;
+    private final long ticks;
+    private final int score;
+    private final int kills;
+    private final int damageTaken;
+    private final int failedTicks;
+
+    /**
+     * Creates a result.
+     *
+     * @param seed seed the game was generated from
+     * @param outcome WON, LOST, or RUNNING if the tick cap was hit
+     * @param ticks number of ticks run
+     * @param score final score
+     * @param kills enemies killed
+     * @param damageTaken total damage the player took
+     * @param failedTicks ticks cut short by an exception
+     */
+    public SimulationResult(long seed, GameState outcome, long ticks, int score, int kills, int damageTaken,
+                            int failedTicks) {
+        this.seed = seed;
+        this.outcome = outcome;
+        this.ticks = ticks;
+        this.score = score;
+        this.kills = kills;
+        this.damageTaken = damageTaken;
+        this.failedTicks = failedTicks;
+    }
+
+    /** @return seed the game was generated from */
+    public long getSeed() { return seed; }
+
+    /** @return WON, LOST, or RUNNING if the tick cap was hit */
+    public GameState getOutcome() { return outcome; }
+
+    /** @return number of ticks run */
+    public long getTicks() { return ticks; }
+
+    /** @return final score */
+    public int getScore() { return score; }
+
+    /** @return enemies killed */
+    public int getKills() { return kills; }
+
+    /** @return total damage the player took */
+    public int getDamageTaken() { return damageTaken; }
+
+    /** @return ticks cut short by an exception */
+    public int getFailedTicks() { return failedTicks; }
+
+    /** @return true if the game ended before the tick cap */
+    public boolean isFinished() {
+        return outcome == GameState.WON || outcome == GameState.LOST;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationResult{seed=" + seed + ", outcome=" + outcome + ", ticks=" + ticks
+            + ", score=" + score + ", kills=" + kills + ", damageTaken=" + damageTaken + ", failedTicks=" + failedTicks + "}";
+    }
+}
@@ -0,0 +1,276 @@
+package com.team3.monstersden.util;
+
+import java.util.Arrays;
+
+import com.team3.monstersden.core.Board;
+
+/**
+ * Allocation-free A* search over a {@link Board}.
+ *
+ * <p>All search state lives in primitive arrays that are reused between calls:
+ * <ul>
+ *   <li>a closed array indexed by {@code y * width + x}, reset by bumping a
+ *       generation counter instead of clearing it</li>
+ *   <li>a binary heap stored as parallel {@code int} arrays (f-cost, g-cost,
+ *       cell index and first step) instead of Node objects</li>
+ * </ul>
+ * The heap uses exactly the sift rules of {@link java.util.PriorityQueue} and
+ * receives the same sequence of entries as the original object-based search,
+ * so ties between equally short paths are broken the same way and
+ * {@link AStarPathFinder#findNextMove} returns identical directions.</p>
+ *
+ * <p>Targets the board's connectivity index places in another walkable
+ * region are rejected before searching. Like the original, the search
+ * expands a cell again for every duplicate entry, which grows without
+ * bound when enemies wall the target off; once it has expanded as many
+ * cells as the board holds, one flood fill checks that the target can
+ * still be reached, and the search gives up with Direction.NONE (its
+ * result anyway) if it cannot.</p>
+ *
+ * <p>An engine is not thread-safe; {@link #forCurrentThread()} hands out one
+ * engine per thread.</p>
+ */
+public final class AStarEngine {
+
+    /** Neighbour expansion order of the original search */
+    private static final Direction[] NEIGHBOURS = {
+        Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT
+    };
+
+    private static final ThreadLocal<AStarEngine> PER_THREAD = ThreadLocal.withInitial(AStarEngine::new);
+
+    /** Closed flag per cell: closed when equal to the current generation */
+    private int[] closed = new int[0];
+    private int generation;
+
+    /** Heap entries as parallel arrays */
+    private int[] heapF = new int[64];
+    private int[] heapG = new int[64];
+    private int[] heapCell = new int[64];
+    private int[] heapFirst = new int[64];
+    private int heapSize;
+
+    /** Flood fill state for the reachability check */
+    private boolean[] seen = new boolean[0];
+    private int[] queue = new int[0];
+
+    /** Result of a search that could not be run on the flat arrays */
+    private static final Direction UNSUPPORTED = null;
+
+    /**
+     * Returns the engine owned by the calling thread.
+     *
+     * @return a reusable engine for this thread
+     */
+    public static AStarEngine forCurrentThread() {
+        return PER_THREAD.get();
+    }
+
+    /**
+     * Finds the next step direction to take to reach the target.
+     *
+     * @param board The game board.
+     * @param startX Starting X coordinate.
+     * @param startY Starting Y coordinate.
+     * @param targetX Target X coordinate.
+     * @param targetY Target Y coordinate.
+     * @return The Direction to move next, or Direction.NONE if no path found.
+     */
+    public Direction findNextMove(Board board, int startX, int startY, int targetX, int targetY) {
+        if (startX == targetX && startY == targetY) return Direction.NONE;
+
+        Direction result = UNSUPPORTED;
+        if (board.isInBounds(startX, startY) && board.isInBounds(targetX, targetY)) {
+            result = search(board, startX, startY, targetX, targetY);
+        }
+        // Boards whose walkable area extends past their own bounds cannot be
+        // indexed by y * width + x, so they use the object-based search.
+        return result != UNSUPPORTED
+            ? result
+            : AStarPathFinder.referenceFindNextMove(board, startX, startY, targetX, targetY);
+    }
+
+    private Direction search(Board board, int startX, int startY, int targetX, int targetY) {
+        // A target in another region would otherwise expand the whole region first
+        if (!board.sameComponent(startX, startY, targetX, targetY)) {
+            return Direction.NONE;
+        }
+        int width = board.getWidth();
+        int cells = width * board.getHeight();
+        beginSearch(cells);
+
+        int targetIndex = targetY * width + targetX;
+        int startIndex = startY * width + startX;
+        heapSize = 0;
+        push(heuristic(startX, startY, targetX, targetY), 0, startIndex, -1);
+
+        int expansions = 0;
+        while (heapSize > 0) {
+            int g = heapG[0];
+            int cell = heapCell[0];
+            int first = heapFirst[0];
+            pop();
+
+            if (cell == targetIndex) {
+                return firstStep(first, width, startX, startY);
+            }
+            if (++expansions == cells && !reachable(board, startIndex, targetIndex, width, cells)) {
+                return Direction.NONE;
+            }
+
+            closed[cell] = generation;
+
+            int x = cell % width;
+            int y = cell / width;
+            for (Direction dir : NEIGHBOURS) {
+                int nx = x + dir.getDx();
+                int ny = y + dir.getDy();
+
+                if (!board.isValidMove(nx, ny)) continue;
+                if (!board.isInBounds(nx, ny)) return UNSUPPORTED;
+                if (board.hasEnemyAt(nx, ny) && (nx != targetX || ny != targetY)) continue;
+
+                int neighbour = ny * width + nx;
+                if (closed[neighbour] == generation) continue;
+
+                int newG = g + 1;
+                push(newG + heuristic(nx, ny, targetX, targetY), newG, neighbour, first < 0 ? neighbour : first);
+            }
+        }
+
+        return Direction.NONE;
+    }
+
+    /**
+     * Flood fills from the start with the search's rules (walls and enemies
+     * block, except on the target) to see whether the target can be reached.
+     * A walkable tile outside the board counts as reachable, since the
+     * search hands such boards to the object-based search.
+     */
+    private boolean reachable(Board board, int startIndex, int targetIndex, int width, int cells) {
+        if (seen.length < cells) {
+            seen = new boolean[cells];
+            queue = new int[cells];
+        } else {
+            Arrays.fill(seen, 0, cells, false);
+        }
+        int targetX = targetIndex % width;
+        int targetY = targetIndex / width;
+        int head = 0;
+        int tail = 0;
+        seen[startIndex] = true;
+        queue[tail++] = startIndex;
+        while (head < tail) {
+            int cell = queue[head++];
+            if (cell == targetIndex) return true;
+            int x = cell % width;
+            int y = cell / width;
+            for (Direction dir : NEIGHBOURS) {
+                int nx = x + dir.getDx();
+                int ny = y + dir.getDy();
+                if (!board.isValidMove(nx, ny)) continue;
+                if (!board.isInBounds(nx, ny)) return true;
+                if (board.hasEnemyAt(nx, ny) && (nx != targetX || ny != targetY)) continue;
+                int neighbour = ny * width + nx;
+                if (seen[neighbour]) continue;
+                seen[neighbour] = true;
+                queue[tail++] = neighbour;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Prepares the closed array for a new search without clearing it.
+     */
+    private void beginSearch(int cells) {
+        if (closed.length < cells) {
+            closed = new int[cells];
+            generation = 0;
+        }
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(closed, 0);
+            generation = 1;
+        }
+    }
+
+    private static int heuristic(int x1, int y1, int x2, int y2) {
+        // Manhattan distance for grid
+        return Math.abs(x1 - x2) + Math.abs(y1 - y2);
+    }
+
+    /**
+     * Maps the first cell of the path to a direction the same way the
+     * original search did, from the coordinate delta to the start.
+     */
+    private static Direction firstStep(int first, int width, int startX, int startY) {
+        if (first < 0) return Direction.NONE;
+
+        int dx = first % width - startX;
+        int dy = first / width - startY;
+
+        if (dx == 1) return Direction.RIGHT;
+        if (dx == -1) return Direction.LEFT;
+        if (dy == 1) return Direction.DOWN;
+        if (dy == -1) return Direction.UP;
+
+        return Direction.NONE;
+    }
+
+    // ---- Binary heap with java.util.PriorityQueue sift semantics, keyed on f ----
+
+    private void push(int f, int g, int cell, int first) {
+        if (heapSize == heapF.length) {
+            int capacity = heapSize * 2;
+            heapF = Arrays.copyOf(heapF, capacity);
+            heapG = Arrays.copyOf(heapG, capacity);
+            heapCell = Arrays.copyOf(heapCell, capacity);
+            heapFirst = Arrays.copyOf(heapFirst, capacity);
+        }
+        int k = heapSize++;
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            if (f >= heapF[parent]) break;
+            move(parent, k);
+            k = parent;
+        }
+        set(k, f, g, cell, first);
+    }
+
+    private void pop() {
+        int n = --heapSize;
+        if (n == 0) return;
+
+        int f = heapF[n];
+        int g = heapG[n];
+        int cell = heapCell[n];
+        int first = heapFirst[n];
+
+        int k = 0;
+        int half = n >>> 1;
+        while (k < half) {
+            int child = (k << 1) + 1;
+            int right = child + 1;
+            if (right < n && heapF[child] > heapF[right]) child = right;
+            if (f <= heapF[child]) break;
+            move(child, k);
+            k = child;
+        }
+        set(k, f, g, cell, first);
+    }
+
+    private void move(int from, int to) {
+        heapF[to] = heapF[from];
+        heapG[to] = heapG[from];
+        heapCell[to] = heapCell[from];
+        heapFirst[to] = heapFirst[from];
+    }
+
+    private void set(int k, int f, int g, int cell, int first) {
+        heapF[k] = f;
+        heapG[k] = g;
+        heapCell[k] = cell;
+        heapFirst[k] = first;
+    }
+}
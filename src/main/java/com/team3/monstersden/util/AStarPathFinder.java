@@ -8,6 +8,9 @@ import java.util.*;
 /**
  * Utility class implementing the A* pathfinding algorithm for grid-based movement.
  * Ensures entities can find the shortest path around obstacles.
+ *
+ * <p>Searches run on the calling thread's {@link AStarEngine}, which reuses
+ * primitive scratch buffers instead of allocating nodes, keys and queues.</p>
  */
 public class AStarPathFinder {
 
@@ -22,6 +25,14 @@ public class AStarPathFinder {
      * @return The Direction to move next, or Direction.NONE if no path found.
      */
     public static Direction findNextMove(Board board, int startX, int startY, int targetX, int targetY) {
+        return AStarEngine.forCurrentThread().findNextMove(board, startX, startY, targetX, targetY);
+    }
+
+    /**
+     * Object-based search the engine reproduces. Used for boards that cannot be
+     * indexed by {@code y * width + x} and as the reference in tests.
+     */
+    static Direction referenceFindNextMove(Board board, int startX, int startY, int targetX, int targetY) {
         if (startX == targetX && startY == targetY) return Direction.NONE;
 
         PriorityQueue<Node> openSet = new PriorityQueue<>();
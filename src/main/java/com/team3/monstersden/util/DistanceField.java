@@ -0,0 +1,156 @@
+package com.team3.monstersden.util;
+
+import java.util.Arrays;
+
+import com.team3.monstersden.core.Board;
+
+/**
+ * Breadth-first distance field toward a single target on a {@link Board}.
+ *
+ * <p>One BFS from the target (normally the player) labels every walkable cell
+ * within {@code range} steps with its path distance. Any number of chasing
+ * enemies can then pick their next step by moving to a neighbour one step
+ * closer, so the cost per tick is one search regardless of enemy count.</p>
+ *
+ * <p>The field only depends on walls, so it is recomputed only when the
+ * target moves or the board layout changes. Enemies are ignored by the
+ * search and checked when choosing a step instead.</p>
+ */
+public final class DistanceField {
+
+    /** Distance value for cells the search did not reach */
+    public static final int UNREACHED = -1;
+
+    /** Step order used when several neighbours are equally close */
+    private static final Direction[] STEPS = {
+        Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT
+    };
+
+    private final Board board;
+    private final int range;
+
+    /** Distance per cell, valid only where stamp equals the current generation */
+    private int[] distance = new int[0];
+    private int[] stamp = new int[0];
+    private int[] queue = new int[0];
+    private int generation;
+
+    private int targetX = Integer.MIN_VALUE;
+    private int targetY = Integer.MIN_VALUE;
+    private int layoutVersion = -1;
+    private boolean valid;
+
+    /**
+     * Creates a distance field over a board.
+     *
+     * @param board the board to search
+     * @param range maximum path distance labelled by the search
+     */
+    public DistanceField(Board board, int range) {
+        this.board = board;
+        this.range = range;
+    }
+
+    /**
+     * Makes the field describe distances toward the given target,
+     * running the BFS only if the target or the board layout changed.
+     *
+     * @param x target x-coordinate
+     * @param y target y-coordinate
+     * @return true if the field covers the target, false if it is off the board
+     */
+    public synchronized boolean update(int x, int y) {
+        int version = board.getLayoutVersion();
+        if (x == targetX && y == targetY && version == layoutVersion) {
+            return valid;
+        }
+        targetX = x;
+        targetY = y;
+        layoutVersion = version;
+        valid = board.isInBounds(x, y);
+        if (valid) {
+            compute(x, y);
+        }
+        return valid;
+    }
+
+    /**
+     * Returns the path distance from a cell to the current target.
+     *
+     * @param x cell x-coordinate
+     * @param y cell y-coordinate
+     * @return steps to the target, or {@link #UNREACHED} if beyond range or blocked
+     */
+    public int distanceAt(int x, int y) {
+        if (!valid || !board.isInBounds(x, y)) return UNREACHED;
+        int index = y * board.getWidth() + x;
+        return stamp[index] == generation ? distance[index] : UNREACHED;
+    }
+
+    /**
+     * Chooses the step that moves one cell closer to the target,
+     * skipping neighbours occupied by an enemy.
+     * The returned direction is meant to be applied as
+     * {@code (x + dir.getDx(), y + dir.getDy())}, as Enemy.tick does.
+     *
+     * @param x current x-coordinate
+     * @param y current y-coordinate
+     * @return the downhill direction, or Direction.NONE if none is free
+     */
+    public Direction downhillFrom(int x, int y) {
+        int here = distanceAt(x, y);
+        if (here <= 0) return Direction.NONE;
+
+        for (Direction dir : STEPS) {
+            int nx = x + dir.getDx();
+            int ny = y + dir.getDy();
+            if (distanceAt(nx, ny) == here - 1 && !board.hasEnemyAt(nx, ny)) {
+                return dir;
+            }
+        }
+        return Direction.NONE;
+    }
+
+    private void compute(int startX, int startY) {
+        int width = board.getWidth();
+        int cells = width * board.getHeight();
+        if (stamp.length < cells) {
+            distance = new int[cells];
+            stamp = new int[cells];
+            queue = new int[cells];
+            generation = 0;
+        }
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+
+        int head = 0;
+        int tail = 0;
+        int start = startY * width + startX;
+        stamp[start] = generation;
+        distance[start] = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int d = distance[cell];
+            if (d == range) continue;
+
+            int x = cell % width;
+            int y = cell / width;
+            for (Direction dir : STEPS) {
+                int nx = x + dir.getDx();
+                int ny = y + dir.getDy();
+                if (!board.isInBounds(nx, ny) || !board.isValidMove(nx, ny)) continue;
+
+                int next = ny * width + nx;
+                if (stamp[next] == generation) continue;
+                stamp[next] = generation;
+                distance[next] = d + 1;
+                queue[tail++] = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.team3.monstersden.util;
+
+import java.io.PrintStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.team3.monstersden.core.GameConfig;
+
+/**
+ * Asynchronous, level-gated logger for game events.
+ *
+ * <p>Messages are templates with {@code {}} placeholders plus up to four
+ * arguments. A call below the current level returns after one volatile read;
+ * an enabled call only stores the template and arguments in a bounded ring
+ * buffer. Formatting and the write to the output stream happen on a
+ * background daemon thread, so the game loop never concatenates strings or
+ * blocks on a slow terminal. If the buffer is full the event is dropped and
+ * counted rather than stalling the caller.</p>
+ *
+ * <p>Arguments are formatted later on the writer thread, so pass immutable
+ * values (numbers, strings, enums), not objects that the game keeps changing.</p>
+ */
+public final class GameLog {
+
+    /** Severity levels, lowest first */
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    /** Events the ring buffer holds before new ones are dropped */
+    public static final int CAPACITY = 4096;
+
+    private static final BlockingQueue<Event> BUFFER = new ArrayBlockingQueue<>(CAPACITY);
+    private static final AtomicLong PUBLISHED = new AtomicLong();
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final Object WRITTEN_LOCK = new Object();
+
+    private static volatile Level level = GameConfig.LOG_LEVEL;
+    /** Output stream, or null to write to whatever System.out is at the time */
+    private static volatile PrintStream out;
+    private static long written;
+    private static volatile Thread writer;
+
+    private GameLog() { }
+
+    /**
+     * Sets the lowest level that is recorded. Takes effect immediately on all threads.
+     *
+     * @param newLevel the minimum level, or OFF to silence the log
+     */
+    public static void setLevel(Level newLevel) {
+        if (newLevel == null) throw new IllegalArgumentException("Log level cannot be null");
+        level = newLevel;
+    }
+
+    /**
+     * Returns the lowest level that is recorded.
+     *
+     * @return the current level
+     */
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Checks whether events at a level are recorded. Use it to guard
+     * argument computations that are themselves expensive.
+     *
+     * @param eventLevel the level to test
+     * @return true if events at that level are recorded
+     */
+    public static boolean isEnabled(Level eventLevel) {
+        return eventLevel != Level.OFF && eventLevel.compareTo(level) >= 0;
+    }
+
+    /**
+     * Redirects output, e.g. to capture it in tests. Events already buffered
+     * are written to the new stream.
+     *
+     * @param stream the stream to write to, or null for System.out
+     */
+    public static void setOutput(PrintStream stream) {
+        out = stream;
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return dropped event count
+     */
+    public static long getDroppedCount() {
+        return DROPPED.get();
+    }
+
+    /**
+     * Waits until every event logged so far has been written.
+     *
+     * @param timeoutMillis maximum time to wait
+     * @return true if the buffer drained in time
+     */
+    public static boolean flush(long timeoutMillis) {
+        long target = PUBLISHED.get();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (WRITTEN_LOCK) {
+            while (written + DROPPED.get() < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) return false;
+                try {
+                    WRITTEN_LOCK.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // ---- Logging calls; fixed arities avoid a varargs array per call ----
+
+    public static void debug(String template) { log(Level.DEBUG, template, null, null, null, null); }
+    public static void debug(String template, Object a) { log(Level.DEBUG, template, a, null, null, null); }
+    public static void debug(String template, Object a, Object b) { log(Level.DEBUG, template, a, b, null, null); }
+    public static void debug(String template, Object a, Object b, Object c) { log(Level.DEBUG, template, a, b, c, null); }
+    public static void debug(String template, Object a, Object b, Object c, Object d) { log(Level.DEBUG, template, a, b, c, d); }
+
+    public static void info(String template) { log(Level.INFO, template, null, null, null, null); }
+    public static void info(String template, Object a) { log(Level.INFO, template, a, null, null, null); }
+    public static void info(String template, Object a, Object b) { log(Level.INFO, template, a, b, null, null); }
+    public static void info(String template, Object a, Object b, Object c) { log(Level.INFO, template, a, b, c, null); }
+    public static void info(String template, Object a, Object b, Object c, Object d) { log(Level.INFO, template, a, b, c, d); }
+
+    public static void warn(String template) { log(Level.WARN, template, null, null, null, null); }
+    public static void warn(String template, Object a) { log(Level.WARN, template, a, null, null, null); }
+    public static void warn(String template, Object a, Object b) { log(Level.WARN, template, a, b, null, null); }
+    public static void warn(String template, Object a, Object b, Object c) { log(Level.WARN, template, a, b, c, null); }
+    public static void warn(String template, Object a, Object b, Object c, Object d) { log(Level.WARN, template, a, b, c, d); }
+
+    public static void error(String template) { log(Level.ERROR, template, null, null, null, null); }
+    public static void error(String template, Object a) { log(Level.ERROR, template, a, null, null, null); }
+    public static void error(String template, Object a, Object b) { log(Level.ERROR, template, a, b, null, null); }
+    public static void error(String template, Object a, Object b, Object c) { log(Level.ERROR, template, a, b, c, null); }
+    public static void error(String template, Object a, Object b, Object c, Object d) { log(Level.ERROR, template, a, b, c, d); }
+
+    private static void log(Level eventLevel, String template, Object a, Object b, Object c, Object d) {
+        if (!isEnabled(eventLevel)) return;
+        ensureWriter();
+        PUBLISHED.incrementAndGet();
+        if (!BUFFER.offer(new Event(eventLevel, template, a, b, c, d))) {
+            DROPPED.incrementAndGet();
+            synchronized (WRITTEN_LOCK) {
+                WRITTEN_LOCK.notifyAll();
+            }
+        }
+    }
+
+    private static void ensureWriter() {
+        if (writer != null) return;
+        synchronized (GameLog.class) {
+            if (writer != null) return;
+            Thread t = new Thread(GameLog::drainLoop, "GameLog-Writer");
+            t.setDaemon(true);
+            t.start();
+            writer = t;
+        }
+    }
+
+    /**
+     * Writer thread: formats and prints events, flushing whenever the buffer empties.
+     */
+    private static void drainLoop() {
+        StringBuilder line = new StringBuilder(128);
+        while (true) {
+            try {
+                Event event = BUFFER.poll(1, TimeUnit.SECONDS);
+                if (event == null) continue;
+                PrintStream stream = out != null ? out : System.out;
+                int count = 0;
+                do {
+                    line.setLength(0);
+                    try {
+                        event.format(line);
+                    } catch (RuntimeException e) {
+                        // A bad argument's toString() must not kill the writer
+                        line.append(" <format failed: ").append(e).append('>');
+                    }
+                    stream.println(line);
+                    count++;
+                    event = BUFFER.poll();
+                } while (event != null);
+                stream.flush();
+                synchronized (WRITTEN_LOCK) {
+                    written += count;
+                    WRITTEN_LOCK.notifyAll();
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * One buffered log call.
+     */
+    private static final class Event {
+        private final Level level;
+        private final String template;
+        private final Object a;
+        private final Object b;
+        private final Object c;
+        private final Object d;
+
+        Event(Level level, String template, Object a, Object b, Object c, Object d) {
+            this.level = level;
+            this.template = template;
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+
+        void format(StringBuilder line) {
+            line.append('[').append(level).append("] ");
+            int arg = 0;
+            int from = 0;
+            int at;
+            while (arg < 4 && (at = template.indexOf("{}", from)) >= 0) {
+                line.append(template, from, at);
+                line.append(arg == 0 ? a : arg == 1 ? b : arg == 2 ? c : d);
+                arg++;
+                from = at + 2;
+            }
+            line.append(template, from, template.length());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.team3.monstersden.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.team3.monstersden.core.MapLayout;
+
+/**
+ * Command-line tool that converts text maps to the binary map format.
+ *
+ * <p>Usage: {@code MapConverter <input.txt> <output.bmap>}. The input is
+ * parsed exactly as Board.loadMap would parse it, so a map that converts
+ * also loads.</p>
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public final class MapConverter {
+
+    private MapConverter() { }
+
+    /**
+     * Converts one map file.
+     *
+     * @param input text (or binary) map to read
+     * @param output binary map to write
+     * @return the converted layout
+     * @throws IOException if either file cannot be accessed
+     * @throws IllegalArgumentException if the input map is malformed
+     */
+    public static MapLayout convert(Path input, Path output) throws IOException {
+        MapLayout layout = MapLayout.read(input);
+        layout.writeBinary(output);
+        return layout;
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args input and output file paths
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: MapConverter <input.txt> <output.bmap>");
+            System.exit(2);
+        }
+        try {
+            Path input = Paths.get(args[0]);
+            Path output = Paths.get(args[1]);
+            MapLayout layout = convert(input, output);
+            System.out.println("Converted " + input + " (" + layout.getWidth() + "x" + layout.getHeight()
+                + ", " + layout.getPlacementCount() + " placements): "
+                + Files.size(input) + " -> " + Files.size(output) + " bytes");
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Conversion failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
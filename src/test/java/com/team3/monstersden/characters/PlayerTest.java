@@ -78,6 +78,22 @@ public class PlayerTest {
         assertEquals(startHp, p.getHealth());
     }
 
+    /**
+     * takeDamage should accumulate the damage taken until reset.
+     */
+    @Test
+    public void testDamageTakenAccumulatesAndResets() {
+        Player p = new Player(0, 0);
+
+        p.takeDamage(10);
+        p.takeDamage(15);
+        p.takeDamage(-5);
+        assertEquals(25, p.getDamageTaken());
+
+        p.resetDamageTaken();
+        assertEquals(0, p.getDamageTaken());
+    }
+
     /**
      * equipSword delegates to WeaponFactory and updates current sword.
      */
@@ -0,0 +1,128 @@
+package com.team3.monstersden.console;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.team3.monstersden.console.AnsiScreen.Color;
+
+/**
+ * Test suite for AnsiScreen.
+ * Tests full and differential redraws, cursor addressing and color escapes.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class AnsiScreenTest {
+
+    private ByteArrayOutputStream captured;
+    private AnsiScreen screen;
+
+    @Before
+    public void setUp() {
+        captured = new ByteArrayOutputStream();
+        screen = new AnsiScreen(3, 10, false);
+        screen.setOutput(new PrintStream(captured));
+    }
+
+    private String present() {
+        captured.reset();
+        screen.present();
+        return captured.toString();
+    }
+
+    @Test
+    public void testFirstFrameIsFull() {
+        screen.write(1, 2, "HELLO", Color.DEFAULT);
+        captured.reset();
+        int written = screen.present();
+        String out = captured.toString();
+
+        assertEquals(30, written);
+        assertTrue("Screen should be cleared", out.startsWith("\033[H\033[2J"));
+        assertTrue(out.contains("HELLO"));
+    }
+
+    @Test
+    public void testUnchangedFrameWritesNoCells() {
+        screen.write(0, 0, "ABC", Color.DEFAULT);
+        screen.present();
+
+        screen.clear();
+        screen.write(0, 0, "ABC", Color.DEFAULT);
+        captured.reset();
+        assertEquals(0, screen.present());
+        assertFalse(captured.toString().contains("ABC"));
+    }
+
+    @Test
+    public void testOnlyChangedCellIsWritten() {
+        screen.write(2, 0, "0123456789", Color.DEFAULT);
+        screen.present();
+
+        screen.put(2, 7, 'X', Color.DEFAULT);
+        String out = present();
+
+        assertTrue("Cursor should jump to row 3, column 8", out.startsWith("\033[3;8HX"));
+        assertFalse(out.contains("0123"));
+    }
+
+    @Test
+    public void testAdjacentChangesShareOneCursorMove() {
+        screen.present();
+        screen.write(0, 3, "ABC", Color.DEFAULT);
+        String out = present();
+
+        assertTrue(out.startsWith("\033[1;4HABC"));
+    }
+
+    @Test
+    public void testColorEscapesOnlyOnChange() {
+        AnsiScreen colored = new AnsiScreen(1, 6, true);
+        colored.setOutput(new PrintStream(captured));
+        colored.write(0, 0, "RR", Color.RED);
+        colored.write(0, 2, "GG", Color.GREEN);
+        captured.reset();
+        colored.present();
+        String out = captured.toString();
+
+        assertTrue(out.contains("\033[31mRR\033[32mGG\033[0m"));
+    }
+
+    @Test
+    public void testNoColorEscapesWhenDisabled() {
+        screen.write(0, 0, "RED", Color.RED);
+        String out = present();
+        assertFalse(out.contains("\033[31m"));
+    }
+
+    @Test
+    public void testInvalidateForcesFullRedraw() {
+        screen.write(0, 0, "ABC", Color.DEFAULT);
+        screen.present();
+
+        screen.invalidate();
+        String out = present();
+        assertTrue(out.startsWith("\033[H\033[2J"));
+        assertTrue(out.contains("ABC"));
+    }
+
+    @Test
+    public void testWritesOutsideScreenAreClipped() {
+        screen.write(0, 8, "ABCD", Color.DEFAULT);
+        screen.put(5, 0, 'Z', Color.DEFAULT);
+        String out = present();
+        assertTrue(out.contains("AB"));
+        assertFalse(out.contains("Z"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsEmptyScreen() {
+        new AnsiScreen(0, 10, false);
+    }
+}
@@ -6,11 +6,16 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.team3.monstersden.characters.Monster;
+import com.team3.monstersden.items.Punishment;
+import com.team3.monstersden.items.RegularReward;
+
 /**
  * Test suite for Board class.
  * Tests map loading, cell access, and validation.
@@ -220,6 +225,38 @@ public class BoardTest {
         }
     }
 
+    @Test
+    public void testRandomEmptyCellTracksOccupancy() throws IOException {
+        board.loadMap("level1.txt");
+        int free = board.getEmptyCellCount();
+        assertTrue("Map should have free cells", free > 0);
+
+        Cell cell = board.getRandomEmptyCell();
+        cell.setReward(new RegularReward(cell.getX(), cell.getY()));
+        assertEquals("Placing a reward should consume a free cell", free - 1, board.getEmptyCellCount());
+
+        cell.setReward(null);
+        assertEquals("Clearing the reward should free the cell again", free, board.getEmptyCellCount());
+    }
+
+    @Test
+    public void testRandomEmptyCellUntilBoardIsFull() throws IOException {
+        board.loadMap("level1.txt");
+        int free = board.getEmptyCellCount();
+
+        for (int i = 0; i < free; i++) {
+            Cell cell = board.getRandomEmptyCell();
+            assertNotNull("A free cell should always be found while any remain", cell);
+            assertTrue("Sampled cell should be empty", cell.isEmpty());
+            assertFalse(cell.isStart());
+            assertFalse(cell.isExit());
+            cell.setPunishment(new Punishment(cell.getX(), cell.getY(), 1));
+        }
+
+        assertEquals(0, board.getEmptyCellCount());
+        assertNull("No cell should be returned once the board is full", board.getRandomEmptyCell());
+    }
+
     // ==================== Grid Access Tests ====================
 
     @Test
@@ -252,6 +289,46 @@ public class BoardTest {
         assertEquals("Height should match grid height", height, board.getGrid().length);
     }
 
+    // ==================== Cell View Tests ====================
+
+    @Test
+    public void testCellViewsShareTileState() throws IOException {
+        board.loadMap("level1.txt");
+        Cell start = board.getStartCell();
+
+        Cell first = board.getCell(start.getX() + 1, start.getY());
+        Cell second = board.getCell(start.getX() + 1, start.getY());
+        Monster monster = new Monster(first.getX(), first.getY(), 10, 10);
+        first.setEnemy(monster);
+
+        assertSame("Views of the same tile should see the same enemy", monster, second.getEnemy());
+        assertEquals("Views of the same tile should be equal", first, second);
+        assertTrue("hasEnemyAt should read the tile store", board.hasEnemyAt(first.getX(), first.getY()));
+
+        second.setEnemy(null);
+        assertNull("Clearing through one view should clear the tile", first.getEnemy());
+        assertFalse("hasEnemyAt should be false once cleared", board.hasEnemyAt(first.getX(), first.getY()));
+    }
+
+    @Test
+    public void testSetWallThroughViewAffectsValidMove() throws IOException {
+        board.loadMap("level1.txt");
+        Cell start = board.getStartCell();
+        int x = start.getX() + 1;
+        int y = start.getY();
+
+        assertTrue(board.isValidMove(x, y));
+        board.getCell(x, y).setWall(true);
+        assertFalse("Wall set through a view should block movement", board.isValidMove(x, y));
+    }
+
+    @Test
+    public void testHasEnemyAtOutOfBounds() throws IOException {
+        board.loadMap("level1.txt");
+        assertFalse(board.hasEnemyAt(-1, 0));
+        assertFalse(board.hasEnemyAt(board.getWidth(), 0));
+    }
+
     // ==================== toString Tests ====================
 
     @Test
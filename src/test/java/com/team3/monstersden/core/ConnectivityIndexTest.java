@@ -0,0 +1,151 @@
+package com.team3.monstersden.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.team3.monstersden.util.AStarPathFinder;
+import com.team3.monstersden.util.Direction;
+
+/**
+ * Test suite for ConnectivityIndex and the Board queries built on it.
+ * Tests component queries, rebuilding after wall changes, placement
+ * outside sealed pockets and early rejection in the pathfinder.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class ConnectivityIndexTest {
+
+    private Board board;
+
+    /** Left region holds S and E; the right column is a sealed pocket. */
+    @Before
+    public void setUp() {
+        board = new Board();
+        board.loadLayout(MapLayout.parseText(Arrays.asList(
+            "#######",
+            "#S..#.#",
+            "#...#.#",
+            "#..E#.#",
+            "#######"
+        )));
+    }
+
+    @Test
+    public void testComponents() {
+        assertEquals(2, board.getComponentCount());
+        assertTrue(board.sameComponent(1, 1, 3, 3));
+        assertTrue(board.sameComponent(5, 1, 5, 3));
+        assertFalse(board.sameComponent(1, 1, 5, 1));
+        assertTrue(board.sameComponent(board.getStartCell(), board.getExitCell()));
+    }
+
+    @Test
+    public void testWallsAndOutOfBoundsAreNeverConnected() {
+        assertFalse(board.sameComponent(0, 0, 0, 0));
+        assertFalse(board.sameComponent(4, 1, 1, 1));
+        assertFalse(board.sameComponent(-1, 0, 1, 1));
+        assertFalse(board.sameComponent(1, 1, 7, 1));
+    }
+
+    @Test
+    public void testIndexFollowsWallChanges() {
+        board.getCell(4, 2).setWall(false);
+        assertEquals(1, board.getComponentCount());
+        assertTrue(board.sameComponent(1, 1, 5, 1));
+
+        board.getCell(4, 2).setWall(true);
+        assertFalse(board.sameComponent(1, 1, 5, 1));
+    }
+
+    @Test
+    public void testPlacementSkipsSealedPocket() {
+        GameRandom random = new GameRandom(1);
+        for (int i = 0; i < 200; i++) {
+            Cell cell = board.getRandomEmptyCellReachableFrom(board.getStartCell(), random);
+            assertNotNull(cell);
+            assertTrue("Placed in the pocket at x=" + cell.getX(), cell.getX() < 4);
+        }
+    }
+
+    @Test
+    public void testPlacementGivesUpWhenOnlyPocketIsFree() {
+        Board pocket = new Board();
+        pocket.loadLayout(MapLayout.parseText(Arrays.asList(
+            "######",
+            "#SE#.#",
+            "######"
+        )));
+        assertNull(pocket.getRandomEmptyCellReachableFrom(pocket.getStartCell(), new GameRandom(2)));
+    }
+
+    /** A corridor of ten free tiles beside S, walled off from a large open pocket */
+    private static MapLayout smallStartRegion() {
+        List<String> lines = new ArrayList<>();
+        StringBuilder wall = new StringBuilder();
+        for (int x = 0; x < 80; x++) wall.append('#');
+        lines.add(wall.toString());
+        for (int y = 1; y < 39; y++) {
+            StringBuilder row = new StringBuilder(y == 1 ? "#S..........E" : "#############");
+            row.append('#');
+            for (int x = 14; x < 79; x++) row.append('.');
+            row.append('#');
+            lines.add(row.toString());
+        }
+        lines.add(wall.toString());
+        return MapLayout.parseText(lines);
+    }
+
+    @Test
+    public void testPlacementFindsCellsInSmallStartRegion() {
+        Board cramped = new Board();
+        cramped.loadLayout(smallStartRegion());
+        GameRandom random = new GameRandom(3);
+        for (int i = 0; i < 10; i++) {
+            Cell cell = cramped.getRandomEmptyCellReachableFrom(cramped.getStartCell(), random);
+            assertNotNull("Free cell " + i + " of the start region was missed", cell);
+            assertEquals(1, cell.getY());
+            cell.setContent("placed");
+        }
+        assertNull(cramped.getRandomEmptyCellReachableFrom(cramped.getStartCell(), random));
+    }
+
+    @Test
+    public void testGameInSmallStartRegionStaysWinnable() {
+        SessionRegistry registry = new SessionRegistry(1);
+        try {
+            Game game = registry.createSession(4L);
+            game.initialize(smallStartRegion());
+            assertEquals(5, game.getTotalRewards());
+            int placed = 0;
+            for (int x = 2; x < 12; x++) {
+                if (game.getBoard().getCell(x, 1).getReward() != null) placed++;
+            }
+            assertEquals("Every required reward is reachable", game.getTotalRewards(), placed);
+        } finally {
+            registry.shutdown();
+        }
+    }
+
+    @Test
+    public void testPathfinderRejectsUnreachableTarget() {
+        assertEquals(Direction.NONE, AStarPathFinder.findNextMove(board, 1, 1, 5, 2));
+        assertFalse(Direction.NONE == AStarPathFinder.findNextMove(board, 1, 1, 3, 3));
+    }
+
+    @Test
+    public void testGeneratedMazeIsOneComponent() {
+        Board maze = new Board();
+        new DungeonGenerator(DungeonGenerator.Style.MAZE, 0.5).generate(maze, 101, 81, 4);
+        assertEquals(1, maze.getComponentCount());
+    }
+}
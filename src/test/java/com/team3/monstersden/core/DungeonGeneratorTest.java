@@ -0,0 +1,164 @@
+package com.team3.monstersden.core;
+
+import java.util.ArrayDeque;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+import com.team3.monstersden.core.DungeonGenerator.Style;
+
+/**
+ * Test suite for DungeonGenerator.
+ * Tests connectivity, determinism, wall density and the outer wall.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class DungeonGeneratorTest {
+
+    private static Board generate(Style style, double density, int width, int height, long seed) {
+        Board board = new Board();
+        new DungeonGenerator(style, density).generate(board, width, height, seed);
+        return board;
+    }
+
+    /** Counts the floor tiles reachable from the start. */
+    private static int reachableFromStart(Board board) {
+        int width = board.getWidth();
+        boolean[] seen = new boolean[width * board.getHeight()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        Cell start = board.getStartCell();
+        seen[start.getY() * width + start.getX()] = true;
+        queue.add(start.getY() * width + start.getX());
+        int count = 0;
+        int[][] steps = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+        while (!queue.isEmpty()) {
+            int index = queue.poll();
+            count++;
+            for (int[] step : steps) {
+                int x = index % width + step[0];
+                int y = index / width + step[1];
+                Cell cell = board.getCell(x, y);
+                if (cell != null && !cell.isWall() && !seen[y * width + x]) {
+                    seen[y * width + x] = true;
+                    queue.add(y * width + x);
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int countFloor(Board board) {
+        int floor = 0;
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                if (!board.getCell(x, y).isWall()) floor++;
+            }
+        }
+        return floor;
+    }
+
+    @Test
+    public void testEveryFloorTileIsConnected() {
+        double[] densities = { 0.0, 0.2, 0.35, 0.5, 1.0 };
+        for (Style style : Style.values()) {
+            for (double density : densities) {
+                for (long seed = 1; seed <= 3; seed++) {
+                    Board board = generate(style, density, 61, 40, seed);
+                    assertEquals(style + " at " + density + " has unreachable floor",
+                        countFloor(board), reachableFromStart(board));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStartAndExit() {
+        Board board = generate(Style.MAZE, 0.5, 21, 15, 7);
+        assertNotNull(board.getStartCell());
+        assertNotNull(board.getExitCell());
+        assertTrue(board.getStartCell().isStart());
+        assertTrue(board.getExitCell().isExit());
+        assertEquals(19, board.getExitCell().getX());
+        assertEquals(13, board.getExitCell().getY());
+        assertFalse(board.getExitCell().isWall());
+    }
+
+    @Test
+    public void testOuterWallIsClosed() {
+        Board board = generate(Style.ROOMS, 0.0, 30, 20, 3);
+        for (int x = 0; x < 30; x++) {
+            assertTrue(board.getCell(x, 0).isWall());
+            assertTrue(board.getCell(x, 19).isWall());
+        }
+        for (int y = 0; y < 20; y++) {
+            assertTrue(board.getCell(0, y).isWall());
+            assertTrue(board.getCell(29, y).isWall());
+        }
+    }
+
+    @Test
+    public void testSameSeedSameBoard() {
+        Board a = generate(Style.ROOMS, 0.4, 51, 51, 99);
+        Board b = generate(Style.ROOMS, 0.4, 51, 51, 99);
+        Board c = generate(Style.ROOMS, 0.4, 51, 51, 100);
+        boolean differs = false;
+        for (int y = 0; y < 51; y++) {
+            for (int x = 0; x < 51; x++) {
+                assertEquals(a.getCell(x, y).isWall(), b.getCell(x, y).isWall());
+                differs |= a.getCell(x, y).isWall() != c.getCell(x, y).isWall();
+            }
+        }
+        assertTrue("Different seeds should give different boards", differs);
+    }
+
+    @Test
+    public void testDensityFollowsTarget() {
+        double[] targets = { 0.1, 0.3, 0.4, 0.5 };
+        for (double target : targets) {
+            Board board = generate(Style.MAZE, target, 301, 301, 5);
+            double density = 1.0 - (double) countFloor(board) / (301 * 301);
+            assertEquals("Density for target " + target, target, density, 0.03);
+        }
+    }
+
+    @Test
+    public void testLayoutMatchesBoard() {
+        DungeonGenerator generator = new DungeonGenerator(Style.ROOMS, 0.3);
+        Board board = new Board();
+        generator.generate(board, 40, 33, 21);
+        MapLayout layout = generator.generateLayout(40, 33, 21);
+
+        Board fromLayout = new Board();
+        fromLayout.loadLayout(layout);
+        for (int y = 0; y < 33; y++) {
+            for (int x = 0; x < 40; x++) {
+                assertEquals(board.getCell(x, y).isWall(), fromLayout.getCell(x, y).isWall());
+            }
+        }
+        assertEquals(board.getExitCell().getX(), fromLayout.getExitCell().getX());
+        assertEquals(board.getExitCell().getY(), fromLayout.getExitCell().getY());
+        assertEquals(0, layout.getPlacementCount());
+    }
+
+    @Test
+    public void testLargeBoard() {
+        Board board = generate(Style.MAZE, 0.4, 4001, 4001, 11);
+        assertEquals(4001, board.getWidth());
+        assertTrue(board.getCell(4000, 4000).isWall());
+        assertTrue(board.getExitCell().isExit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsBoardWithoutRoomForExit() {
+        generate(Style.MAZE, 0.5, 3, 3, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsBadDensity() {
+        new DungeonGenerator(Style.MAZE, 1.5);
+    }
+}
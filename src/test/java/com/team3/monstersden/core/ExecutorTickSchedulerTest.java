@@ -0,0 +1,150 @@
+package com.team3.monstersden.core;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test suite for ExecutorTickScheduler and TickMetrics.
+ * Tests tick delivery, stopping, overrun policies and recorded statistics.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class ExecutorTickSchedulerTest {
+
+    private ExecutorTickScheduler scheduler;
+
+    @After
+    public void tearDown() {
+        if (scheduler != null) scheduler.stop();
+    }
+
+    @Test
+    public void testRunsTicksAndRecordsStats() throws InterruptedException {
+        scheduler = new ExecutorTickScheduler(5, OverrunPolicy.CATCH_UP);
+        // A tick is recorded after it returns, so wait for one more to begin
+        CountDownLatch latch = new CountDownLatch(6);
+        scheduler.start(latch::countDown);
+
+        assertTrue(scheduler.isRunning());
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        TickStats stats = scheduler.getStats();
+        assertTrue(stats.getTicks() >= 5);
+        assertTrue(stats.getP50Nanos() <= stats.getP99Nanos());
+        assertTrue(stats.getP99Nanos() <= stats.getMaxNanos());
+    }
+
+    @Test
+    public void testStopHaltsTicks() throws InterruptedException {
+        scheduler = new ExecutorTickScheduler(5, OverrunPolicy.CATCH_UP);
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(2);
+        scheduler.start(() -> {
+            count.incrementAndGet();
+            latch.countDown();
+        });
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+
+        scheduler.stop();
+        assertFalse(scheduler.isRunning());
+        int stopped = count.get();
+        Thread.sleep(50);
+        assertEquals(stopped, count.get());
+    }
+
+    @Test
+    public void testStopFromInsideTick() throws InterruptedException {
+        scheduler = new ExecutorTickScheduler(5, OverrunPolicy.CATCH_UP);
+        AtomicInteger count = new AtomicInteger();
+        scheduler.start(() -> {
+            count.incrementAndGet();
+            scheduler.stop();
+        });
+        Thread.sleep(100);
+        assertEquals(1, count.get());
+        assertFalse(scheduler.isRunning());
+    }
+
+    @Test
+    public void testSkipPolicyDropsMissedTicks() throws InterruptedException {
+        scheduler = new ExecutorTickScheduler(5, OverrunPolicy.SKIP);
+        CountDownLatch latch = new CountDownLatch(4);
+        scheduler.start(() -> {
+            sleep(30); // Each tick overruns several intervals
+            latch.countDown();
+        });
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        scheduler.stop();
+
+        TickStats stats = scheduler.getStats();
+        assertTrue(stats.getOverruns() >= 3);
+        assertTrue(stats.getSkippedTicks() > 0);
+    }
+
+    @Test
+    public void testCatchUpPolicyRunsMissedTicks() throws InterruptedException {
+        scheduler = new ExecutorTickScheduler(20, OverrunPolicy.CATCH_UP);
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(4);
+        scheduler.start(() -> {
+            // First tick stalls for three intervals; the next ones catch up
+            if (count.getAndIncrement() == 0) sleep(65);
+            latch.countDown();
+        });
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        scheduler.stop();
+
+        TickStats stats = scheduler.getStats();
+        assertEquals(0, stats.getSkippedTicks());
+        assertTrue(stats.getMaxLagNanos() > TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    public void testTickExceptionDoesNotStopLoop() throws InterruptedException {
+        scheduler = new ExecutorTickScheduler(5, OverrunPolicy.CATCH_UP);
+        CountDownLatch latch = new CountDownLatch(3);
+        scheduler.start(() -> {
+            latch.countDown();
+            throw new IllegalStateException("tick failure");
+        });
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNonPositiveInterval() {
+        new ExecutorTickScheduler(0, OverrunPolicy.SKIP);
+    }
+
+    @Test
+    public void testMetricsPercentiles() {
+        TickMetrics metrics = new TickMetrics();
+        for (int i = 1; i <= 100; i++) {
+            metrics.recordTick(i, 0, 90);
+        }
+        TickStats stats = metrics.snapshot();
+        assertEquals(100, stats.getTicks());
+        assertEquals(10, stats.getOverruns());
+        assertEquals(50, stats.getP50Nanos());
+        assertEquals(95, stats.getP95Nanos());
+        assertEquals(99, stats.getP99Nanos());
+        assertEquals(100, stats.getMaxNanos());
+
+        metrics.reset();
+        assertEquals(0, metrics.snapshot().getTicks());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.team3.monstersden.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.team3.monstersden.core.FrameSnapshot.EntityKind;
+
+/**
+ * Test suite for FrameSnapshot and its publication by Game.
+ * Tests frame contents, publication per tick and immutability.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class FrameSnapshotTest {
+
+    private SessionRegistry registry;
+    private Game game;
+
+    @Before
+    public void setUp() {
+        registry = new SessionRegistry(1);
+        game = registry.createSession(42L);
+        game.initialize();
+    }
+
+    @After
+    public void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    public void testInitializePublishesFrame() {
+        FrameSnapshot frame = game.getLatestFrame();
+        assertNotNull(frame);
+        assertSame(game.getBoard(), frame.getBoard());
+        assertEquals(game.getPlayer().getX(), frame.getPlayerX());
+        assertEquals(game.getPlayer().getY(), frame.getPlayerY());
+        assertEquals(game.getPlayer().getHealth(), frame.getPlayerHealth());
+        assertEquals(game.getScore(), frame.getScore());
+        assertEquals(game.getTotalRewards(), frame.getTotalRewards());
+    }
+
+    @Test
+    public void testFrameListsWorldEntities() {
+        FrameSnapshot frame = game.getLatestFrame();
+        int enemies = 0;
+        int traps = 0;
+        for (int i = 0; i < frame.getEntityCount(); i++) {
+            EntityKind kind = frame.getEntityKind(i);
+            if (kind == EntityKind.MONSTER || kind == EntityKind.HUMAN) enemies++;
+            if (kind == EntityKind.TRAP) traps++;
+            assertTrue(game.getBoard().isInBounds(frame.getEntityX(i), frame.getEntityY(i)));
+        }
+        assertEquals(game.getEnemies().size(), enemies);
+        assertEquals(3, traps);
+    }
+
+    @Test
+    public void testTickPublishesNewerFrame() {
+        FrameSnapshot before = game.getLatestFrame();
+        game.startManualLoop();
+        game.tick();
+
+        FrameSnapshot after = game.getLatestFrame();
+        assertNotSame(before, after);
+        assertTrue(after.getSequence() > before.getSequence());
+    }
+
+    @Test
+    public void testFrameDoesNotChangeWithGame() {
+        FrameSnapshot frame = game.getLatestFrame();
+        int score = frame.getScore();
+        int x = frame.getPlayerX();
+
+        game.addScore(100);
+        game.getPlayer().setX(x + 1);
+
+        assertEquals(score, frame.getScore());
+        assertEquals(x, frame.getPlayerX());
+    }
+
+    @Test
+    public void testBonusTimerIsCarried() {
+        game.notifyBonusTimerUpdate(7);
+        game.publishFrame();
+        assertEquals(7, game.getLatestFrame().getBonusTicksRemaining());
+    }
+}
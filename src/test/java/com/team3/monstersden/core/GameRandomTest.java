@@ -0,0 +1,63 @@
+package com.team3.monstersden.core;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Test suite for GameRandom.
+ * Tests that it matches SplittableRandom and that saved state resumes exactly.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class GameRandomTest {
+
+    @Test
+    public void testMatchesSplittableRandom() {
+        GameRandom random = new GameRandom(42L);
+        SplittableRandom reference = new SplittableRandom(42L);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(reference.nextLong(), random.nextLong());
+            assertEquals(reference.nextInt(), random.nextInt());
+            assertEquals(reference.nextInt(7), random.nextInt(7));
+            assertEquals(reference.nextInt(64), random.nextInt(64));
+            assertEquals(reference.nextInt(Integer.MAX_VALUE - 3), random.nextInt(Integer.MAX_VALUE - 3));
+            assertEquals(reference.nextBoolean(), random.nextBoolean());
+            assertEquals(reference.nextDouble(), random.nextDouble(), 0.0);
+        }
+    }
+
+    @Test
+    public void testSplitsMatchSplittableRandom() {
+        GameRandom random = new GameRandom(3L).split().split();
+        SplittableRandom reference = new SplittableRandom(3L).split().split();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(reference.nextInt(1000), random.nextInt(1000));
+        }
+    }
+
+    @Test
+    public void testRestoreContinuesSequence() {
+        GameRandom random = new GameRandom(11L).split();
+        for (int i = 0; i < 50; i++) random.nextLong();
+
+        GameRandom restored = GameRandom.restore(random.getSeedState(), random.getGamma());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(random.nextInt(500), restored.nextInt(500));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsEvenGamma() {
+        GameRandom.restore(1L, 2L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNonPositiveBound() {
+        new GameRandom(1L).nextInt(0);
+    }
+}
@@ -0,0 +1,229 @@
+package com.team3.monstersden.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.team3.monstersden.characters.Enemy;
+import com.team3.monstersden.characters.Player;
+import com.team3.monstersden.items.SteelSword;
+import com.team3.monstersden.patterns.command.MoveCommand;
+import com.team3.monstersden.patterns.command.SwitchWeaponCommand;
+import com.team3.monstersden.patterns.strategy.PlayerMovementStrategy;
+import com.team3.monstersden.replay.ReplayRecorder;
+import com.team3.monstersden.util.Direction;
+
+/**
+ * Test suite for GameSnapshot.
+ * Tests round trips, exact continuation after loading, large boards and
+ * rejection of malformed snapshots.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class GameSnapshotTest {
+
+    private static final Direction[] MOVES = {
+        Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT
+    };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SessionRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new SessionRegistry(1);
+    }
+
+    @After
+    public void tearDown() {
+        registry.shutdown();
+    }
+
+    /** Plays random moves for up to the given number of ticks */
+    private void play(Game game, Random moves, int ticks) {
+        PlayerMovementStrategy strategy = (PlayerMovementStrategy) game.getPlayer().getMovementStrategy();
+        for (int i = 0; i < ticks && game.getGameState() == Game.GameState.RUNNING; i++) {
+            game.submitCommand(new MoveCommand(strategy, MOVES[moves.nextInt(MOVES.length)]));
+            game.tick();
+        }
+    }
+
+    private Game started(long seed) {
+        Game game = registry.createSession(seed);
+        game.initialize();
+        game.startManualLoop();
+        return game;
+    }
+
+    private void assertSameState(Game expected, Game actual) {
+        assertEquals(expected.getTickCount(), actual.getTickCount());
+        assertEquals(expected.getGameState(), actual.getGameState());
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getKills(), actual.getKills());
+        assertEquals(expected.getCollectedRewards(), actual.getCollectedRewards());
+        assertEquals(expected.getTotalRewards(), actual.getTotalRewards());
+        assertEquals(expected.getMapId(), actual.getMapId());
+        assertEquals(expected.getPlayer().getX(), actual.getPlayer().getX());
+        assertEquals(expected.getPlayer().getY(), actual.getPlayer().getY());
+        assertEquals(expected.getPlayer().getHealth(), actual.getPlayer().getHealth());
+        assertEquals(expected.getEnemies().size(), actual.getEnemies().size());
+        for (int i = 0; i < expected.getEnemies().size(); i++) {
+            Enemy a = expected.getEnemies().get(i);
+            Enemy b = actual.getEnemies().get(i);
+            assertEquals(a.getClass(), b.getClass());
+            assertEquals(a.getX(), b.getX());
+            assertEquals(a.getY(), b.getY());
+            assertEquals(a.getHealth(), b.getHealth());
+            assertEquals(a.getCurrentState(), b.getCurrentState());
+        }
+        // The encoding covers everything else, e.g. timers and random streams
+        ByteBuffer a = expected.saveSnapshot();
+        ByteBuffer b = actual.saveSnapshot();
+        assertEquals(a, b);
+    }
+
+    @Test
+    public void testRoundTripIntoFreshSession() {
+        Game game = started(12L);
+        game.submitCommand(new SwitchWeaponCommand(new SteelSword(40)));
+        play(game, new Random(1), 60);
+
+        Game copy = registry.createSession(99L);
+        copy.loadSnapshot(game.saveSnapshot());
+
+        assertSameState(game, copy);
+        assertEquals("Gerald", copy.getPlayer().getName());
+        assertTrue(copy.getPlayer().getCurrentSword() instanceof SteelSword);
+        assertEquals(40, copy.getPlayer().getCurrentSword().getBaseDamage());
+        assertEquals(game.getRandomSource().getSeed(), copy.getRandomSource().getSeed());
+        assertArrayEquals(game.getBoard().wallWords(), copy.getBoard().wallWords());
+        assertEquals(game.getBoard().getStartCell().toString(), copy.getBoard().getStartCell().toString());
+        assertEquals(game.getBoard().getExitCell().toString(), copy.getBoard().getExitCell().toString());
+        for (Enemy enemy : copy.getEnemies()) {
+            if (enemy.isAlive()) {
+                assertSame(enemy, copy.getBoard().getCell(enemy.getX(), enemy.getY()).getEnemy());
+            }
+        }
+        assertEquals(game.getLatestFrame().getPlayerX(), copy.getLatestFrame().getPlayerX());
+    }
+
+    @Test
+    public void testLoadedGameContinuesIdentically() {
+        // A roomy board keeps the player alive long enough to matter
+        Game game = registry.createSession(35L);
+        game.initialize(new DungeonGenerator(DungeonGenerator.Style.ROOMS, 0.4).generateLayout(61, 61, 35L));
+        game.startManualLoop();
+        play(game, new Random(2), 20);
+        ByteBuffer snapshot = game.saveSnapshot();
+        long savedAt = game.getTickCount();
+
+        Game copy = registry.createSession(5L);
+        copy.loadSnapshot(snapshot);
+        if (copy.getGameState() == Game.GameState.RUNNING) {
+            copy.startManualLoop();
+        }
+
+        // Same commands from here on: every random draw must line up
+        play(game, new Random(3), 300);
+        play(copy, new Random(3), 300);
+        assertTrue(game.getTickCount() > savedAt);
+        assertSameState(game, copy);
+    }
+
+    @Test
+    public void testLoadKeepsPlayerObjectAndDetachesRecorder() {
+        Game game = started(8L);
+        play(game, new Random(4), 30);
+        ByteBuffer snapshot = game.saveSnapshot();
+        play(game, new Random(5), 30);
+
+        Player player = game.getPlayer();
+        game.setReplayRecorder(new ReplayRecorder());
+        game.loadSnapshot(snapshot);
+
+        assertSame(player, game.getPlayer());
+        assertNull(game.getReplayRecorder());
+        assertEquals(0, game.getPendingCommandCount());
+        assertTrue(game.getTickCount() <= 30);
+    }
+
+    @Test
+    public void testFileRoundTrip() throws IOException {
+        Game game = started(19L);
+        play(game, new Random(6), 40);
+        Path file = folder.getRoot().toPath().resolve("run.save");
+        game.saveSnapshot(file);
+
+        ByteBuffer read = GameSnapshot.readFile(file);
+        assertTrue(read.isDirect());
+        assertEquals(game.saveSnapshot(), read);
+
+        Game copy = registry.createSession(1L);
+        copy.loadSnapshot(file);
+        // Nothing keeps the file open or mapped, so a resumed save can be removed
+        Files.delete(file);
+        assertSameState(game, copy);
+    }
+
+    @Test
+    public void testLargeGeneratedBoard() {
+        Game game = registry.createSession(3L);
+        game.initialize(new DungeonGenerator(DungeonGenerator.Style.ROOMS, 0.4).generateLayout(1024, 1024, 3L));
+        game.startManualLoop();
+        play(game, new Random(7), 20);
+
+        ByteBuffer snapshot = game.saveSnapshot();
+        assertTrue(snapshot.isDirect());
+        // Walls take one bit per tile; everything else is small
+        assertTrue(snapshot.remaining() < 1024 * 1024 / 8 + 64 * 1024);
+
+        Game copy = registry.createSession(4L);
+        copy.loadSnapshot(snapshot);
+        assertSameState(game, copy);
+        assertArrayEquals(game.getBoard().wallWords(), copy.getBoard().wallWords());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNonSnapshot() {
+        registry.createSession(1L).loadSnapshot(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    @Test
+    public void testRejectsTruncatedSnapshotWithoutChangingGame() {
+        Game game = started(23L);
+        play(game, new Random(8), 20);
+        ByteBuffer snapshot = game.saveSnapshot();
+        snapshot.limit(snapshot.limit() - 5);
+
+        Game other = started(24L);
+        ByteBuffer before = other.saveSnapshot();
+        try {
+            other.loadSnapshot(snapshot);
+            throw new AssertionError("Truncated snapshot was accepted");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("Corrupt snapshot"));
+        }
+        assertEquals(before, other.saveSnapshot());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSaveBeforeInitializeFails() {
+        registry.createSession(1L).saveSnapshot();
+    }
+}
@@ -2,6 +2,7 @@ package com.team3.monstersden.core;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.Arrays;
 
 import org.junit.After;
 import static org.junit.Assert.assertEquals;
@@ -14,8 +15,11 @@ import org.junit.Test;
 
 import com.team3.monstersden.characters.Monster;
 import com.team3.monstersden.characters.Player;
+import com.team3.monstersden.patterns.command.MoveCommand;
 import com.team3.monstersden.patterns.observer.GameObserver;
+import com.team3.monstersden.patterns.strategy.PlayerMovementStrategy;
 import com.team3.monstersden.patterns.strategy.SmartEnemyStrategy;
+import com.team3.monstersden.util.Direction;
 
 /**
  * Comprehensive test suite for the Game class.
@@ -88,6 +92,23 @@ public class GameTest {
         assertTrue("At least one enemy should be spawned", game.getEnemies().size() > 0);
     }
 
+    @Test
+    public void testInitializeOnGeneratedLayout() {
+        MapLayout layout = new DungeonGenerator(DungeonGenerator.Style.ROOMS, 0.4).generateLayout(41, 31, 8);
+        game.initialize(layout);
+
+        assertSame(layout, game.getBoard().getLayout());
+        assertEquals(41, game.getBoard().getWidth());
+        assertEquals(5, game.getTotalRewards());
+        Cell start = game.getBoard().getStartCell();
+        assertEquals(start.getX(), game.getPlayer().getX());
+        for (int i = 0; i < game.getEnemies().size(); i++) {
+            int x = game.getEnemies().get(i).getX();
+            int y = game.getEnemies().get(i).getY();
+            assertTrue(game.getBoard().sameComponent(start.getX(), start.getY(), x, y));
+        }
+    }
+
     // ==================== Score Management Tests ====================
 
     @Test
@@ -316,6 +337,94 @@ public class GameTest {
         assertTrue("Total rewards should be positive", game.getTotalRewards() > 0);
     }
 
+    // ==================== Command Queue Tests ====================
+
+    @Test
+    public void testSubmittedCommandRunsOnProcess() {
+        game.initialize();
+        int[] runs = {0};
+        game.submitCommand(g -> runs[0]++);
+
+        assertEquals("Command should wait in the queue", 0, runs[0]);
+        assertEquals(1, game.getPendingCommandCount());
+
+        game.processCommands();
+        assertEquals("Command should run once", 1, runs[0]);
+        assertEquals(0, game.getPendingCommandCount());
+    }
+
+    @Test
+    public void testProcessCommandsIsBounded() {
+        game.initialize();
+        int[] runs = {0};
+        for (int i = 0; i < GameConfig.MAX_COMMANDS_PER_TICK + 3; i++) {
+            game.submitCommand(g -> runs[0]++);
+        }
+
+        game.processCommands();
+        assertEquals(GameConfig.MAX_COMMANDS_PER_TICK, runs[0]);
+        assertEquals("Overflow should wait for the next tick", 3, game.getPendingCommandCount());
+    }
+
+    @Test
+    public void testInitializeClearsPendingCommands() {
+        game.submitCommand(g -> g.addScore(100));
+        game.initialize();
+
+        game.processCommands();
+        assertEquals("Stale commands should not survive a restart", 0, game.getScore());
+    }
+
+    @Test
+    public void testCommandsFromManyThreadsAllRun() throws InterruptedException {
+        game.initialize();
+        int[] runs = {0};
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 50; i++) game.submitCommand(g -> runs[0]++);
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) producer.join();
+
+        while (game.getPendingCommandCount() > 0) game.processCommands();
+        assertEquals(200, runs[0]);
+    }
+
+    @Test
+    public void testTrapStepAndFailingCommandDoNotAbortTick() {
+        SessionRegistry registry = new SessionRegistry(1);
+        try {
+            Game session = registry.createSession(5L);
+            session.initialize(MapLayout.parseText(Arrays.asList(
+                "########",
+                "#SX...M#",
+                "#......#",
+                "#.....$E",
+                "########")));
+            session.startManualLoop();
+            Monster monster = (Monster) session.getEnemies().get(0);
+            long frame = session.getLatestFrame().getSequence();
+            int[] runs = {0};
+
+            session.submitCommand(new MoveCommand(
+                (PlayerMovementStrategy) session.getPlayer().getMovementStrategy(), Direction.RIGHT));
+            session.submitCommand(g -> { throw new IllegalStateException("broken command"); });
+            session.submitCommand(g -> runs[0]++);
+            session.tick();
+
+            assertEquals("Player should be on the trap", 2, session.getPlayer().getX());
+            assertEquals("Trap penalty should apply", -GameConfig.TRAP_DAMAGE, session.getScore());
+            assertNotNull("Trap should stay to re-arm", session.getBoard().getCell(2, 1).getPunishment());
+            assertEquals("Command behind the failing one should run", 1, runs[0]);
+            assertEquals("Enemies should still move", 5, monster.getX());
+            assertTrue("Frame should still be published", session.getLatestFrame().getSequence() > frame);
+        } finally {
+            registry.shutdown();
+        }
+    }
+
     // ==================== Edge Cases ====================
 
     @Test
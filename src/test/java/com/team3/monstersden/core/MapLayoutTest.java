@@ -0,0 +1,145 @@
+package com.team3.monstersden.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.team3.monstersden.core.MapLayout.Placement;
+
+/**
+ * Test suite for MapLayout.
+ * Tests text parsing, the binary format round trip, memory-mapped file
+ * loading and rejection of malformed maps.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class MapLayoutTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static final List<String> MAP = Arrays.asList(
+        "// test map",
+        "#####",
+        "#S.M#",
+        "#.#$#",
+        "#X*E#",
+        "",
+        "#####"
+    );
+
+    @Test
+    public void testParseText() {
+        MapLayout layout = MapLayout.parseText(MAP);
+
+        assertEquals(5, layout.getWidth());
+        assertEquals(5, layout.getHeight());
+        assertEquals(1 * 5 + 1, layout.getStartIndex());
+        assertEquals(3 * 5 + 3, layout.getExitIndex());
+        assertTrue(layout.isWall(0));
+        assertTrue(layout.isWall(2 * 5 + 2));
+        assertFalse(layout.isWall(1 * 5 + 2));
+        assertEquals(4, layout.getPlacementCount());
+        assertEquals(Placement.MONSTER, layout.getPlacement(0));
+        assertEquals(1 * 5 + 3, layout.getPlacementIndex(0));
+    }
+
+    @Test
+    public void testBinaryRoundTrip() {
+        MapLayout original = MapLayout.parseText(MAP);
+        ByteBuffer binary = original.toBinary();
+        assertTrue(MapLayout.isBinary(binary));
+
+        assertSameLayout(original, MapLayout.read(binary));
+    }
+
+    @Test
+    public void testReadMappedFiles() throws IOException {
+        MapLayout original = MapLayout.parseText(MAP);
+
+        File text = folder.newFile("map.txt");
+        Files.write(text.toPath(), String.join("\n", MAP).getBytes(StandardCharsets.UTF_8));
+        assertSameLayout(original, MapLayout.read(text.toPath()));
+
+        File binary = folder.newFile("map.bmap");
+        original.writeBinary(binary.toPath());
+        assertSameLayout(original, MapLayout.read(binary.toPath()));
+    }
+
+    @Test
+    public void testBinaryIsSmallerThanText() {
+        StringBuilder row = new StringBuilder();
+        for (int i = 0; i < 64; i++) row.append('.');
+        String[] lines = new String[64];
+        Arrays.fill(lines, row.toString());
+        lines[0] = "S" + row.substring(1);
+        lines[63] = row.substring(1) + "E";
+
+        MapLayout layout = MapLayout.parseText(Arrays.asList(lines));
+        assertTrue(layout.toBinary().remaining() < 64 * 65 / 4);
+    }
+
+    @Test
+    public void testBoardLoadsBinaryMap() throws IOException {
+        File binary = folder.newFile("level.bmap");
+        MapLayout.parseText(MAP).writeBinary(binary.toPath());
+
+        Board board = new Board();
+        board.loadMap(binary.toPath());
+        assertEquals(5, board.getWidth());
+        assertTrue(board.getStartCell().isStart());
+        assertTrue(board.getExitCell().isExit());
+        assertTrue(board.getCell(2, 2).isWall());
+        assertFalse(board.isValidMove(0, 0));
+        assertTrue(board.isValidMove(2, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsUnknownVersion() {
+        ByteBuffer binary = MapLayout.parseText(MAP).toBinary();
+        binary.putShort(4, (short) 99);
+        MapLayout.read(binary);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsTruncatedMap() {
+        ByteBuffer binary = MapLayout.parseText(MAP).toBinary();
+        binary.limit(binary.limit() - 3);
+        MapLayout.read(binary);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsUnevenRows() {
+        MapLayout.parseText(Arrays.asList("#S#", "#E"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRequiresExit() {
+        MapLayout.parseText(Arrays.asList("#S#"));
+    }
+
+    private static void assertSameLayout(MapLayout expected, MapLayout actual) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertEquals(expected.getWalls(), actual.getWalls());
+        assertEquals(expected.getStartIndex(), actual.getStartIndex());
+        assertEquals(expected.getExitIndex(), actual.getExitIndex());
+        assertEquals(expected.getPlacementCount(), actual.getPlacementCount());
+        for (int i = 0; i < expected.getPlacementCount(); i++) {
+            assertEquals(expected.getPlacement(i), actual.getPlacement(i));
+            assertEquals(expected.getPlacementIndex(i), actual.getPlacementIndex(i));
+        }
+    }
+}
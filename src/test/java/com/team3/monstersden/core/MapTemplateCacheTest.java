@@ -0,0 +1,119 @@
+package com.team3.monstersden.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test suite for MapTemplateCache.
+ * Tests cache hits, LRU eviction, reloading changed files and
+ * copy-on-write sharing of wall data between boards.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class MapTemplateCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static final String MAP = "#####\n#S..#\n#.#E#\n#####\n";
+
+    private File writeMap(String name, String text) throws IOException {
+        File file = new File(folder.getRoot(), name);
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    public void testRepeatedLookupIsCached() throws IOException {
+        MapTemplateCache cache = new MapTemplateCache(4);
+        File file = writeMap("a.txt", MAP);
+
+        MapLayout first = cache.get(file.toPath());
+        MapLayout second = cache.get(file.toPath());
+
+        assertSame(first, second);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testClasspathMapIsCached() throws IOException {
+        MapTemplateCache cache = new MapTemplateCache(4);
+        assertSame(cache.get("level1.txt"), cache.get("level1.txt"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test(expected = IOException.class)
+    public void testMissingClasspathMap() throws IOException {
+        new MapTemplateCache(4).get("no-such-map.txt");
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws IOException {
+        MapTemplateCache cache = new MapTemplateCache(2);
+        File a = writeMap("a.txt", MAP);
+        File b = writeMap("b.txt", MAP);
+        File c = writeMap("c.txt", MAP);
+
+        MapLayout layoutA = cache.get(a.toPath());
+        MapLayout layoutB = cache.get(b.toPath());
+        cache.get(a.toPath()); // a is now more recent than b
+        cache.get(c.toPath());
+
+        assertEquals(2, cache.size());
+        assertSame(layoutA, cache.get(a.toPath()));
+        assertNotSame(layoutB, cache.get(b.toPath()));
+    }
+
+    @Test
+    public void testChangedFileIsReloaded() throws IOException {
+        MapTemplateCache cache = new MapTemplateCache(4);
+        File file = writeMap("a.txt", MAP);
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(1_000_000L));
+        MapLayout before = cache.get(file.toPath());
+
+        writeMap("a.txt", "######\n#S...#\n#..#E#\n######\n");
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(2_000_000L));
+        MapLayout after = cache.get(file.toPath());
+
+        assertNotSame(before, after);
+        assertEquals(5, before.getWidth());
+        assertEquals(6, after.getWidth());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testBoardsShareWallsCopyOnWrite() throws IOException {
+        MapTemplateCache cache = new MapTemplateCache(4);
+        MapLayout layout = cache.get(writeMap("a.txt", MAP).toPath());
+
+        Board first = new Board();
+        first.loadLayout(layout);
+        Board second = new Board();
+        second.loadLayout(layout);
+
+        first.getCell(1, 2).setWall(true);
+
+        assertTrue(first.getCell(1, 2).isWall());
+        assertFalse("Other boards keep the template walls", second.getCell(1, 2).isWall());
+        assertFalse("The cached layout is never modified", layout.isWall(2 * 5 + 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsZeroCapacity() {
+        new MapTemplateCache(0);
+    }
+}
@@ -0,0 +1,85 @@
+package com.team3.monstersden.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+import com.team3.monstersden.core.RandomSource.Stream;
+
+/**
+ * Test suite for RandomSource.
+ * Tests reproducibility per seed and independence of subsystem streams.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class RandomSourceTest {
+
+    @Test
+    public void testSameSeedSameStreams() {
+        RandomSource a = new RandomSource(1234L);
+        RandomSource b = new RandomSource(1234L);
+
+        for (Stream stream : Stream.values()) {
+            for (int i = 0; i < 10; i++) {
+                assertEquals(a.get(stream).nextLong(), b.get(stream).nextLong());
+            }
+        }
+        assertEquals(1234L, a.getSeed());
+    }
+
+    @Test
+    public void testDifferentSeedsDiffer() {
+        assertNotEquals(new RandomSource(1L).get(Stream.WORLD).nextLong(),
+                        new RandomSource(2L).get(Stream.WORLD).nextLong());
+    }
+
+    @Test
+    public void testStreamsAreIndependent() {
+        RandomSource quiet = new RandomSource(99L);
+        RandomSource busy = new RandomSource(99L);
+
+        // Heavy use of one subsystem must not shift another's numbers
+        for (int i = 0; i < 1000; i++) busy.get(Stream.SPAWN).nextInt();
+
+        assertEquals(quiet.get(Stream.WORLD).nextLong(), busy.get(Stream.WORLD).nextLong());
+    }
+
+    @Test
+    public void testGetReturnsSameGenerator() {
+        RandomSource source = new RandomSource(5L);
+        assertSame(source.get(Stream.BOARD), source.get(Stream.BOARD));
+    }
+
+    @Test
+    public void testSplitsAreReproducible() {
+        RandomSource a = new RandomSource(7L);
+        RandomSource b = new RandomSource(7L);
+
+        GameRandom first = a.split(Stream.ENEMY_AI);
+        GameRandom second = a.split(Stream.ENEMY_AI);
+        assertEquals(first.nextLong(), b.split(Stream.ENEMY_AI).nextLong());
+        assertEquals(second.nextLong(), b.split(Stream.ENEMY_AI).nextLong());
+    }
+
+    @Test
+    public void testSessionsWithSameSeedBuildSameWorld() {
+        SessionRegistry registry = new SessionRegistry(1);
+        try {
+            Game a = registry.createSession(77L);
+            Game b = registry.createSession(77L);
+            a.initialize();
+            b.initialize();
+
+            assertEquals(a.getRandomSource().getSeed(), b.getRandomSource().getSeed());
+            assertEquals(a.getEnemies().size(), b.getEnemies().size());
+            for (int i = 0; i < a.getEnemies().size(); i++) {
+                assertEquals(a.getEnemies().get(i).getX(), b.getEnemies().get(i).getX());
+                assertEquals(a.getEnemies().get(i).getY(), b.getEnemies().get(i).getY());
+            }
+        } finally {
+            registry.shutdown();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.team3.monstersden.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.team3.monstersden.patterns.observer.GameObserver;
+
+/**
+ * Test suite for SessionRegistry.
+ * Tests session creation, isolation, lookup, closing and shared-pool ticking.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class SessionRegistryTest {
+
+    private SessionRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new SessionRegistry(2);
+    }
+
+    @After
+    public void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    public void testSessionsAreIsolated() {
+        Game a = registry.createSession();
+        Game b = registry.createSession();
+        a.initialize();
+        b.initialize();
+
+        assertNotSame(a, b);
+        assertTrue(a.getSessionId() != b.getSessionId());
+        assertNotSame(a.getBoard(), b.getBoard());
+        assertNotSame(a.getRandomSource(), b.getRandomSource());
+        assertNotSame(a.getPlayer(), b.getPlayer());
+
+        a.addScore(100);
+        assertEquals(0, b.getScore());
+    }
+
+    @Test
+    public void testObserversArePerSession() {
+        Game a = registry.createSession();
+        Game b = registry.createSession();
+        CountingObserver observer = new CountingObserver();
+        a.addObserver(observer);
+
+        b.addScore(10);
+        assertEquals(0, observer.scoreChanges);
+        a.addScore(10);
+        assertEquals(1, observer.scoreChanges);
+    }
+
+    @Test
+    public void testLookupAndClose() {
+        Game game = registry.createSession();
+        long id = game.getSessionId();
+
+        assertSame(game, registry.getSession(id));
+        assertEquals(1, registry.getSessionCount());
+
+        assertTrue(registry.closeSession(id));
+        assertNull(registry.getSession(id));
+        assertFalse(registry.closeSession(id));
+        assertEquals(0, registry.getSessionCount());
+    }
+
+    @Test
+    public void testDefaultSessionIsStable() {
+        Game first = registry.getDefaultSession();
+        assertSame(first, registry.getDefaultSession());
+
+        registry.closeSession(first.getSessionId());
+        assertNotSame(first, registry.getDefaultSession());
+    }
+
+    @Test
+    public void testGetInstanceIsDefaultSession() {
+        assertSame(SessionRegistry.getDefault().getDefaultSession(), Game.getInstance());
+    }
+
+    @Test
+    public void testManySessionsTickOnSharedPool() throws InterruptedException {
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Game game = registry.createSession(5, OverrunPolicy.SKIP);
+            game.initialize();
+            game.startGameLoop();
+            games.add(game);
+        }
+
+        long deadline = System.currentTimeMillis() + 2000;
+        for (Game game : games) {
+            while (game.getTickStats().getTicks() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue("Every session should tick", game.getTickStats().getTicks() > 0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsEmptyPool() {
+        new SessionRegistry(0);
+    }
+
+    /**
+     * Observer that counts score notifications.
+     */
+    private static class CountingObserver implements GameObserver {
+        int scoreChanges = 0;
+
+        @Override
+        public void update() { }
+
+        @Override
+        public void onScoreChanged(int newScore) {
+            scoreChanges++;
+        }
+
+        @Override
+        public void onBonusTimerUpdate(int ticksRemaining) { }
+
+        @Override
+        public void onGameEnd(boolean won, int finalScore) { }
+    }
+}
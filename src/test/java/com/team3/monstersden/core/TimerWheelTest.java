@@ -0,0 +1,184 @@
+package com.team3.monstersden.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.team3.monstersden.items.BonusReward;
+import com.team3.monstersden.items.Punishment;
+
+/**
+ * Test suite for TimerWheel and the bonus and trap timers Game runs on it.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class TimerWheelTest {
+
+    private final List<String> fired = new ArrayList<>();
+    private TimerWheel<String> wheel;
+    private SessionRegistry registry;
+
+    @Before
+    public void setUp() {
+        wheel = new TimerWheel<>(8);
+        registry = new SessionRegistry(1);
+    }
+
+    @After
+    public void tearDown() {
+        registry.shutdown();
+    }
+
+    private void advanceTo(long tick) {
+        wheel.advance(tick, fired::add);
+    }
+
+    @Test
+    public void testFiresInDeadlineTick() {
+        wheel.schedule("a", 3);
+        advanceTo(2);
+        assertTrue(fired.isEmpty());
+        advanceTo(3);
+        assertEquals(Arrays.asList("a"), fired);
+        assertEquals(0, wheel.size());
+        assertEquals(-1, wheel.deadline("a"));
+    }
+
+    @Test
+    public void testLaterLapsWaitForTheirTick() {
+        wheel.schedule("near", 5);
+        wheel.schedule("far", 5 + 8 * 3); // Same slot, three laps later
+        advanceTo(5);
+        assertEquals(Arrays.asList("near"), fired);
+        advanceTo(28);
+        assertEquals(Arrays.asList("near"), fired);
+        advanceTo(29);
+        assertEquals(Arrays.asList("near", "far"), fired);
+    }
+
+    @Test
+    public void testSameTickFiresInScheduleOrder() {
+        wheel.schedule("b", 4);
+        wheel.schedule("a", 4);
+        wheel.schedule("c", 4);
+        advanceTo(4);
+        assertEquals(Arrays.asList("b", "a", "c"), fired);
+    }
+
+    @Test
+    public void testCancelAndReschedule() {
+        wheel.schedule("a", 2);
+        wheel.schedule("b", 2);
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.cancel("a"));
+        wheel.schedule("b", 6); // Moves the pending timer
+        assertEquals(6, wheel.deadline("b"));
+        assertEquals(1, wheel.size());
+
+        advanceTo(5);
+        assertTrue(fired.isEmpty());
+        advanceTo(6);
+        assertEquals(Arrays.asList("b"), fired);
+    }
+
+    @Test
+    public void testPastDeadlineFiresNextTick() {
+        advanceTo(10);
+        wheel.schedule("late", 4);
+        assertEquals(11, wheel.deadline("late"));
+        advanceTo(11);
+        assertEquals(Arrays.asList("late"), fired);
+    }
+
+    @Test
+    public void testCallbackMayReschedule() {
+        wheel.schedule("repeat", 1);
+        wheel.advance(10, key -> {
+            fired.add(key);
+            wheel.schedule(key, wheel.now() + 3);
+        });
+        assertEquals(4, fired.size()); // Ticks 1, 4, 7 and 10
+        assertEquals(13, wheel.deadline("repeat"));
+    }
+
+    @Test
+    public void testResetDropsTimers() {
+        wheel.schedule("a", 3);
+        wheel.reset(100);
+        assertEquals(0, wheel.size());
+        assertEquals(100, wheel.now());
+        advanceTo(200);
+        assertTrue(fired.isEmpty());
+    }
+
+    /** A game on a roomy board, where the player survives standing still */
+    private Game roomyGame() {
+        Game game = registry.createSession(35L);
+        game.initialize(new DungeonGenerator(DungeonGenerator.Style.ROOMS, 0.4).generateLayout(61, 61, 35L));
+        game.startManualLoop();
+        return game;
+    }
+
+    @Test
+    public void testGameExpiresBonusAfterItsDuration() {
+        Game game = roomyGame();
+        assertFalse(game.getActiveBonusRewards().isEmpty());
+        BonusReward bonus = game.getActiveBonusRewards().get(0);
+        int duration = bonus.getDuration();
+
+        for (int i = 1; i < duration; i++) {
+            game.tick();
+            assertEquals(duration - i, game.getBonusTicksLeft(bonus));
+        }
+        assertFalse(bonus.isExpired());
+        assertEquals(bonus, game.getBoard().getCell(bonus.getX(), bonus.getY()).getReward());
+
+        game.tick();
+        assertTrue(bonus.isExpired());
+        assertFalse(game.getActiveBonusRewards().contains(bonus));
+        assertEquals(null, game.getBoard().getCell(bonus.getX(), bonus.getY()).getReward());
+    }
+
+    @Test
+    public void testGameRearmsTrapAfterCooldown() {
+        Game game = roomyGame();
+        assertFalse(game.getTraps().isEmpty());
+        Punishment trap = game.getTraps().get(0);
+
+        trap.trigger();
+        game.trapTriggered(trap);
+        for (int i = 1; i < GameConfig.TRAP_COOLDOWN_TICKS; i++) {
+            game.tick();
+            assertFalse(trap.isActive());
+            assertEquals(GameConfig.TRAP_COOLDOWN_TICKS - i, game.getTrapCooldownLeft(trap));
+        }
+        game.tick();
+        assertTrue(trap.isActive());
+    }
+
+    @Test
+    public void testTimersSurviveSnapshot() {
+        Game game = roomyGame();
+        Punishment trap = game.getTraps().get(0);
+        trap.trigger();
+        game.trapTriggered(trap);
+        game.tick();
+        game.tick();
+
+        Game copy = registry.createSession(1L);
+        copy.loadSnapshot(game.saveSnapshot());
+        Punishment copiedTrap = copy.getTraps().get(0);
+        BonusReward copiedBonus = copy.getActiveBonusRewards().get(0);
+        assertEquals(game.getTrapCooldownLeft(trap), copy.getTrapCooldownLeft(copiedTrap));
+        assertEquals(game.getBonusTicksLeft(game.getActiveBonusRewards().get(0)),
+            copy.getBonusTicksLeft(copiedBonus));
+    }
+}
@@ -0,0 +1,233 @@
+package com.team3.monstersden.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+import com.team3.monstersden.characters.Enemy;
+import com.team3.monstersden.characters.Monster;
+import com.team3.monstersden.characters.Player;
+import com.team3.monstersden.patterns.strategy.SmartEnemyStrategy;
+import com.team3.monstersden.util.Direction;
+
+/**
+ * Test suite for TwoPhaseEnemyUpdate and Game's TWO_PHASE enemy mode.
+ * Tests conflict resolution, that parallel planning matches sequential
+ * planning, and that a seed always plays out the same way.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class TwoPhaseEnemyUpdateTest {
+
+    /** An open room with walls around it */
+    private static Board room(int width, int height) {
+        List<String> lines = new ArrayList<>();
+        char[] wall = new char[width];
+        Arrays.fill(wall, '#');
+        lines.add(new String(wall));
+        for (int y = 1; y < height - 1; y++) {
+            char[] row = new char[width];
+            Arrays.fill(row, '.');
+            row[0] = '#';
+            row[width - 1] = '#';
+            if (y == 1) row[1] = 'S';
+            if (y == height - 2) row[width - 2] = 'E';
+            lines.add(new String(row));
+        }
+        lines.add(new String(wall));
+        Board board = new Board(new GameRandom(1L));
+        board.loadLayout(MapLayout.parseText(lines));
+        return board;
+    }
+
+    /** The direction whose deltas step (dx, dy), the way Enemy.tick applies them */
+    private static Direction step(int dx, int dy) {
+        for (Direction d : Direction.values()) {
+            if (d.getDx() == dx && d.getDy() == dy) return d;
+        }
+        throw new IllegalArgumentException("No direction steps " + dx + "," + dy);
+    }
+
+    private static final Direction EAST = step(1, 0);
+    private static final Direction WEST = step(-1, 0);
+
+    private static Monster monster(Board board, int x, int y, Direction fixed) {
+        Monster m = new Monster(x, y, GameConfig.MONSTER_DAMAGE, GameConfig.MONSTER_MAX_HP);
+        m.setMovementStrategy((b, self, p) -> fixed);
+        board.getCell(x, y).setEnemy(m);
+        return m;
+    }
+
+    @Test
+    public void testCloserClaimWinsRegardlessOfListOrder() {
+        for (boolean reversed : new boolean[] { false, true }) {
+            Board board = room(7, 5);
+            Player player = new Player(5, 3);
+            Monster far = monster(board, 2, 2, EAST);  // 4 from the player
+            Monster near = monster(board, 4, 2, WEST); // 2 from the player
+            List<Enemy> enemies = reversed ? Arrays.asList(near, far) : Arrays.asList(far, near);
+
+            new TwoPhaseEnemyUpdate(8).run(board, player, enemies);
+
+            assertEquals(3, near.getX());
+            assertEquals(2, far.getX());
+            assertSame(near, board.getCell(3, 2).getEnemy());
+            assertSame(far, board.getCell(2, 2).getEnemy());
+            assertFalse(board.hasEnemyAt(4, 2));
+        }
+    }
+
+    @Test
+    public void testEqualDistanceFallsBackToTileOrder() {
+        Board board = room(7, 5);
+        Player player = new Player(3, 3);
+        Monster left = monster(board, 2, 1, EAST);
+        Monster right = monster(board, 4, 1, WEST);
+
+        new TwoPhaseEnemyUpdate(8).run(board, player, Arrays.asList(right, left));
+
+        assertEquals(3, left.getX());
+        assertEquals(4, right.getX());
+    }
+
+    @Test
+    public void testVacatedTilesAndPlayerAreNotEntered() {
+        Board board = room(7, 5);
+        Player player = new Player(4, 3);
+        Monster follower = monster(board, 1, 1, EAST);
+        Monster leader = monster(board, 2, 1, EAST);
+        Monster a = monster(board, 1, 3, EAST);
+        Monster b = monster(board, 2, 3, WEST);
+        Monster blocked = monster(board, 3, 3, EAST);
+
+        new TwoPhaseEnemyUpdate(8).run(board, player, Arrays.asList(follower, leader, a, b, blocked));
+
+        assertEquals(3, leader.getX());
+        assertEquals(1, follower.getX()); // Its tile was only freed this tick
+        assertEquals(1, a.getX());        // No swaps
+        assertEquals(2, b.getX());
+        assertEquals(3, blocked.getX());  // The player's tile
+    }
+
+    /** A crowd of patrolling and chasing enemies on an open board */
+    private static List<Enemy> crowd(Board board, int count, long seed) {
+        GameRandom placement = new GameRandom(seed);
+        List<Enemy> enemies = new ArrayList<>();
+        while (enemies.size() < count) {
+            int x = 1 + placement.nextInt(board.getWidth() - 2);
+            int y = 1 + placement.nextInt(board.getHeight() - 2);
+            if (board.hasEnemyAt(x, y)) continue;
+            Monster m = new Monster(x, y, GameConfig.MONSTER_DAMAGE, GameConfig.MONSTER_MAX_HP);
+            m.setMovementStrategy(new SmartEnemyStrategy(new GameRandom(seed * 1000 + enemies.size())));
+            board.getCell(x, y).setEnemy(m);
+            enemies.add(m);
+        }
+        return enemies;
+    }
+
+    private static List<Integer> simulate(int batchSize, int count, boolean shuffled) {
+        Board board = room(40, 40);
+        Player player = new Player(20, 20);
+        player.setHealth(Integer.MAX_VALUE / 2);
+        List<Enemy> enemies = crowd(board, count, 9L);
+        List<Enemy> order = new ArrayList<>(enemies);
+        if (shuffled) {
+            Collections.reverse(order);
+        }
+        TwoPhaseEnemyUpdate update = new TwoPhaseEnemyUpdate(batchSize);
+        for (int tick = 0; tick < 50; tick++) {
+            board.getChaseField().update(player.getX(), player.getY());
+            update.run(board, player, order);
+
+            Set<Integer> occupied = new HashSet<>();
+            for (Enemy e : enemies) {
+                assertTrue("Two enemies share a tile", occupied.add(e.getY() * 40 + e.getX()));
+                assertSame(e, board.getCell(e.getX(), e.getY()).getEnemy());
+            }
+        }
+        List<Integer> positions = new ArrayList<>();
+        for (Enemy e : enemies) {
+            positions.add(e.getY() * 40 + e.getX());
+        }
+        positions.add(player.getHealth());
+        return positions;
+    }
+
+    @Test
+    public void testParallelPlanningMatchesSequential() {
+        assertEquals(simulate(1000, 400, false), simulate(4, 400, false));
+    }
+
+    @Test
+    public void testListOrderDoesNotChangeOutcome() {
+        assertEquals(simulate(4, 400, false), simulate(4, 400, true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsEmptyBatch() {
+        new TwoPhaseEnemyUpdate(0);
+    }
+
+    private static List<Integer> playGame(long seed, EnemyUpdateMode mode) {
+        SessionRegistry registry = new SessionRegistry(1);
+        try {
+            Game game = registry.createSession(seed);
+            game.setEnemyUpdateMode(mode);
+            game.initialize(new DungeonGenerator(DungeonGenerator.Style.ROOMS, 0.4).generateLayout(61, 61, 35L));
+            game.startManualLoop();
+            for (int i = 0; i < 200 && !game.isGameOver(); i++) {
+                game.tick();
+            }
+            List<Integer> state = new ArrayList<>();
+            state.add((int) game.getTickCount());
+            state.add(game.getPlayer().getHealth());
+            for (Enemy e : game.getEnemies()) {
+                state.add(e.getX());
+                state.add(e.getY());
+            }
+            return state;
+        } finally {
+            registry.shutdown();
+        }
+    }
+
+    @Test
+    public void testGameReplaysSameSeed() {
+        List<Integer> first = playGame(35L, EnemyUpdateMode.TWO_PHASE);
+        assertEquals(first, playGame(35L, EnemyUpdateMode.TWO_PHASE));
+        assertTrue(first.get(0) > 1);
+        assertNotEquals(first, playGame(36L, EnemyUpdateMode.TWO_PHASE));
+    }
+
+    @Test
+    public void testGameModeDefaultsToConfig() {
+        SessionRegistry registry = new SessionRegistry(1);
+        try {
+            Game game = registry.createSession(1L);
+            assertEquals(GameConfig.ENEMY_UPDATE_MODE, game.getEnemyUpdateMode());
+        } finally {
+            registry.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGameRejectsNullMode() {
+        SessionRegistry registry = new SessionRegistry(1);
+        try {
+            registry.createSession(1L).setEnemyUpdateMode(null);
+        } finally {
+            registry.shutdown();
+        }
+    }
+}
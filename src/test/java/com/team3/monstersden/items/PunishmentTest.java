@@ -187,8 +187,8 @@ public class PunishmentTest {
         assertEquals("Second trigger should succeed after re-arm", 20, penalty2);
     }
 
-    @Test(expected = UnsupportedOperationException.class)
-    public void testIsRespawnableThrowsException() {
-        punishment.isRespawnable();
+    @Test
+    public void testIsRespawnable() {
+        assertTrue("Traps re-arm after their cooldown", punishment.isRespawnable());
     }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.team3.monstersden.leaderboard;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.core.GameConfig;
+import com.team3.monstersden.core.SessionRegistry;
+import com.team3.monstersden.patterns.command.MoveCommand;
+import com.team3.monstersden.patterns.strategy.PlayerMovementStrategy;
+import com.team3.monstersden.util.Direction;
+
+/**
+ * Test suite for Leaderboard and LeaderboardObserver.
+ * Tests ranking, the top-N cache, persistence and recording finished games.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class LeaderboardTest {
+
+    private static int databaseCount;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Leaderboard leaderboard;
+
+    @Before
+    public void setUp() throws SQLException {
+        leaderboard = new Leaderboard("jdbc:h2:mem:leaderboard" + (++databaseCount), 5);
+    }
+
+    @After
+    public void tearDown() {
+        leaderboard.close();
+    }
+
+    @Test
+    public void testEmptyLeaderboard() {
+        assertTrue(leaderboard.getTop(10).isEmpty());
+    }
+
+    @Test
+    public void testRanksByScoreThenTicks() {
+        leaderboard.record(new LeaderboardEntry("slow", 300, 90, 1, "level1.txt", 1L));
+        leaderboard.record(new LeaderboardEntry("low", 100, 10, 0, "level1.txt", 2L));
+        leaderboard.record(new LeaderboardEntry("fast", 300, 40, 2, null, 3L));
+        leaderboard.record(new LeaderboardEntry("best", 500, 70, 4, "level1.txt", 4L));
+        assertTrue(leaderboard.flush(5000));
+
+        List<LeaderboardEntry> top = leaderboard.getTop(3);
+        assertEquals(3, top.size());
+        assertEquals("best", top.get(0).getPlayerName());
+        assertEquals("fast", top.get(1).getPlayerName());
+        assertEquals("slow", top.get(2).getPlayerName());
+        assertNull(top.get(1).getMapId());
+        assertEquals(40, top.get(1).getTicks());
+        assertEquals(2, top.get(1).getKills());
+        assertEquals(3L, top.get(1).getSeed());
+    }
+
+    @Test
+    public void testCacheHoldsOnlyBestGames() {
+        for (int i = 0; i < 200; i++) {
+            assertTrue(leaderboard.record(new LeaderboardEntry("p" + i, i, 10, 0, "level1.txt", i)));
+        }
+        assertTrue(leaderboard.flush(5000));
+
+        List<LeaderboardEntry> top = leaderboard.getTop(100);
+        assertEquals(5, top.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(199 - i, top.get(i).getScore());
+        }
+        assertEquals(0, leaderboard.getFailedCount());
+    }
+
+    @Test
+    public void testLongNamesAreCut() {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 100; i++) name.append('x');
+        leaderboard.record(new LeaderboardEntry(name.toString(), 1, 1, 0, null, 0L));
+        assertTrue(leaderboard.flush(5000));
+
+        assertEquals(0, leaderboard.getFailedCount());
+        assertEquals(64, leaderboard.getTop(1).get(0).getPlayerName().length());
+    }
+
+    @Test
+    public void testPersistsAcrossReopen() throws SQLException {
+        Path file = folder.getRoot().toPath().resolve("scores");
+        Leaderboard first = Leaderboard.open(file);
+        first.record(new LeaderboardEntry("Gerald", 250, 120, 3, "level1.txt", 42L));
+        first.close();
+
+        Leaderboard second = Leaderboard.open(file);
+        try {
+            // The cache is loaded when the database opens
+            assertEquals(1, second.getTop(GameConfig.LEADERBOARD_SIZE).size());
+            assertEquals("Gerald", second.getTop(1).get(0).getPlayerName());
+            assertEquals(42L, second.getTop(1).get(0).getSeed());
+        } finally {
+            second.close();
+        }
+    }
+
+    @Test
+    public void testRecordAfterCloseIsDropped() {
+        leaderboard.close();
+        assertFalse(leaderboard.record(new LeaderboardEntry("late", 1, 1, 0, null, 0L)));
+    }
+
+    @Test
+    public void testObserverRecordsFinishedGame() {
+        SessionRegistry registry = new SessionRegistry(1);
+        try {
+            Game game = registry.createSession(31L);
+            game.addObserver(new LeaderboardObserver(game, leaderboard));
+            game.initialize();
+            game.startManualLoop();
+            PlayerMovementStrategy strategy = (PlayerMovementStrategy) game.getPlayer().getMovementStrategy();
+            Random moves = new Random(2);
+            for (int i = 0; i < 500 && !game.isGameOver(); i++) {
+                game.submitCommand(new MoveCommand(strategy, Direction.values()[moves.nextInt(4)]));
+                game.tick();
+            }
+            assertTrue(game.isGameOver());
+            assertTrue(leaderboard.flush(5000));
+
+            LeaderboardEntry entry = leaderboard.getTop(1).get(0);
+            assertEquals(game.getPlayer().getName(), entry.getPlayerName());
+            assertEquals(game.getScore(), entry.getScore());
+            assertEquals(game.getTickCount(), entry.getTicks());
+            assertEquals(game.getKills(), entry.getKills());
+            assertEquals(GameConfig.DEFAULT_MAP, entry.getMapId());
+            assertEquals(game.getRandomSource().getSeed(), entry.getSeed());
+        } finally {
+            registry.shutdown();
+        }
+    }
+}
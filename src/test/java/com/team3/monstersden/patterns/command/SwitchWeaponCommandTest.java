@@ -0,0 +1,65 @@
+package com.team3.monstersden.patterns.command;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.items.SilverSword;
+import com.team3.monstersden.items.SteelSword;
+import com.team3.monstersden.items.Sword;
+
+/**
+ * Unit tests for {@link SwitchWeaponCommand}.
+ *
+ * <p>These tests verify that the command equips the given sword on the
+ * game's player, and that it safely does nothing when the game or the
+ * sword is null.</p>
+ */
+public class SwitchWeaponCommandTest {
+
+    private Game game;
+
+    @Before
+    public void setUp() {
+        game = Game.getInstance();
+        game.initialize();
+    }
+
+    /**
+     * execute() should equip the command's sword on the player.
+     */
+    @Test
+    public void testExecuteSwitchesWeapon() {
+        Sword steel = new SteelSword();
+        new SwitchWeaponCommand(steel).execute(game);
+
+        assertSame(steel, game.getPlayer().getCurrentSword());
+    }
+
+    /**
+     * A queued switch should only take effect once the game processes commands.
+     */
+    @Test
+    public void testQueuedSwitchAppliedOnProcess() {
+        game.getPlayer().switchWeapon(new SilverSword());
+        game.submitCommand(new SwitchWeaponCommand(new SteelSword()));
+        assertTrue(game.getPlayer().getCurrentSword() instanceof SilverSword);
+
+        game.processCommands();
+        assertTrue(game.getPlayer().getCurrentSword() instanceof SteelSword);
+    }
+
+    /**
+     * Null game or null sword must not throw.
+     */
+    @Test
+    public void testNullArgumentsDoNothing() {
+        new SwitchWeaponCommand(new SteelSword()).execute(null);
+
+        Sword before = game.getPlayer().getCurrentSword();
+        new SwitchWeaponCommand(null).execute(game);
+        assertSame(before, game.getPlayer().getCurrentSword());
+    }
+}
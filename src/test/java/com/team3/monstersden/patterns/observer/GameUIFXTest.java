@@ -137,9 +137,9 @@ public class GameUIFXTest {
         CountDownLatch latch = new CountDownLatch(1);
         Platform.runLater(() -> {
             try {
-                // This calls renderBoard(), which calls drawCell() for every cell
-                // This executes the drawing logic for all entities we placed above
-                ui.update(); 
+                // Publish a frame of the board above and draw it, as the render loop would
+                game.publishFrame();
+                ui.drawLatestFrame();
                 latch.countDown();
             } catch (Exception e) {
                 fail("Rendering threw exception: " + e.getMessage());
@@ -168,7 +168,8 @@ public class GameUIFXTest {
     private void triggerRender() throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
         Platform.runLater(() -> {
-            ui.update();
+            game.publishFrame();
+            ui.drawLatestFrame();
             latch.countDown();
         });
         assertTrue(latch.await(1, TimeUnit.SECONDS));
@@ -201,8 +202,9 @@ public class GameUIFXTest {
         CountDownLatch latch = new CountDownLatch(1);
         Platform.runLater(() -> {
             try {
-                // Private method updateStats is called by update() or onScoreChanged
-                ui.onScoreChanged(game.getScore()); 
+                // Stats are drawn from the latest published frame
+                game.publishFrame();
+                ui.drawLatestFrame();
             } catch (Exception e) {
                 e.printStackTrace();
             } finally {
@@ -220,7 +222,9 @@ public class GameUIFXTest {
         
         CountDownLatch latch = new CountDownLatch(1);
         Platform.runLater(() -> {
-            ui.onScoreChanged(newScore);
+            game.addScore(newScore);
+            game.publishFrame();
+            ui.drawLatestFrame();
             latch.countDown();
         });
         assertTrue(latch.await(2, TimeUnit.SECONDS));
@@ -236,7 +240,9 @@ public class GameUIFXTest {
     public void testOnBonusTimerUpdate() throws Exception {
         CountDownLatch latch = new CountDownLatch(1);
         Platform.runLater(() -> {
-            ui.onBonusTimerUpdate(10);
+            game.notifyBonusTimerUpdate(10);
+            game.publishFrame();
+            ui.drawLatestFrame();
             latch.countDown();
         });
         assertTrue(latch.await(2, TimeUnit.SECONDS));
@@ -322,12 +328,15 @@ public class GameUIFXTest {
     public void testKeyBindingWeaponSwitch() throws InterruptedException {
         Player p = game.getPlayer();
         
-        // Press '2' -> Steel Sword
+        // Press '2' -> Steel Sword, queued until the game loop runs it
         simulateKeyPress(KeyCode.DIGIT2);
+        assertEquals("Switch should wait in the command queue", 1, game.getPendingCommandCount());
+        game.processCommands();
         assertTrue("Should switch to Steel Sword", p.getCurrentSword() instanceof SteelSword);
 
         // Press '1' -> Silver Sword
         simulateKeyPress(KeyCode.DIGIT1);
+        game.processCommands();
         assertTrue("Should switch to Silver Sword", p.getCurrentSword() instanceof SilverSword);
     }
 
@@ -1,8 +1,12 @@
 package com.team3.monstersden.patterns.strategy;
 
+import java.util.Arrays;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
 import com.team3.monstersden.characters.AIState;
@@ -11,6 +15,7 @@ import com.team3.monstersden.characters.Monster;
 import com.team3.monstersden.characters.Player;
 import com.team3.monstersden.core.Board;
 import com.team3.monstersden.core.Cell;
+import com.team3.monstersden.core.MapLayout;
 import com.team3.monstersden.util.Direction;
 
 /**
@@ -110,4 +115,33 @@ public class SmartEnemyStrategyTest {
         assertNotNull(d);
         assertNotEquals(Direction.NONE, d);
     }
+
+    /**
+     * when the only shorter step toward the player holds another enemy,
+     * the chaser should route around it (as A* does) instead of waiting.
+     */
+    @Test
+    public void testChaseRoutesAroundBlockingEnemy() {
+        Board board = new Board();
+        board.loadLayout(MapLayout.parseText(Arrays.asList(
+            "#######",
+            "#S....#",
+            "#.....#",
+            "#....E#",
+            "#######")));
+        Player player = new Player(1, 1);
+        Enemy chaser = new Monster(3, 1, 10, 10);
+        Enemy blocker = new Monster(2, 1, 10, 10);
+        board.getCell(3, 1).setEnemy(chaser);
+        board.getCell(2, 1).setEnemy(blocker);
+
+        Direction d = new SmartEnemyStrategy().chooseMove(board, chaser, player);
+
+        assertEquals(AIState.CHASE, chaser.getCurrentState());
+        assertNotEquals(Direction.NONE, d);
+        int nx = chaser.getX() + d.getDx();
+        int ny = chaser.getY() + d.getDy();
+        assertTrue(board.isValidMove(nx, ny));
+        assertFalse(board.hasEnemyAt(nx, ny));
+    }
 }
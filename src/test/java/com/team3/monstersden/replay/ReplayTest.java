@@ -0,0 +1,274 @@
+package com.team3.monstersden.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.team3.monstersden.core.DungeonGenerator;
+import com.team3.monstersden.core.Game;
+import com.team3.monstersden.core.GameConfig;
+import com.team3.monstersden.core.MapLayout;
+import com.team3.monstersden.core.SessionRegistry;
+import com.team3.monstersden.items.SteelSword;
+import com.team3.monstersden.patterns.command.MoveCommand;
+import com.team3.monstersden.patterns.command.SwitchWeaponCommand;
+import com.team3.monstersden.patterns.strategy.PlayerMovementStrategy;
+import com.team3.monstersden.util.Direction;
+
+/**
+ * Test suite for replay recording, the replay file format and playback.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class ReplayTest {
+
+    private static final Direction[] MOVES = {
+        Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT
+    };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SessionRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new SessionRegistry(1);
+    }
+
+    @After
+    public void tearDown() {
+        registry.shutdown();
+    }
+
+    /** Plays a recorded game with random moves and returns it */
+    private Game record(long seed, int maxTicks, int checksumInterval) {
+        return record(seed, null, maxTicks, checksumInterval);
+    }
+
+    /** Plays a recorded game on the given layout, or the default map if null */
+    private Game record(long seed, MapLayout layout, int maxTicks, int checksumInterval) {
+        Game game = registry.createSession(seed);
+        game.setReplayRecorder(new ReplayRecorder(checksumInterval));
+        if (layout == null) {
+            game.initialize();
+        } else {
+            game.initialize(layout);
+        }
+        game.startManualLoop();
+        PlayerMovementStrategy strategy = (PlayerMovementStrategy) game.getPlayer().getMovementStrategy();
+        Random random = new Random(seed);
+        for (int i = 0; i < maxTicks && game.getGameState() == Game.GameState.RUNNING; i++) {
+            if (i == 20) {
+                game.submitCommand(new SwitchWeaponCommand(new SteelSword(40)));
+            }
+            game.submitCommand(new MoveCommand(strategy, MOVES[random.nextInt(MOVES.length)]));
+            if (i % 7 == 0) {
+                game.submitCommand(new MoveCommand(strategy, MOVES[random.nextInt(MOVES.length)]));
+            }
+            game.tick();
+        }
+        return game;
+    }
+
+    @Test
+    public void testRecordsSeedMapAndCommands() {
+        Game game = record(5L, 100, 10);
+        Replay replay = game.getReplayRecorder().toReplay();
+
+        assertEquals(game.getRandomSource().getSeed(), replay.getGameSeed());
+        assertEquals(GameConfig.DEFAULT_MAP, replay.getMapId());
+        assertEquals(game.getTickCount(), replay.getTickCount());
+        assertEquals(game.getGameState(), replay.getOutcome());
+        assertTrue(replay.getCommandCount() > game.getTickCount());
+        assertEquals(1, replay.getCommandTick(0));
+        assertTrue(replay.getChecksumCount() >= game.getTickCount() / 10);
+    }
+
+    @Test
+    public void testPlaybackMatchesRecording() throws IOException {
+        Game game = record(17L, 300, 10);
+        ReplayPlayer player = new ReplayPlayer(registry, game.getReplayRecorder().toReplay());
+
+        assertEquals(game.getTickCount(), player.playToEnd());
+        assertTrue(player.isFinished());
+        assertTrue(player.isConsistent());
+        assertEquals(-1, player.getDivergenceTick());
+        assertEquals(game.getScore(), player.getGame().getScore());
+        assertEquals(game.getPlayer().getX(), player.getGame().getPlayer().getX());
+        assertEquals(game.getPlayer().getY(), player.getGame().getPlayer().getY());
+        assertEquals(game.getPlayer().getHealth(), player.getGame().getPlayer().getHealth());
+        assertEquals(game.getGameState(), player.getGame().getGameState());
+        player.close();
+    }
+
+    @Test
+    public void testFileRoundTrip() throws IOException {
+        Replay replay = record(3L, 200, 25).getReplayRecorder().toReplay();
+        Path file = folder.getRoot().toPath().resolve("run.mdrp");
+        replay.write(file);
+        Replay read = Replay.read(file);
+
+        assertEquals(replay.getGameSeed(), read.getGameSeed());
+        assertEquals(replay.getMapId(), read.getMapId());
+        assertEquals(replay.getChecksumInterval(), read.getChecksumInterval());
+        assertEquals(replay.getTickCount(), read.getTickCount());
+        assertEquals(replay.getOutcome(), read.getOutcome());
+        assertEquals(replay.getCommandCount(), read.getCommandCount());
+        for (int i = 0; i < replay.getCommandCount(); i++) {
+            assertEquals(replay.getCommandTick(i), read.getCommandTick(i));
+            assertEquals(replay.getCommandCode(i), read.getCommandCode(i));
+            assertEquals(replay.getCommandArgument(i), read.getCommandArgument(i));
+        }
+        assertEquals(replay.getChecksumCount(), read.getChecksumCount());
+        for (int i = 0; i < replay.getChecksumCount(); i++) {
+            assertEquals(replay.getChecksumTick(i), read.getChecksumTick(i));
+            assertEquals(replay.getChecksum(i), read.getChecksum(i));
+        }
+
+        // Commands cost a few bytes each
+        int size = replay.toBinary().remaining();
+        assertTrue(size < 64 + replay.getCommandCount() * 3 + replay.getChecksumCount() * 10);
+
+        ReplayPlayer player = new ReplayPlayer(registry, read);
+        player.playToEnd();
+        assertTrue(player.isConsistent());
+    }
+
+    @Test
+    public void testSeekForwardAndBack() throws IOException {
+        Game game = record(29L, 200, 10);
+        Replay replay = game.getReplayRecorder().toReplay();
+        ReplayPlayer player = new ReplayPlayer(registry, replay);
+        long end = replay.getTickCount();
+
+        assertEquals(end / 2, player.seek(end / 2));
+        int midScore = player.getGame().getScore();
+        int midX = player.getGame().getPlayer().getX();
+
+        player.playToEnd();
+        assertEquals(end, player.getTick());
+
+        assertEquals(end / 2, player.seek(end / 2));
+        assertEquals(midScore, player.getGame().getScore());
+        assertEquals(midX, player.getGame().getPlayer().getX());
+        assertEquals(end, player.seek(end + 100));
+        assertTrue(player.isConsistent());
+        assertFalse(player.step());
+    }
+
+    @Test
+    public void testSeekResumesFromCheckpoints() {
+        // A roomy board keeps the game going for the whole recording
+        MapLayout layout = new DungeonGenerator(DungeonGenerator.Style.ROOMS, 0.4).generateLayout(61, 61, 35L);
+        Game game = record(35L, layout, 400, 10);
+        Replay replay = game.getReplayRecorder().toReplay();
+        ReplayPlayer player = new ReplayPlayer(registry, replay, layout, 50);
+
+        assertEquals(replay.getTickCount(), player.playToEnd());
+        assertTrue(replay.getTickCount() >= 200);
+        assertEquals(replay.getTickCount() / 50, player.getCheckpointCount());
+
+        // Back to between two checkpoints, then forward and back again
+        assertEquals(123, player.seek(123));
+        int score = player.getGame().getScore();
+        int x = player.getGame().getPlayer().getX();
+        int y = player.getGame().getPlayer().getY();
+        player.seek(190);
+        assertEquals(123, player.seek(123));
+        assertEquals(score, player.getGame().getScore());
+        assertEquals(x, player.getGame().getPlayer().getX());
+        assertEquals(y, player.getGame().getPlayer().getY());
+
+        // Checksums keep verifying after a resume
+        player.playToEnd();
+        assertTrue(player.isConsistent());
+        assertEquals(game.getPlayer().getX(), player.getGame().getPlayer().getX());
+        assertEquals(game.getPlayer().getY(), player.getGame().getPlayer().getY());
+        assertEquals(game.getScore(), player.getGame().getScore());
+        player.close();
+    }
+
+    @Test
+    public void testDetectsDivergence() throws IOException {
+        Replay replay = record(41L, 120, 10).getReplayRecorder().toReplay();
+        ByteBuffer bytes = replay.toBinary();
+        // Corrupt the last checksum in place
+        int last = bytes.limit() - 8;
+        bytes.putLong(last, bytes.getLong(last) ^ 1);
+        Replay tampered = Replay.read(bytes);
+
+        ReplayPlayer player = new ReplayPlayer(registry, tampered);
+        player.playToEnd();
+        assertFalse(player.isConsistent());
+        assertEquals(tampered.getChecksumTick(tampered.getChecksumCount() - 1), player.getDivergenceTick());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNonReplay() {
+        Replay.read(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsTruncatedFile() {
+        ByteBuffer bytes = record(8L, 50, 10).getReplayRecorder().toReplay().toBinary();
+        bytes.limit(bytes.limit() - 3);
+        Replay.read(bytes);
+    }
+
+    /** A replay header up to and including the map id length */
+    private static ByteBuffer header(long mapIdLength) {
+        ByteBuffer out = ByteBuffer.allocate(64);
+        out.putInt(Replay.MAGIC);
+        Replay.putVarLong(out, Replay.VERSION);
+        Replay.putVarLong(out, 0);
+        Replay.putVarLong(out, mapIdLength);
+        return out;
+    }
+
+    private static void assertCorrupt(ByteBuffer bytes) {
+        bytes.flip();
+        try {
+            Replay.read(bytes);
+            fail("Replay should be rejected");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Corrupt replay"));
+        }
+    }
+
+    @Test
+    public void testRejectsNegativeCount() {
+        assertCorrupt(header(-1L)); // Ten-byte varint with bit 63 set
+    }
+
+    @Test
+    public void testRejectsOutOfRangeIntFields() {
+        ByteBuffer bytes = header(0);
+        Replay.putVarLong(bytes, 1L << 40); // Checksum interval
+        assertCorrupt(bytes);
+
+        bytes = header(0);
+        Replay.putVarLong(bytes, 0); // Checksum interval
+        assertCorrupt(bytes);
+
+        bytes = header(0);
+        Replay.putVarLong(bytes, 10);
+        Replay.putVarLong(bytes, 0);
+        Replay.putVarLong(bytes, 0);
+        Replay.putVarLong(bytes, 0);
+        Replay.putVarLong(bytes, Long.MAX_VALUE); // Weapon damage
+        assertCorrupt(bytes);
+    }
+}
@@ -0,0 +1,109 @@
+package com.team3.monstersden.simulation;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.team3.monstersden.core.Game.GameState;
+import com.team3.monstersden.core.SessionRegistry;
+import com.team3.monstersden.util.Direction;
+
+/**
+ * Test suite for HeadlessRunner.
+ * Tests tick caps, result statistics, session cleanup and parallel runs.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class HeadlessRunnerTest {
+
+    private static final Direction[] MOVES = {
+        Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT
+    };
+
+    private SessionRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new SessionRegistry(1);
+    }
+
+    @After
+    public void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    public void testRunStopsAtTickCapOrGameEnd() {
+        HeadlessRunner runner = new HeadlessRunner(registry, 50);
+        SimulationResult result = runner.run((game, tick) -> Direction.NONE, 42L);
+
+        assertEquals(42L, result.getSeed());
+        assertTrue(result.getTicks() <= 50);
+        if (result.getTicks() < 50) {
+            assertTrue("Only a finished game may stop early", result.isFinished());
+        } else {
+            assertTrue(result.getOutcome() != GameState.NOT_STARTED);
+        }
+        assertTrue(result.getDamageTaken() >= 0);
+        assertTrue(result.getKills() >= 0);
+    }
+
+    @Test
+    public void testLostGameReportsDamage() {
+        HeadlessRunner runner = new HeadlessRunner(registry, 10_000);
+        // Standing still lets the enemies reach and wear down the player
+        SimulationResult result = runner.run((game, tick) -> Direction.NONE, 7L);
+
+        if (result.getOutcome() == GameState.LOST) {
+            assertTrue(result.getDamageTaken() > 0);
+        }
+    }
+
+    @Test
+    public void testSessionClosedAfterRun() {
+        HeadlessRunner runner = new HeadlessRunner(registry, 20);
+        runner.run((game, tick) -> Direction.RIGHT, 1L);
+
+        assertEquals(0, registry.getSessionCount());
+    }
+
+    @Test
+    public void testRunAllKeepsSeedOrder() throws InterruptedException {
+        HeadlessRunner runner = new HeadlessRunner(registry, 200);
+        long[] seeds = {11L, 22L, 33L, 44L, 55L, 66L};
+
+        List<SimulationResult> results = runner.runAll(() -> {
+            Random random = new Random(0);
+            return (game, tick) -> MOVES[random.nextInt(MOVES.length)];
+        }, seeds, 3);
+
+        assertEquals(seeds.length, results.size());
+        for (int i = 0; i < seeds.length; i++) {
+            assertEquals(seeds[i], results.get(i).getSeed());
+            assertTrue(results.get(i).getTicks() > 0);
+        }
+        assertEquals(0, registry.getSessionCount());
+    }
+
+    @Test
+    public void testSameSeedReproducesGame() {
+        HeadlessRunner runner = new HeadlessRunner(registry, 300);
+        PlayerPolicy zigzag = (game, tick) -> MOVES[(int) (tick % MOVES.length)];
+
+        SimulationResult first = runner.run(zigzag, 2024L);
+        SimulationResult second = runner.run(zigzag, 2024L);
+
+        assertEquals(first.toString(), second.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNonPositiveCap() {
+        new HeadlessRunner(registry, 0);
+    }
+}
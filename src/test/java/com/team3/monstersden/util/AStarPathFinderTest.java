@@ -0,0 +1,149 @@
+package com.team3.monstersden.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.team3.monstersden.characters.Monster;
+import com.team3.monstersden.core.Board;
+import com.team3.monstersden.core.Cell;
+import com.team3.monstersden.core.DungeonGenerator;
+import com.team3.monstersden.core.MapLayout;
+
+/**
+ * Test suite for AStarPathFinder and the AStarEngine it delegates to.
+ * Checks that the engine returns the same directions as the object-based search.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class AStarPathFinderTest {
+
+    private Board board;
+
+    @Before
+    public void setUp() throws IOException {
+        board = new Board();
+        board.loadMap("level1.txt");
+    }
+
+    @Test
+    public void testSameCellReturnsNone() {
+        Cell start = board.getStartCell();
+        assertEquals(Direction.NONE,
+            AStarPathFinder.findNextMove(board, start.getX(), start.getY(), start.getX(), start.getY()));
+    }
+
+    @Test
+    public void testReachableTargetProducesMove() {
+        Cell start = board.getStartCell();
+        Cell exit = board.getExitCell();
+        assertNotEquals(Direction.NONE,
+            AStarPathFinder.findNextMove(board, start.getX(), start.getY(), exit.getX(), exit.getY()));
+    }
+
+    @Test
+    public void testMatchesReferenceOnAllPairs() {
+        assertAllPairsMatchReference();
+    }
+
+    @Test
+    public void testMatchesReferenceWithWallsAndEnemies() {
+        Random random = new Random(276);
+        for (int round = 0; round < 20; round++) {
+            board = new Board();
+            try {
+                board.loadMap("level1.txt");
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+            for (int y = 1; y < board.getHeight() - 1; y++) {
+                for (int x = 1; x < board.getWidth() - 1; x++) {
+                    Cell cell = board.getCell(x, y);
+                    int roll = random.nextInt(10);
+                    if (roll == 0) {
+                        cell.setWall(true);
+                    } else if (roll == 1 && cell.isWalkable()) {
+                        cell.setEnemy(new Monster(x, y, 1, 1));
+                    }
+                }
+            }
+            assertAllPairsMatchReference();
+        }
+    }
+
+    @Test
+    public void testMatchesReferenceOnGeneratedBoards() {
+        Random random = new Random(31);
+        for (long seed = 1; seed <= 3; seed++) {
+            board = new Board();
+            new DungeonGenerator(DungeonGenerator.Style.ROOMS, 0.4).generate(board, 31, 31, seed);
+            for (int y = 0; y < board.getHeight(); y++) {
+                for (int x = 0; x < board.getWidth(); x++) {
+                    if (board.isValidMove(x, y) && random.nextInt(8) == 0) {
+                        board.getCell(x, y).setEnemy(new Monster(x, y, 1, 1));
+                    }
+                }
+            }
+            for (int query = 0; query < 500; query++) {
+                int sx = random.nextInt(board.getWidth());
+                int sy = random.nextInt(board.getHeight());
+                int tx = random.nextInt(board.getWidth());
+                int ty = random.nextInt(board.getHeight());
+                if (!board.isValidMove(sx, sy) || !board.isValidMove(tx, ty)) continue;
+                assertEquals("Path from (" + sx + "," + sy + ") to (" + tx + "," + ty + ")",
+                    AStarPathFinder.referenceFindNextMove(board, sx, sy, tx, ty),
+                    AStarPathFinder.findNextMove(board, sx, sy, tx, ty));
+            }
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testTargetEnclosedByEnemiesEndsQuickly() {
+        // The original search re-expands duplicates here without bound
+        board = new Board();
+        board.loadLayout(MapLayout.parseText(openRoom(40, 40)));
+        int[][] ring = { {20, 19}, {20, 21}, {19, 20}, {21, 20} };
+        for (int[] c : ring) {
+            board.getCell(c[0], c[1]).setEnemy(new Monster(c[0], c[1], 1, 1));
+        }
+        for (int i = 0; i < 50; i++) {
+            assertEquals(Direction.NONE, AStarPathFinder.findNextMove(board, 2, 2, 20, 20));
+        }
+    }
+
+    private static List<String> openRoom(int width, int height) {
+        List<String> lines = new ArrayList<>();
+        for (int y = 0; y < height; y++) {
+            StringBuilder row = new StringBuilder();
+            for (int x = 0; x < width; x++) {
+                boolean edge = x == 0 || y == 0 || x == width - 1 || y == height - 1;
+                row.append(edge ? '#' : x == 1 && y == 1 ? 'S' : x == width - 2 && y == height - 2 ? 'E' : '.');
+            }
+            lines.add(row.toString());
+        }
+        return lines;
+    }
+
+    private void assertAllPairsMatchReference() {
+        for (int sy = 0; sy < board.getHeight(); sy++) {
+            for (int sx = 0; sx < board.getWidth(); sx++) {
+                if (!board.isValidMove(sx, sy)) continue;
+                for (int ty = 0; ty < board.getHeight(); ty++) {
+                    for (int tx = 0; tx < board.getWidth(); tx++) {
+                        if (!board.isValidMove(tx, ty)) continue;
+                        assertEquals("Path from (" + sx + "," + sy + ") to (" + tx + "," + ty + ")",
+                            AStarPathFinder.referenceFindNextMove(board, sx, sy, tx, ty),
+                            AStarPathFinder.findNextMove(board, sx, sy, tx, ty));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.team3.monstersden.util;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.team3.monstersden.characters.Monster;
+import com.team3.monstersden.core.Board;
+import com.team3.monstersden.core.Cell;
+import com.team3.monstersden.core.GameConfig;
+
+/**
+ * Test suite for DistanceField.
+ * Tests BFS distances, range bounding and downhill step selection.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class DistanceFieldTest {
+
+    private Board board;
+    private Cell start;
+
+    @Before
+    public void setUp() throws IOException {
+        board = new Board();
+        board.loadMap("level1.txt");
+        start = board.getStartCell();
+    }
+
+    @Test
+    public void testTargetHasDistanceZero() {
+        DistanceField field = new DistanceField(board, GameConfig.ENEMY_CHASE_RANGE);
+        assertTrue(field.update(start.getX(), start.getY()));
+        assertEquals(0, field.distanceAt(start.getX(), start.getY()));
+        assertEquals(1, field.distanceAt(start.getX() + 1, start.getY()));
+    }
+
+    @Test
+    public void testWallsAreUnreached() {
+        DistanceField field = new DistanceField(board, GameConfig.ENEMY_CHASE_RANGE);
+        field.update(start.getX(), start.getY());
+        assertEquals(DistanceField.UNREACHED, field.distanceAt(0, 0));
+    }
+
+    @Test
+    public void testSearchIsBoundedByRange() {
+        DistanceField field = new DistanceField(board, 2);
+        field.update(start.getX(), start.getY());
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                assertTrue(field.distanceAt(x, y) <= 2);
+            }
+        }
+        assertEquals(DistanceField.UNREACHED, field.distanceAt(start.getX() + 3, start.getY()));
+    }
+
+    @Test
+    public void testDownhillStepReducesDistance() {
+        DistanceField field = new DistanceField(board, GameConfig.ENEMY_CHASE_RANGE);
+        field.update(start.getX(), start.getY());
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                int d = field.distanceAt(x, y);
+                if (d <= 0) continue;
+                Direction dir = field.downhillFrom(x, y);
+                assertEquals(d - 1, field.distanceAt(x + dir.getDx(), y + dir.getDy()));
+            }
+        }
+    }
+
+    @Test
+    public void testDownhillAvoidsEnemies() {
+        DistanceField field = new DistanceField(board, GameConfig.ENEMY_CHASE_RANGE);
+        int x = start.getX() + 2;
+        int y = start.getY();
+        field.update(start.getX(), start.getY());
+        board.getCell(x - 1, y).setEnemy(new Monster(x - 1, y, 1, 1));
+
+        Direction dir = field.downhillFrom(x, y);
+        assertFalse("Step should not enter an occupied cell",
+            board.hasEnemyAt(x + dir.getDx(), y + dir.getDy()) && dir != Direction.NONE);
+    }
+
+    @Test
+    public void testRecomputesAfterWallChange() {
+        DistanceField field = new DistanceField(board, GameConfig.ENEMY_CHASE_RANGE);
+        int x = start.getX() + 1;
+        field.update(start.getX(), start.getY());
+        assertEquals(1, field.distanceAt(x, start.getY()));
+
+        board.getCell(x, start.getY()).setWall(true);
+        field.update(start.getX(), start.getY());
+        assertEquals(DistanceField.UNREACHED, field.distanceAt(x, start.getY()));
+    }
+
+    @Test
+    public void testOffBoardTargetIsInvalid() {
+        DistanceField field = new DistanceField(new Board(), GameConfig.ENEMY_CHASE_RANGE);
+        assertFalse(field.update(0, 0));
+        assertEquals(DistanceField.UNREACHED, field.distanceAt(0, 0));
+    }
+}
@@ -0,0 +1,119 @@
+package com.team3.monstersden.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.team3.monstersden.core.GameConfig;
+
+/**
+ * Test suite for GameLog.
+ * Tests level gating, placeholder formatting and asynchronous output.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class GameLogTest {
+
+    private ByteArrayOutputStream captured;
+
+    @Before
+    public void setUp() {
+        GameLog.flush(1000);
+        captured = new ByteArrayOutputStream();
+        GameLog.setOutput(new PrintStream(captured, true));
+        GameLog.setLevel(GameLog.Level.DEBUG);
+    }
+
+    @After
+    public void tearDown() {
+        GameLog.flush(1000);
+        GameLog.setOutput(null);
+        GameLog.setLevel(GameConfig.LOG_LEVEL);
+    }
+
+    private String output() {
+        assertTrue("Log should drain", GameLog.flush(2000));
+        return captured.toString();
+    }
+
+    @Test
+    public void testFormatsPlaceholders() {
+        GameLog.info("Spawned {} at ({},{})", "Monster", 3, 4);
+
+        assertTrue(output().contains("[INFO] Spawned Monster at (3,4)"));
+    }
+
+    @Test
+    public void testFormatsFourArguments() {
+        GameLog.debug("Attacked {} with {} for {} damage. (Enemy HP: {})", "Monster", "Silver Sword", 30, 20);
+
+        assertTrue(output().contains("[DEBUG] Attacked Monster with Silver Sword for 30 damage. (Enemy HP: 20)"));
+    }
+
+    @Test
+    public void testExtraPlaceholdersLeftAsIs() {
+        GameLog.warn("{} and {}", "one");
+
+        assertTrue(output().contains("[WARN] one and null"));
+    }
+
+    @Test
+    public void testLevelGatesEvents() {
+        GameLog.setLevel(GameLog.Level.WARN);
+        GameLog.debug("hidden debug");
+        GameLog.info("hidden info");
+        GameLog.error("shown error");
+
+        String text = output();
+        assertFalse(text.contains("hidden"));
+        assertTrue(text.contains("[ERROR] shown error"));
+    }
+
+    @Test
+    public void testOffSilencesEverything() {
+        GameLog.setLevel(GameLog.Level.OFF);
+        GameLog.error("nothing");
+
+        assertEquals("", output());
+        assertFalse(GameLog.isEnabled(GameLog.Level.ERROR));
+        assertFalse(GameLog.isEnabled(GameLog.Level.OFF));
+    }
+
+    @Test
+    public void testPreservesOrder() {
+        for (int i = 0; i < 100; i++) {
+            GameLog.debug("line {}", i);
+        }
+
+        String text = output();
+        String nl = System.lineSeparator();
+        assertTrue(text.indexOf("line 9" + nl) < text.indexOf("line 10" + nl));
+        assertTrue(text.indexOf("line 98" + nl) < text.indexOf("line 99" + nl));
+    }
+
+    @Test
+    public void testBadArgumentDoesNotKillWriter() {
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("boom");
+            }
+        };
+        GameLog.info("bad {}", broken);
+        GameLog.info("still writing");
+
+        assertTrue(output().contains("still writing"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNullLevel() {
+        GameLog.setLevel(null);
+    }
+}
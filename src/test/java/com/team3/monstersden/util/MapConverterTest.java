@@ -0,0 +1,47 @@
+package com.team3.monstersden.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.team3.monstersden.core.Board;
+import com.team3.monstersden.core.MapLayout;
+
+/**
+ * Test suite for MapConverter.
+ * Tests that a converted text map loads as the same board.
+ *
+ * @author Team 3 - CMPT 276
+ * @version 1.0
+ */
+public class MapConverterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testConvertTextToBinary() throws IOException {
+        File text = folder.newFile("level.txt");
+        Files.write(text.toPath(), "#####\n#S..#\n#.#E#\n#####\n".getBytes(StandardCharsets.UTF_8));
+        File binary = new File(folder.getRoot(), "level.bmap");
+
+        MapLayout layout = MapConverter.convert(text.toPath(), binary.toPath());
+
+        assertTrue(MapLayout.isBinary(ByteBuffer.wrap(Files.readAllBytes(binary.toPath()))));
+        Board board = new Board();
+        board.loadMap(binary.toPath());
+        assertEquals(layout.getWidth(), board.getWidth());
+        assertEquals(layout.getHeight(), board.getHeight());
+        assertEquals(1, board.getStartCell().getX());
+        assertEquals(3, board.getExitCell().getX());
+        assertTrue(board.getCell(2, 2).isWall());
+    }
+}